@@ -1,10 +1,16 @@
 package chocoteamteam.togather.batch.application.job;
 
 import chocoteamteam.togather.batch.application.job.param.RecommendationProjectJobParam;
+import chocoteamteam.togather.batch.application.job.partitioner.MemberIdRangePartitioner;
+import chocoteamteam.togather.batch.application.job.reader.QuerydslKeysetItemReader;
+import chocoteamteam.togather.batch.application.model.RecommendationProjectIndex;
+import chocoteamteam.togather.batch.application.model.RecommendationProjectIndexHolder;
 import chocoteamteam.togather.batch.application.model.SimpleMemberTechStackInfoDto;
 import chocoteamteam.togather.batch.application.service.CreateRecommendationProjectService;
+import chocoteamteam.togather.batch.config.JobScopeTaskDecorator;
 import chocoteamteam.togather.batch.domain.entity.Mail;
 import chocoteamteam.togather.batch.domain.repository.MailRepository;
+import chocoteamteam.togather.repository.MemberRepository;
 import chocoteamteam.togather.type.MemberStatus;
 import com.querydsl.core.types.Projections;
 import lombok.RequiredArgsConstructor;
@@ -18,10 +24,12 @@ import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
-import org.springframework.batch.item.querydsl.reader.QuerydslPagingItemReader;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 
 import javax.persistence.EntityManagerFactory;
 
@@ -38,9 +46,17 @@ public class CreateRecommendationProjectJobConfig {
     private final EntityManagerFactory emf;
     private final RecommendationProjectJobParam jobParam;
     private final MailRepository mailRepository;
+    private final MemberRepository memberRepository;
 
     private final CreateRecommendationProjectService createRecommendationProjectService;
 
+    // 회원 id 구간 수
+    @Value("${batch.recommendation.grid-size:8}")
+    private int gridSize;
+    // 동시에 처리할 구간 수, worker 하나가 커넥션을 최대 2개(reader, chunk 트랜잭션) 사용하므로 커넥션 풀 크기를 고려해서 설정
+    @Value("${batch.recommendation.concurrency:4}")
+    private int concurrency;
+
     @Bean
     public Job createRecommendationProjectJob(JobExecutionListener jobExecutionListener) {
         return jobBuilderFactory.get("createRecommendationProjectJob")
@@ -55,7 +71,7 @@ public class CreateRecommendationProjectJobConfig {
     public Step deleteMailStep() {
         return stepBuilderFactory.get("deleteMailStep")
                 .tasklet((contribution, chunkContext) -> {
-                    mailRepository.deleteAll();
+                    mailRepository.deleteAllInBatch();
                     return RepeatStatus.FINISHED;
                 }).build();
     }
@@ -64,8 +80,31 @@ public class CreateRecommendationProjectJobConfig {
     @JobScope
     public Step createRecommendationProjectStep() {
         return stepBuilderFactory.get("createRecommendationProjectStep")
+                .partitioner("createRecommendationProjectWorkerStep", memberIdRangePartitioner())
+                .step(createRecommendationProjectWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(recommendationTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public MemberIdRangePartitioner memberIdRangePartitioner() {
+        return new MemberIdRangePartitioner(memberRepository);
+    }
+
+    // partition 수 만큼만 스레드를 만들기 때문에 pool 대신 동시 실행 수만 제한한다.
+    private TaskExecutor recommendationTaskExecutor() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("recommendation-");
+        taskExecutor.setConcurrencyLimit(concurrency);
+        taskExecutor.setTaskDecorator(new JobScopeTaskDecorator());
+        return taskExecutor;
+    }
+
+    @Bean
+    public Step createRecommendationProjectWorkerStep() {
+        return stepBuilderFactory.get("createRecommendationProjectWorkerStep")
                 .<SimpleMemberTechStackInfoDto, Mail>chunk(CHUNK_SIZE)
-                .reader(createWeeklyDeadlineProjectReader())
+                .reader(createWeeklyDeadlineProjectReader(null, null))
                 .processor(createWeeklyDeadlineProjectProcessor(createRecommendationProjectService))
                 .writer(createWeeklyDeadlineProjectWriter())
                 .build();
@@ -74,28 +113,42 @@ public class CreateRecommendationProjectJobConfig {
 
     @Bean
     @StepScope
-    public QuerydslPagingItemReader<SimpleMemberTechStackInfoDto> createWeeklyDeadlineProjectReader() {
-        return new QuerydslPagingItemReader<>(emf, CHUNK_SIZE, queryFactory -> queryFactory
+    public QuerydslKeysetItemReader<SimpleMemberTechStackInfoDto> createWeeklyDeadlineProjectReader(
+            @Value("#{stepExecutionContext[minId]}") Long minId,
+            @Value("#{stepExecutionContext[maxId]}") Long maxId
+    ) {
+        return new QuerydslKeysetItemReader<>("createWeeklyDeadlineProjectReader", emf, CHUNK_SIZE,
+                member.id, SimpleMemberTechStackInfoDto::getId, queryFactory -> queryFactory
                 .select(Projections.constructor(SimpleMemberTechStackInfoDto.class,
                         member
                 ))
                 .from(member)
-                .where(member.status.eq(MemberStatus.PERMITTED))
+                .where(member.status.eq(MemberStatus.PERMITTED),
+                        member.id.between(minId, maxId))
                 .innerJoin(member.memberTechStacks, memberTechStack)
                 .distinct()
         );
     }
 
 
+    @Bean
+    @JobScope
+    public RecommendationProjectIndexHolder recommendationProjectIndexHolder() {
+        return new RecommendationProjectIndexHolder(createRecommendationProjectService.createRecommendationProjectIndex(
+                jobParam.getStartDate(),
+                jobParam.getEndDate()
+        ));
+    }
+
     @Bean
     @StepScope
     public ItemProcessor<SimpleMemberTechStackInfoDto, Mail> createWeeklyDeadlineProjectProcessor(
             CreateRecommendationProjectService createRecommendationProjectService
     ) {
+        RecommendationProjectIndex recommendationProjectIndex = recommendationProjectIndexHolder().get();
         return member -> createRecommendationProjectService.getMatchedProjectAndConvertMail(
                 member,
-                jobParam.getStartDate(),
-                jobParam.getEndDate()
+                recommendationProjectIndex
         );
     }
 
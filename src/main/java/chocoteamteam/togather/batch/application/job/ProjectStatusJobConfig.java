@@ -1,6 +1,7 @@
 package chocoteamteam.togather.batch.application.job;
 
 import chocoteamteam.togather.batch.application.job.param.ProjectStatusJobParam;
+import chocoteamteam.togather.batch.application.job.tasklet.CloseExpiredProjectTasklet;
 import chocoteamteam.togather.entity.Project;
 import chocoteamteam.togather.repository.ProjectRepository;
 import chocoteamteam.togather.type.ProjectStatus;
@@ -13,7 +14,10 @@ import org.springframework.batch.core.configuration.annotation.JobBuilderFactory
 import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.data.RepositoryItemReader;
 import org.springframework.batch.item.data.RepositoryItemWriter;
@@ -31,21 +35,51 @@ import java.util.Map;
 @Configuration
 @RequiredArgsConstructor
 public class ProjectStatusJobConfig {
+    public static final String MODE_CHUNK = "chunk";
+    public static final String MODE_BULK = "bulk";
     private static final int CHUNK_SIZE = 10;
+    private static final int ID_RANGE_SIZE = 1000;
     private final JobBuilderFactory jobBuilderFactory;
     private final StepBuilderFactory stepBuilderFactory;
     private final ProjectRepository projectRepository;
     private final ProjectStatusJobParam projectStatusJobParam;
 
+    // mode 파라미터가 chunk 면 기존 엔티티 단위 처리, 그 외에는 id 구간 단위 UPDATE
     @Bean
     public Job changeProjectStatusJob(JobExecutionListener jobExecutionListener) {
         return jobBuilderFactory.get("changeProjectStatusJob")
                 .incrementer(new RunIdIncrementer())
-                .start(changeProjectStatusStep())
+                .start(changeProjectStatusModeDecider())
+                .on(MODE_CHUNK).to(changeProjectStatusStep())
+                .from(changeProjectStatusModeDecider())
+                .on("*").to(closeExpiredProjectStep())
+                .end()
                 .listener(jobExecutionListener)
                 .build();
     }
 
+    @Bean
+    public JobExecutionDecider changeProjectStatusModeDecider() {
+        return (jobExecution, stepExecution) -> {
+            String mode = jobExecution.getJobParameters().getString("mode", MODE_BULK);
+            return new FlowExecutionStatus(MODE_CHUNK.equals(mode) ? MODE_CHUNK : MODE_BULK);
+        };
+    }
+
+    @Bean
+    @JobScope
+    public Step closeExpiredProjectStep() {
+        return stepBuilderFactory.get("closeExpiredProjectStep")
+                .tasklet(closeExpiredProjectTasklet())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet closeExpiredProjectTasklet() {
+        return new CloseExpiredProjectTasklet(projectRepository, projectStatusJobParam.getNowDate(), ID_RANGE_SIZE);
+    }
+
     @Bean
     @JobScope
     public Step changeProjectStatusStep() {
@@ -1,8 +1,14 @@
 package chocoteamteam.togather.batch.application.job;
 
-import chocoteamteam.togather.batch.application.service.SendMailService;
+import chocoteamteam.togather.batch.application.job.reader.PendingMailItemReader;
+import chocoteamteam.togather.batch.application.model.MailDispatchResult;
+import chocoteamteam.togather.batch.application.service.MailDispatcher;
+import chocoteamteam.togather.batch.application.service.RecommendationMailRenderer;
 import chocoteamteam.togather.batch.domain.entity.Mail;
 import chocoteamteam.togather.batch.domain.repository.MailRepository;
+import chocoteamteam.togather.repository.ProjectRepository;
+import chocoteamteam.togather.type.MailStatus;
+import lombok.extern.slf4j.Slf4j;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobExecutionListener;
@@ -12,22 +18,29 @@ import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemWriter;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.thymeleaf.TemplateEngine;
 
-import java.util.Map;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
+@Slf4j
 @Configuration
 @RequiredArgsConstructor
 public class SendRecommendationMailJobConfig {
     private static final int CHUNK_SIZE = 10;
+    // job 실행을 거쳐 메일 하나를 보내볼 최대 횟수
+    static final int MAX_ATTEMPTS = 3;
     private final JobBuilderFactory jobBuilderFactory;
     private final StepBuilderFactory stepBuilderFactory;
-    private final SendMailService sendMailService;
+    private final MailDispatcher mailDispatcher;
     private final MailRepository mailRepository;
+    private final ProjectRepository projectRepository;
+    private final TemplateEngine templateEngine;
 
     @Bean
     public Job sendRecommendationMailJob(JobExecutionListener jobExecutionListener) {
@@ -43,25 +56,57 @@ public class SendRecommendationMailJobConfig {
         return stepBuilderFactory.get("sendRecommendationMailStep")
                 .<Mail, Mail>chunk(CHUNK_SIZE)
                 .reader(sendRecommendationMailReader())
-                .writer(sendRecommendationMailWriter(sendMailService))
+                .writer(sendRecommendationMailWriter())
                 .build();
     }
 
     @Bean
     @StepScope
-    public RepositoryItemReader<Mail> sendRecommendationMailReader() {
-        return new RepositoryItemReaderBuilder<Mail>()
-                .name("sendRecommendationMailReader")
-                .repository(mailRepository)
-                .methodName("findAll")
-                .pageSize(CHUNK_SIZE)
-                .sorts(Map.of("id", Sort.Direction.ASC))
-                .build();
+    public PendingMailItemReader sendRecommendationMailReader() {
+        return new PendingMailItemReader(mailRepository, CHUNK_SIZE);
     }
 
     @Bean
     @StepScope
-    public ItemWriter<Mail> sendRecommendationMailWriter(SendMailService sendMailService) {
-        return mails -> mails.forEach(sendMailService::sendMail);
+    public ItemWriter<Mail> sendRecommendationMailWriter() {
+        RecommendationMailRenderer renderer = new RecommendationMailRenderer(templateEngine, projectRepository);
+        return mails -> {
+            MailDispatchResult result = mailDispatcher.dispatch(renderer.render(mails));
+            LocalDateTime now = LocalDateTime.now();
+            if (!result.getSentMailIds().isEmpty()) {
+                mailRepository.updateStatusByIdIn(result.getSentMailIds(), MailStatus.SENT, now);
+            }
+            if (result.hasFailure()) {
+                markFailed(mails, result.getFailedMailIds(), now);
+                log.warn("recommendation mail failed : {}", result.getFailedMailIds());
+            }
+        };
+    }
+
+    /*
+     *   재시도까지 실패한 메일은 MAX_ATTEMPTS 전이면 PENDING 으로 남겨 다음 job 실행에서 다시 보내고,
+     *   도달하면 FAILED 로 끝낸다. 나머지 메일은 계속 전송한다.
+     * */
+    private void markFailed(List<? extends Mail> mails, List<Long> failedMailIds, LocalDateTime now) {
+        Set<Long> failedIds = new HashSet<>(failedMailIds);
+        List<Long> retryIds = new ArrayList<>();
+        List<Long> exhaustedIds = new ArrayList<>();
+        for (Mail mail : mails) {
+            if (!failedIds.contains(mail.getId())) {
+                continue;
+            }
+            if (mail.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                exhaustedIds.add(mail.getId());
+            } else {
+                retryIds.add(mail.getId());
+            }
+        }
+
+        if (!retryIds.isEmpty()) {
+            mailRepository.updateStatusByIdIn(retryIds, MailStatus.PENDING, now);
+        }
+        if (!exhaustedIds.isEmpty()) {
+            mailRepository.updateStatusByIdIn(exhaustedIds, MailStatus.FAILED, now);
+        }
     }
 }
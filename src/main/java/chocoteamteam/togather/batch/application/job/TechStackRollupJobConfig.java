@@ -0,0 +1,75 @@
+package chocoteamteam.togather.batch.application.job;
+
+import chocoteamteam.togather.batch.application.job.param.TechStackRollupJobParam;
+import chocoteamteam.togather.batch.application.service.TechStackRollupService;
+import chocoteamteam.togather.type.StatisticsGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ *   date 하루를 DAILY 로 집계한 뒤 그 날이 속한 주 / 월 구간을 롤업
+ *   주간 / 월간은 DAILY 합으로 계산하므로 반드시 DAILY 이후에 실행한다.
+ * */
+@RequiredArgsConstructor
+@Configuration
+public class TechStackRollupJobConfig {
+    private final JobBuilderFactory jobBuilderFactory;
+    private final StepBuilderFactory stepBuilderFactory;
+    private final TechStackRollupService techStackRollupService;
+    private final TechStackRollupJobParam jobParam;
+
+    @Bean
+    public Job techStackRollupJob(JobExecutionListener jobExecutionListener) {
+        return jobBuilderFactory.get("techStackRollupJob")
+                .incrementer(new RunIdIncrementer())
+                .start(techStackDailyRollupStep())
+                .next(techStackWeeklyRollupStep())
+                .next(techStackMonthlyRollupStep())
+                .listener(jobExecutionListener)
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step techStackDailyRollupStep() {
+        return stepBuilderFactory.get("techStackDailyRollupStep")
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(techStackRollupService.rollupDaily(jobParam.getDate()));
+                    return RepeatStatus.FINISHED;
+                })
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step techStackWeeklyRollupStep() {
+        return stepBuilderFactory.get("techStackWeeklyRollupStep")
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(
+                            techStackRollupService.rollup(StatisticsGranularity.WEEKLY, jobParam.getDate()));
+                    return RepeatStatus.FINISHED;
+                })
+                .build();
+    }
+
+    @Bean
+    @JobScope
+    public Step techStackMonthlyRollupStep() {
+        return stepBuilderFactory.get("techStackMonthlyRollupStep")
+                .tasklet((contribution, chunkContext) -> {
+                    contribution.incrementWriteCount(
+                            techStackRollupService.rollup(StatisticsGranularity.MONTHLY, jobParam.getDate()));
+                    return RepeatStatus.FINISHED;
+                })
+                .build();
+    }
+}
@@ -3,7 +3,13 @@ package chocoteamteam.togather.batch.application.job;
 
 import chocoteamteam.togather.batch.application.model.TechStatisticsDto;
 import chocoteamteam.togather.batch.application.job.param.TechStatisticsJobParam;
+import chocoteamteam.togather.batch.application.job.reader.QuerydslKeysetItemReader;
+import chocoteamteam.togather.batch.application.job.tasklet.TechStackSupplyDemandTasklet;
 import chocoteamteam.togather.batch.domain.entity.WeeklyTechStatistics;
+import chocoteamteam.togather.batch.domain.repository.TechStackSupplyDemandRepository;
+import chocoteamteam.togather.repository.MemberTechStackRepository;
+import chocoteamteam.togather.repository.ProjectTechStackRepository;
+import chocoteamteam.togather.repository.TechStackRepository;
 import com.querydsl.core.types.Projections;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.core.Job;
@@ -14,10 +20,10 @@ import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.batch.item.database.JpaItemWriter;
 import org.springframework.batch.item.database.builder.JpaItemWriterBuilder;
-import org.springframework.batch.item.querydsl.reader.QuerydslPagingItemReader;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,6 +42,10 @@ public class TechStackStatisticsConfig {
     private final StepBuilderFactory stepBuilderFactory;
     private final TechStatisticsJobParam jobParam;
     private final EntityManagerFactory emf;
+    private final TechStackRepository techStackRepository;
+    private final ProjectTechStackRepository projectTechStackRepository;
+    private final MemberTechStackRepository memberTechStackRepository;
+    private final TechStackSupplyDemandRepository techStackSupplyDemandRepository;
 
     @Bean
     @Qualifier("techStackStatisticsJob")
@@ -43,6 +53,7 @@ public class TechStackStatisticsConfig {
         return jobBuilderFactory.get("techStackStatisticsJob")
                 .incrementer(new RunIdIncrementer())
                 .start(techStackStatisticsStep())
+                .next(techStackSupplyDemandStep())
                 .listener(jobExecutionListener)
                 .build();
     }
@@ -61,8 +72,9 @@ public class TechStackStatisticsConfig {
 
     @Bean
     @StepScope
-    public QuerydslPagingItemReader<TechStatisticsDto> techStackStatisticsReader() {
-        return new QuerydslPagingItemReader<>(emf, CHUNK_SIZE, queryFactory -> queryFactory
+    public QuerydslKeysetItemReader<TechStatisticsDto> techStackStatisticsReader() {
+        return new QuerydslKeysetItemReader<>("techStackStatisticsReader", emf, CHUNK_SIZE,
+                techStack.id, TechStatisticsDto::getTechStackId, queryFactory -> queryFactory
                 .select(Projections.constructor(TechStatisticsDto.class,
                         techStack.id,
                         techStack.name,
@@ -96,4 +108,20 @@ public class TechStackStatisticsConfig {
                 .build();
     }
 
+    @Bean
+    @JobScope
+    public Step techStackSupplyDemandStep() {
+        return stepBuilderFactory.get("techStackSupplyDemandStep")
+                .tasklet(techStackSupplyDemandTasklet())
+                .build();
+    }
+
+    // 집계 대상 주의 시작일 기준으로 ISO 주차 키를 만든다.
+    @Bean
+    @StepScope
+    public Tasklet techStackSupplyDemandTasklet() {
+        return new TechStackSupplyDemandTasklet(techStackRepository, projectTechStackRepository,
+                memberTechStackRepository, techStackSupplyDemandRepository, jobParam.getStartDate().toLocalDate());
+    }
+
 }
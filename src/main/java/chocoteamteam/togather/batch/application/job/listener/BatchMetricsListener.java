@@ -0,0 +1,144 @@
+package chocoteamteam.togather.batch.application.job.listener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *   step / chunk 단위 배치 지표
+ *   item 단위 read / process / write 시간은 Spring Batch 가 spring.batch.item.read, spring.batch.item.process,
+ *   spring.batch.chunk.write 로 이미 기록하므로 여기서는 그 외의 지표만 기록한다.
+ *   - batch.chunk.duration : chunk 하나의 처리 시간 (status = COMMITTED / ROLLED_BACK)
+ *   - batch.chunk.commit : chunk 트랜잭션 커밋(flush 포함) 시간
+ *   - batch.step.throughput : step 의 초당 write 건수
+ *   - batch.step.skip , batch.step.rollback : step 의 skip / rollback 건수
+ * */
+@RequiredArgsConstructor
+@Component
+public class BatchMetricsListener implements StepExecutionListener, ChunkListener {
+
+    private static final String CHUNK_START_KEY = "batchMetrics.chunkStart";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        Tags tags = tags(stepExecution.getJobExecution().getJobInstance().getJobName(), stepExecution.getStepName());
+
+        long millis = elapsedMillis(stepExecution);
+        if (millis > 0) {
+            DistributionSummary.builder("batch.step.throughput")
+                    .baseUnit("items/s")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(stepExecution.getWriteCount() * 1000.0 / millis);
+        }
+
+        skipCounter(tags, "read").increment(stepExecution.getReadSkipCount());
+        skipCounter(tags, "process").increment(stepExecution.getProcessSkipCount());
+        skipCounter(tags, "write").increment(stepExecution.getWriteSkipCount());
+        Counter.builder("batch.step.rollback")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment(stepExecution.getRollbackCount());
+        return null;
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        context.setAttribute(CHUNK_START_KEY, System.nanoTime());
+
+        // beforeChunk 는 chunk 트랜잭션 안에서 호출되므로 커밋 전후 시간을 잴 수 있다.
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Timer commitTimer = Timer.builder("batch.chunk.commit")
+                    .tags(tags(context))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            TransactionSynchronizationManager.registerSynchronization(new CommitTimerSynchronization(commitTimer));
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        recordChunk(context, "COMMITTED");
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        recordChunk(context, "ROLLED_BACK");
+    }
+
+    private void recordChunk(ChunkContext context, String status) {
+        Object start = context.getAttribute(CHUNK_START_KEY);
+        if (!(start instanceof Long)) {
+            return;
+        }
+        context.removeAttribute(CHUNK_START_KEY);
+
+        Timer.builder("batch.chunk.duration")
+                .tags(tags(context).and("status", status))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - (Long) start, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter skipCounter(Tags tags, String type) {
+        return Counter.builder("batch.step.skip")
+                .tags(tags.and("type", type))
+                .register(meterRegistry);
+    }
+
+    private Tags tags(ChunkContext context) {
+        return tags(context.getStepContext().getJobName(), context.getStepContext().getStepName());
+    }
+
+    // 파티션 worker step 이름(step:partition0)은 파티션 번호를 떼고 하나의 step 으로 집계
+    private Tags tags(String jobName, String stepName) {
+        int partitionIndex = stepName.indexOf(':');
+        return Tags.of("job", jobName, "step", partitionIndex < 0 ? stepName : stepName.substring(0, partitionIndex));
+    }
+
+    private static long elapsedMillis(StepExecution stepExecution) {
+        Date startTime = stepExecution.getStartTime();
+        Date endTime = stepExecution.getEndTime() != null ? stepExecution.getEndTime() : new Date();
+        return startTime == null ? 0L : Duration.between(startTime.toInstant(), endTime.toInstant()).toMillis();
+    }
+
+    private static class CommitTimerSynchronization implements TransactionSynchronization {
+        private final Timer commitTimer;
+        private long commitStart;
+
+        private CommitTimerSynchronization(Timer commitTimer) {
+            this.commitTimer = commitTimer;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            commitStart = System.nanoTime();
+        }
+
+        @Override
+        public void afterCommit() {
+            commitTimer.record(System.nanoTime() - commitStart, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -1,47 +1,145 @@
 package chocoteamteam.togather.batch.application.job.listener;
 
-import lombok.RequiredArgsConstructor;
+import chocoteamteam.togather.batch.schduler.LeasedJobLauncher;
+import chocoteamteam.togather.component.lock.Lease;
+import chocoteamteam.togather.component.lock.RedisLeaseLock;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import javax.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+/*
+ *   서버 시작 시 중단된 채로 남아있는 실행중(STARTED) job 을 STOPPED 로 정리한다.
+ *   다른 노드가 실제로 실행 중인 job 은 건드리지 않도록, job 의 lease 를 현재 가진 token 과
+ *   실행의 leaseToken 이 같으면 살아있는 실행으로 보고 넘어간다.
+ *   단, 노드가 죽은 직후 TTL 안에 재시작하면 죽은 실행의 lease 가 아직 남아있으므로
+ *   넘어간 실행은 lease TTL 이 지난 뒤 다시 확인해서, 그때도 연장되지 않았으면 STOPPED 로 정리한다.
+ *   여러 노드가 동시에 시작해도 정리는 recovery lease 를 잡은 한 노드만 한다.
+ * */
 @Slf4j
-@RequiredArgsConstructor
 @Configuration
 public class ContextRefreshedEventListener implements ApplicationListener<ContextRefreshedEvent> {
+    private static final String RECOVERY_LEASE = "batch:recovery";
+    private static final Duration RECOVERY_LEASE_TTL = Duration.ofMinutes(1);
+
     private final JobExplorer jobExplorer;
     private final JobRepository jobRepository;
+    private final RedisLeaseLock redisLeaseLock;
+    private final Duration leaseTtl;
+    private final ScheduledExecutorService recheckExecutor =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("job-recovery-"));
+
+    public ContextRefreshedEventListener(JobExplorer jobExplorer,
+                                         JobRepository jobRepository,
+                                         RedisLeaseLock redisLeaseLock,
+                                         @Value("${batch.lease.ttl-millis:60000}") long leaseTtlMillis) {
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.redisLeaseLock = redisLeaseLock;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+    }
 
     @Override
     public void onApplicationEvent(ContextRefreshedEvent event) {
-        for (String jobName : jobExplorer.getJobNames()) {
-            Set<JobExecution> runningJobExecutions = jobExplorer.findRunningJobExecutions(jobName);// 실행중인 job exc
-
-            for (JobExecution jobExecution : runningJobExecutions) {
-                log.warn("job id : {} is re start!", jobExecution.getJobId());
-                jobExecution.setStatus(BatchStatus.STOPPED); //failed or stopped
-                jobExecution.setEndTime(new Date());
-                for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
-                    if (stepExecution.getStatus().isRunning()) { // 실행 중인 step stop 처리
-                        stepExecution.setStatus(BatchStatus.STOPPED);
-                        stepExecution.setEndTime(new Date());
-                        jobRepository.update(stepExecution); // repository update
-                    }
-                }
-                jobRepository.update(jobExecution);// repository update
-                log.info("Updated job execution status : job id = {}", jobExecution.getJobId());
+        Lease lease;
+        try {
+            lease = redisLeaseLock.tryAcquire(RECOVERY_LEASE, RECOVERY_LEASE_TTL).orElse(null);
+        } catch (DataAccessException e) {
+            // 다른 노드의 실행을 멈출 수 있으므로 lease 를 확인할 수 없으면 정리하지 않는다.
+            log.error("skip job recovery, lease lock is unavailable", e);
+            return;
+        }
+        if (lease == null) {
+            log.info("skip job recovery, another node is recovering");
+            return;
+        }
+
+        try {
+            for (String jobName : jobExplorer.getJobNames()) {
+                stopOrphanedExecutions(jobName);
             }
-            log.info("stopped running jobs.");
+            redisLeaseLock.release(lease);
+        } catch (DataAccessException e) {
+            // recovery lease 는 TTL 이 지나면 풀린다.
+            log.error("job recovery failed", e);
         }
+    }
+
+    private void stopOrphanedExecutions(String jobName) {
+        Set<JobExecution> runningJobExecutions = jobExplorer.findRunningJobExecutions(jobName);// 실행중인 job exc
+        Optional<Long> currentToken = redisLeaseLock.getCurrentToken(LeasedJobLauncher.leaseName(jobName));
+
+        for (JobExecution jobExecution : runningJobExecutions) {
+            Long executionToken = jobExecution.getJobParameters().getLong(LeasedJobLauncher.LEASE_TOKEN_KEY);
+            if (executionToken != null && currentToken.filter(executionToken::equals).isPresent()) {
+                log.info("job id : {} holds the current lease, recheck after lease ttl. token : {}", jobExecution.getJobId(), executionToken);
+                scheduleRecheck(jobName, jobExecution.getId(), executionToken);
+                continue;
+            }
+
+            stop(jobExecution);
+        }
+        log.info("stopped running jobs.");
+    }
+
+    private void scheduleRecheck(String jobName, Long executionId, Long token) {
+        recheckExecutor.schedule(() -> recheck(jobName, executionId, token), leaseTtl.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // 살아있는 실행은 TTL 의 1/3 마다 lease 를 연장하므로, TTL 이 지나도 같은 token 이면 아직 실행 중이다.
+    private void recheck(String jobName, Long executionId, Long token) {
+        try {
+            JobExecution jobExecution = jobExplorer.getJobExecution(executionId);
+            if (jobExecution == null || !jobExecution.isRunning()) {
+                return;
+            }
+            if (redisLeaseLock.getCurrentToken(LeasedJobLauncher.leaseName(jobName)).filter(token::equals).isPresent()) {
+                scheduleRecheck(jobName, executionId, token);
+                return;
+            }
+
+            log.warn("job id : {} lease expired without renewal. token : {}", jobExecution.getJobId(), token);
+            stop(jobExecution);
+        } catch (RuntimeException e) {
+            log.error("job recovery recheck failed : execution id = {}", executionId, e);
+            scheduleRecheck(jobName, executionId, token);
+        }
+    }
+
+    private void stop(JobExecution jobExecution) {
+        log.warn("job id : {} is re start!", jobExecution.getJobId());
+        jobExecution.setStatus(BatchStatus.STOPPED); //failed or stopped
+        jobExecution.setEndTime(new Date());
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) { // 실행 중인 step stop 처리
+                stepExecution.setStatus(BatchStatus.STOPPED);
+                stepExecution.setEndTime(new Date());
+                jobRepository.update(stepExecution); // repository update
+            }
+        }
+        jobRepository.update(jobExecution);// repository update
+        log.info("Updated job execution status : job id = {}", jobExecution.getJobId());
+    }
 
+    @PreDestroy
+    public void shutdown() {
+        recheckExecutor.shutdownNow();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package chocoteamteam.togather.batch.application.job.param;
+
+import lombok.Getter;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Getter
+@JobScope
+@Component
+public class TechStackRollupJobParam {
+    private LocalDate date;
+
+    @Value("#{jobParameters[date]}")
+    private void setDate(String date) {
+        this.date = LocalDate.parse(date);
+    }
+}
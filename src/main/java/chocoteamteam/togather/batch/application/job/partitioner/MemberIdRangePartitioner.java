@@ -0,0 +1,52 @@
+package chocoteamteam.togather.batch.application.job.partitioner;
+
+import chocoteamteam.togather.repository.MemberRepository;
+import chocoteamteam.togather.type.MemberStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ *   추천 대상 회원을 id 구간으로 나눈다.
+ *   각 구간(minId ~ maxId)은 worker step 의 ExecutionContext 에 저장되어 재시작 시에도 그대로 사용된다.
+ * */
+@RequiredArgsConstructor
+public class MemberIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID_KEY = "minId";
+    public static final String MAX_ID_KEY = "maxId";
+    private static final String PARTITION_PREFIX = "partition";
+
+    private final MemberRepository memberRepository;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Long minId = memberRepository.findMinIdByStatus(MemberStatus.PERMITTED);
+        Long maxId = memberRepository.findMaxIdByStatus(MemberStatus.PERMITTED);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        if (minId == null || maxId == null) {
+            partitions.put(PARTITION_PREFIX + 0, createContext(0L, 0L));
+            return partitions;
+        }
+
+        long rangeSize = (maxId - minId) / gridSize + 1;
+        long start = minId;
+        for (int i = 0; start <= maxId; i++) {
+            long end = Math.min(start + rangeSize - 1, maxId);
+            partitions.put(PARTITION_PREFIX + i, createContext(start, end));
+            start = end + 1;
+        }
+        return partitions;
+    }
+
+    private ExecutionContext createContext(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong(MIN_ID_KEY, minId);
+        context.putLong(MAX_ID_KEY, maxId);
+        return context;
+    }
+}
@@ -0,0 +1,68 @@
+package chocoteamteam.togather.batch.application.job.reader;
+
+import chocoteamteam.togather.batch.domain.entity.Mail;
+import chocoteamteam.togather.batch.domain.repository.MailRepository;
+import chocoteamteam.togather.type.MailStatus;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.ItemStreamSupport;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+
+/*
+ *   전송 대기(PENDING) 메일을 id 기준 keyset 방식으로 읽는다.
+ *   전송된 메일은 상태가 바뀌어 조회 대상에서 빠지기 때문에 offset 페이징을 쓰면 메일을 건너뛰게 된다.
+ *   마지막으로 읽은 id 는 ExecutionContext 에 저장되어 재시작 시 그 다음 id 부터 읽는다.
+ * */
+public class PendingMailItemReader extends ItemStreamSupport implements ItemStreamReader<Mail> {
+
+    private static final String LAST_ID_KEY = "lastId";
+
+    private final MailRepository mailRepository;
+    private final int pageSize;
+    private final Queue<Mail> buffer = new ArrayDeque<>();
+
+    // 마지막으로 반환한 id
+    private long lastId;
+    // 마지막으로 조회한 id
+    private long lastFetchedId;
+
+    public PendingMailItemReader(MailRepository mailRepository, int pageSize) {
+        this.mailRepository = mailRepository;
+        this.pageSize = pageSize;
+        setName("pendingMailItemReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        String key = getExecutionContextKey(LAST_ID_KEY);
+        lastId = executionContext.containsKey(key) ? executionContext.getLong(key) : 0L;
+        lastFetchedId = lastId;
+        buffer.clear();
+    }
+
+    @Override
+    public Mail read() {
+        if (buffer.isEmpty()) {
+            List<Mail> mails = mailRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+                    MailStatus.PENDING, lastFetchedId, PageRequest.of(0, pageSize));
+            if (mails.isEmpty()) {
+                return null;
+            }
+            buffer.addAll(mails);
+            lastFetchedId = mails.get(mails.size() - 1).getId();
+        }
+
+        Mail mail = buffer.poll();
+        lastId = mail.getId();
+        return mail;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastId);
+    }
+}
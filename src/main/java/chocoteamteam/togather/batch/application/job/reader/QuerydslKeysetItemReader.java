@@ -0,0 +1,123 @@
+package chocoteamteam.togather.batch.application.job.reader;
+
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.support.ItemStreamSupport;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.function.Function;
+
+/*
+ *   id 기준 keyset(no offset) 방식의 Querydsl reader
+ *   페이지마다 "id > 마지막 id order by id limit pageSize" 로 조회하므로 뒤쪽 페이지도 앞쪽 페이지와 같은 비용으로 읽는다.
+ *   queryFunction 에는 정렬 / limit 을 넣지 않는다. (id 조건, 정렬, limit 은 reader 가 붙인다.)
+ *   마지막으로 반환한 id 는 ExecutionContext 에 저장되어 재시작 시 그 다음 id 부터 읽는다.
+ * */
+public class QuerydslKeysetItemReader<T> extends ItemStreamSupport implements ItemStreamReader<T> {
+
+    private static final String LAST_ID_KEY = "lastId";
+
+    private final EntityManagerFactory emf;
+    private final int pageSize;
+    private final NumberPath<Long> idPath;
+    private final Function<T, Long> idExtractor;
+    private final Function<JPAQueryFactory, JPAQuery<T>> queryFunction;
+    private final Queue<T> buffer = new ArrayDeque<>();
+
+    private EntityManager entityManager;
+    // 마지막으로 반환한 id
+    private long lastId;
+    // 마지막으로 조회한 id
+    private long lastFetchedId;
+    private boolean lastPage;
+
+    public QuerydslKeysetItemReader(String name,
+                                    EntityManagerFactory emf,
+                                    int pageSize,
+                                    NumberPath<Long> idPath,
+                                    Function<T, Long> idExtractor,
+                                    Function<JPAQueryFactory, JPAQuery<T>> queryFunction) {
+        this.emf = emf;
+        this.pageSize = pageSize;
+        this.idPath = idPath;
+        this.idExtractor = idExtractor;
+        this.queryFunction = queryFunction;
+        setName(name);
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) {
+        String key = getExecutionContextKey(LAST_ID_KEY);
+        lastId = executionContext.containsKey(key) ? executionContext.getLong(key) : 0L;
+        lastFetchedId = lastId;
+        lastPage = false;
+        buffer.clear();
+        entityManager = emf.createEntityManager();
+    }
+
+    @Override
+    public T read() {
+        if (buffer.isEmpty() && !lastPage) {
+            fetchPage();
+        }
+
+        T item = buffer.poll();
+        if (item != null) {
+            lastId = idExtractor.apply(item);
+        }
+        return item;
+    }
+
+    private void fetchPage() {
+        if (entityManager == null) {
+            throw new ItemStreamException("reader is not opened : " + getName());
+        }
+
+        EntityTransaction tx = entityManager.getTransaction();
+        tx.begin();
+        try {
+            // 이전 페이지 엔티티가 영속성 컨텍스트에 쌓이지 않도록 비운다.
+            entityManager.clear();
+            List<T> items = queryFunction.apply(new JPAQueryFactory(entityManager))
+                    .where(idPath.gt(lastFetchedId))
+                    .orderBy(idPath.asc())
+                    .limit(pageSize)
+                    .fetch();
+            tx.commit();
+
+            buffer.addAll(items);
+            lastPage = items.size() < pageSize;
+            if (!items.isEmpty()) {
+                lastFetchedId = idExtractor.apply(items.get(items.size() - 1));
+            }
+        } catch (RuntimeException e) {
+            if (tx.isActive()) {
+                tx.rollback();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) {
+        executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastId);
+    }
+
+    @Override
+    public void close() {
+        if (entityManager != null) {
+            entityManager.close();
+            entityManager = null;
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,117 @@
+package chocoteamteam.togather.batch.application.job.tasklet;
+
+import chocoteamteam.togather.repository.ProjectRepository;
+import chocoteamteam.togather.type.ProjectStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/*
+ *   마감일이 지난 모집중 프로젝트를 id 구간 단위 UPDATE 로 마감 처리
+ *   엔티티를 읽지 않고, 줄어드는 결과를 페이징하지 않으므로 누락되는 행이 없다.
+ *   execute 한 번이 한 구간(한 트랜잭션)이며, 다음 시작 id 를 step context 에 저장해 재시작 시 이어서 처리한다.
+ *   구간별 처리 건수는 최근 MAX_RECORDED_CHUNKS 개 구간만 "시작id~끝id:건수" 로 남기고,
+ *   전체 구간 수 / 합계 / 구간 최대 건수를 함께 남겨 context 크기가 구간 수에 비례해 커지지 않게 한다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+public class CloseExpiredProjectTasklet implements Tasklet {
+
+    public static final String KEY_NEXT_ID = "closeExpiredProject.nextId";
+    public static final String KEY_MAX_ID = "closeExpiredProject.maxId";
+    public static final String KEY_CLOSED_AT = "closeExpiredProject.closedAt";
+    public static final String KEY_CLOSED_COUNT = "closeExpiredProject.closedCount";
+    public static final String KEY_CHUNK_COUNT = "closeExpiredProject.chunkCount";
+    public static final String KEY_MAX_CHUNK_CLOSED_COUNT = "closeExpiredProject.maxChunkClosedCount";
+    public static final String KEY_RECENT_CHUNK_CLOSED_COUNTS = "closeExpiredProject.recentChunkClosedCounts";
+    public static final int MAX_RECORDED_CHUNKS = 100;
+
+    private static final String CHUNK_DELIMITER = ",";
+
+    private final ProjectRepository projectRepository;
+    private final LocalDate nowDate;
+    private final int idRangeSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext executionContext = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+        if (!executionContext.containsKey(KEY_MAX_ID)
+                && !initRange(executionContext, chunkContext.getStepContext().getStepExecution().getJobExecution())) {
+            log.info("no expired project to close. nowDate : {}", nowDate);
+            return RepeatStatus.FINISHED;
+        }
+
+        long startId = executionContext.getLong(KEY_NEXT_ID);
+        long maxId = executionContext.getLong(KEY_MAX_ID);
+        long endId = Math.min(startId + idRangeSize - 1, maxId);
+
+        int closedCount = projectRepository.updateStatusByIdRangeAndDeadlineBefore(
+                startId,
+                endId,
+                ProjectStatus.RECRUITING,
+                nowDate,
+                ProjectStatus.COMPLETED,
+                LocalDateTime.parse(executionContext.getString(KEY_CLOSED_AT)));
+
+        contribution.incrementWriteCount(closedCount);
+        executionContext.putLong(KEY_NEXT_ID, endId + 1);
+        recordChunk(executionContext, startId, endId, closedCount);
+        log.info("closed expired projects. id range : {} ~ {} , count : {} , total : {}",
+                startId, endId, closedCount, executionContext.getLong(KEY_CLOSED_COUNT));
+
+        return endId >= maxId ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+
+    /*
+     *   재시작해도 같은 값으로 수정되도록 처음 실행한 job 의 시작 시각을 수정 시각으로 남긴다.
+     * */
+    private boolean initRange(ExecutionContext executionContext, JobExecution jobExecution) {
+        Long minId = projectRepository.findMinIdByStatusAndDeadlineBefore(ProjectStatus.RECRUITING, nowDate);
+        Long maxId = projectRepository.findMaxIdByStatusAndDeadlineBefore(ProjectStatus.RECRUITING, nowDate);
+
+        if (minId == null || maxId == null) {
+            return false;
+        }
+
+        LocalDateTime closedAt = jobExecution.getStartTime() == null ? LocalDateTime.now()
+                : LocalDateTime.ofInstant(jobExecution.getStartTime().toInstant(), ZoneId.systemDefault());
+
+        executionContext.putLong(KEY_NEXT_ID, minId);
+        executionContext.putLong(KEY_MAX_ID, maxId);
+        executionContext.putString(KEY_CLOSED_AT, closedAt.toString());
+        executionContext.putLong(KEY_CLOSED_COUNT, 0L);
+        executionContext.putLong(KEY_CHUNK_COUNT, 0L);
+        executionContext.putLong(KEY_MAX_CHUNK_CLOSED_COUNT, 0L);
+        executionContext.putString(KEY_RECENT_CHUNK_CLOSED_COUNTS, "");
+        return true;
+    }
+
+    private void recordChunk(ExecutionContext executionContext, long startId, long endId, int closedCount) {
+        executionContext.putLong(KEY_CLOSED_COUNT, executionContext.getLong(KEY_CLOSED_COUNT) + closedCount);
+        executionContext.putLong(KEY_CHUNK_COUNT, executionContext.getLong(KEY_CHUNK_COUNT) + 1);
+        executionContext.putLong(KEY_MAX_CHUNK_CLOSED_COUNT,
+                Math.max(executionContext.getLong(KEY_MAX_CHUNK_CLOSED_COUNT), closedCount));
+
+        String recorded = executionContext.getString(KEY_RECENT_CHUNK_CLOSED_COUNTS);
+        Deque<String> chunks = recorded.isEmpty() ? new ArrayDeque<>()
+                : new ArrayDeque<>(Arrays.asList(recorded.split(CHUNK_DELIMITER)));
+        chunks.addLast(startId + "~" + endId + ":" + closedCount);
+        while (chunks.size() > MAX_RECORDED_CHUNKS) {
+            chunks.removeFirst();
+        }
+        executionContext.putString(KEY_RECENT_CHUNK_CLOSED_COUNTS, String.join(CHUNK_DELIMITER, chunks));
+    }
+}
@@ -0,0 +1,98 @@
+package chocoteamteam.togather.batch.application.job.tasklet;
+
+import chocoteamteam.togather.batch.domain.entity.TechStackSupplyDemand;
+import chocoteamteam.togather.batch.domain.repository.TechStackSupplyDemandRepository;
+import chocoteamteam.togather.entity.TechStack;
+import chocoteamteam.togather.repository.MemberTechStackRepository;
+import chocoteamteam.togather.repository.ProjectTechStackRepository;
+import chocoteamteam.togather.repository.TechStackRepository;
+import chocoteamteam.togather.type.MemberStatus;
+import chocoteamteam.togather.type.ProjectStatus;
+import chocoteamteam.togather.type.StatisticsGranularity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+ *   기술 스택별 수요(모집중 프로젝트) / 공급(활동중 회원) 집계
+ *   두 테이블을 각각 한 번씩 스트리밍으로 읽으며 기술 스택 id 를 인덱스로 하는 long 배열에 센다.
+ *   엔티티를 만들지 않고 id 만 읽으므로 행 수가 많아도 메모리는 기술 스택 수에만 비례한다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+public class TechStackSupplyDemandTasklet implements Tasklet {
+
+    private final TechStackRepository techStackRepository;
+    private final ProjectTechStackRepository projectTechStackRepository;
+    private final MemberTechStackRepository memberTechStackRepository;
+    private final TechStackSupplyDemandRepository techStackSupplyDemandRepository;
+    private final LocalDate weekDate;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        List<TechStack> techStacks = techStackRepository.findAll();
+        int length = (int) techStacks.stream().mapToLong(TechStack::getId).max().orElse(0L) + 1;
+
+        long[] demand;
+        try (Stream<Long> techStackIds = projectTechStackRepository.streamTechStackIdByProjectStatus(ProjectStatus.RECRUITING)) {
+            demand = count(techStackIds, length);
+        }
+
+        long[] supply;
+        try (Stream<Long> techStackIds = memberTechStackRepository.streamTechStackIdByMemberStatus(MemberStatus.PERMITTED)) {
+            supply = count(techStackIds, length);
+        }
+
+        LocalDate periodStart = StatisticsGranularity.WEEKLY.periodStart(weekDate);
+        String periodKey = StatisticsGranularity.WEEKLY.periodKey(periodStart);
+
+        List<TechStackSupplyDemand> rows = new ArrayList<>(techStacks.size());
+        for (TechStack techStack : techStacks) {
+            int index = techStack.getId().intValue();
+            long demandCount = index < demand.length ? demand[index] : 0L;
+            long supplyCount = index < supply.length ? supply[index] : 0L;
+
+            rows.add(TechStackSupplyDemand.builder()
+                    .techStackId(techStack.getId())
+                    .techStackName(techStack.getName())
+                    .techStackCategory(techStack.getCategory())
+                    .periodKey(periodKey)
+                    .periodStart(periodStart)
+                    .demand(demandCount)
+                    .supply(supplyCount)
+                    .supplyDemandRatio(demandCount == 0 ? null : (double) supplyCount / demandCount)
+                    .build());
+        }
+
+        techStackSupplyDemandRepository.deleteAllByPeriodKey(periodKey);
+        techStackSupplyDemandRepository.saveAll(rows);
+
+        contribution.incrementWriteCount(rows.size());
+        log.info("tech stack supply / demand : {} , {} tech stacks", periodKey, rows.size());
+        return RepeatStatus.FINISHED;
+    }
+
+    // 집계 도중 추가된 기술 스택 id 가 들어오면 배열을 늘린다.
+    private long[] count(Stream<Long> techStackIds, int length) {
+        long[] counts = new long[length];
+        Iterator<Long> iterator = techStackIds.iterator();
+        while (iterator.hasNext()) {
+            int index = iterator.next().intValue();
+            if (index >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length * 2));
+            }
+            counts[index]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,27 @@
+package chocoteamteam.togather.batch.application.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MailDispatchResult {
+    private List<Long> sentMailIds;
+    private List<Long> failedMailIds;
+    private long elapsedMillis;
+
+    public int getSentCount() {
+        return sentMailIds.size();
+    }
+
+    public boolean hasFailure() {
+        return !failedMailIds.isEmpty();
+    }
+
+    // 초당 전송 건수
+    public double getThroughput() {
+        return elapsedMillis == 0 ? getSentCount() : getSentCount() * 1000.0 / elapsedMillis;
+    }
+}
@@ -0,0 +1,25 @@
+package chocoteamteam.togather.batch.application.model;
+
+import chocoteamteam.togather.batch.domain.entity.Mail;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class MailMessage {
+    private Long id;
+    private String email;
+    private String subject;
+    private String content;
+
+    public static MailMessage of(Mail mail, String content) {
+        return MailMessage.builder()
+                .id(mail.getId())
+                .email(mail.getEmail())
+                .subject(mail.getSubject())
+                .content(content)
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package chocoteamteam.togather.batch.application.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendationCandidateDto {
+    private Long projectId;
+    private String subject;
+    private LocalDate deadline;
+    private Long authorId;
+    private Long techStackId;
+    private String techStackName;
+}
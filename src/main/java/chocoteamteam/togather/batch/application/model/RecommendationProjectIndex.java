@@ -0,0 +1,120 @@
+package chocoteamteam.togather.batch.application.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/*
+ *   추천 후보 프로젝트 역색인 (기술 스택 id -> 프로젝트 목록)
+ *   Job 실행 시 후보 프로젝트를 한 번만 조회해서 만들고,
+ *   회원별 추천은 회원 기술 스택의 posting list 를 합쳐 겹치는 기술 스택 수로 점수를 매긴다.
+ *   생성 후에는 읽기만 하므로 여러 스레드에서 같이 사용해도 된다.
+ * */
+public class RecommendationProjectIndex {
+
+    public static final int MAX_RECOMMENDATION_COUNT = 10;
+
+    private static final int[] EMPTY_POSTING = new int[0];
+
+    private final Candidate[] candidates;
+    private final Map<Long, int[]> postings;
+    private final Map<Long, String> techStackNames;
+
+    private RecommendationProjectIndex(Candidate[] candidates, Map<Long, int[]> postings,
+                                       Map<Long, String> techStackNames) {
+        this.candidates = candidates;
+        this.postings = postings;
+        this.techStackNames = techStackNames;
+    }
+
+    public static RecommendationProjectIndex of(Collection<RecommendationCandidateDto> rows) {
+        Map<Long, Integer> candidateIndexes = new HashMap<>();
+        List<Candidate> candidates = new ArrayList<>();
+        Map<Long, List<Integer>> postingLists = new HashMap<>();
+        Map<Long, String> techStackNames = new HashMap<>();
+
+        for (RecommendationCandidateDto row : rows) {
+            Integer index = candidateIndexes.get(row.getProjectId());
+            if (index == null) {
+                index = candidates.size();
+                candidateIndexes.put(row.getProjectId(), index);
+                candidates.add(new Candidate(row.getProjectId(), row.getSubject(), row.getDeadline(),
+                        row.getAuthorId()));
+            }
+            postingLists.computeIfAbsent(row.getTechStackId(), id -> new ArrayList<>()).add(index);
+            techStackNames.putIfAbsent(row.getTechStackId(), row.getTechStackName());
+        }
+
+        Map<Long, int[]> postings = new HashMap<>();
+        postingLists.forEach((techStackId, indexes) -> postings.put(techStackId,
+                indexes.stream().mapToInt(Integer::intValue).distinct().toArray()));
+
+        return new RecommendationProjectIndex(candidates.toArray(new Candidate[0]), postings, techStackNames);
+    }
+
+    public int size() {
+        return candidates.length;
+    }
+
+    /*
+     *   겹치는 기술 스택이 많은 순, 마감이 가까운 순으로 최대 10개
+     *   본인이 작성한 프로젝트는 제외
+     * */
+    public List<MemberRecommendationProjectDto> match(Long memberId, Collection<Long> techStackIds) {
+        Map<Integer, List<Long>> matchedTechStacks = new HashMap<>();
+        for (Long techStackId : new LinkedHashSet<>(techStackIds)) {
+            for (int index : postings.getOrDefault(techStackId, EMPTY_POSTING)) {
+                if (candidates[index].authorId.equals(memberId)) {
+                    continue;
+                }
+                matchedTechStacks.computeIfAbsent(index, i -> new ArrayList<>()).add(techStackId);
+            }
+        }
+        if (matchedTechStacks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Integer[] matched = matchedTechStacks.keySet().toArray(new Integer[0]);
+        Arrays.sort(matched, Comparator
+                .comparingInt((Integer index) -> -matchedTechStacks.get(index).size())
+                .thenComparing(index -> candidates[index].deadline)
+                .thenComparing(index -> candidates[index].projectId));
+
+        List<MemberRecommendationProjectDto> projects = new ArrayList<>(MAX_RECOMMENDATION_COUNT);
+        for (int i = 0; i < matched.length && i < MAX_RECOMMENDATION_COUNT; i++) {
+            Candidate candidate = candidates[matched[i]];
+            List<String> names = new ArrayList<>();
+            for (Long techStackId : matchedTechStacks.get(matched[i])) {
+                names.add(techStackNames.get(techStackId));
+            }
+            projects.add(MemberRecommendationProjectDto.builder()
+                    .id(candidate.projectId)
+                    .subject(candidate.subject)
+                    .deadline(candidate.deadline)
+                    .techStackNames(names)
+                    .build());
+        }
+        return projects;
+    }
+
+    private static class Candidate {
+        private final Long projectId;
+        private final String subject;
+        private final LocalDate deadline;
+        private final Long authorId;
+
+        private Candidate(Long projectId, String subject, LocalDate deadline, Long authorId) {
+            this.projectId = projectId;
+            this.subject = subject;
+            this.deadline = deadline;
+            this.authorId = authorId;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package chocoteamteam.togather.batch.application.model;
+
+/*
+ *   Job 단위로 추천 후보 색인을 공유하기 위한 holder
+ *   @JobScope 빈은 클래스 기반 프록시로 만들어지므로, 생성자가 private 인 RecommendationProjectIndex 대신 이 holder 를 빈으로 등록한다.
+ * */
+public class RecommendationProjectIndexHolder {
+
+    private final RecommendationProjectIndex index;
+
+    public RecommendationProjectIndexHolder(RecommendationProjectIndex index) {
+        this.index = index;
+    }
+
+    public RecommendationProjectIndex get() {
+        return index;
+    }
+}
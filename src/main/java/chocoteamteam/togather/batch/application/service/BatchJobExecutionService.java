@@ -0,0 +1,65 @@
+package chocoteamteam.togather.batch.application.service;
+
+import chocoteamteam.togather.dto.JobExecutionDto;
+import chocoteamteam.togather.dto.StepExecutionDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Service
+public class BatchJobExecutionService {
+    public static final int MAX_INSTANCE_COUNT = 100;
+
+    private final JobExplorer jobExplorer;
+
+    public List<String> getJobNames() {
+        return jobExplorer.getJobNames();
+    }
+
+    // 최근 count 개 job instance 의 실행 이력 (최신순)
+    public List<JobExecutionDto> getRecentExecutions(String jobName, int count) {
+        List<JobInstance> jobInstances = jobExplorer.getJobInstances(jobName, 0,
+                Math.max(1, Math.min(count, MAX_INSTANCE_COUNT)));
+
+        // 실행 중인 job / step 은 같은 조회 시점까지의 경과 시간으로 계산
+        Date now = new Date();
+        List<JobExecutionDto> executions = new ArrayList<>();
+        for (JobInstance jobInstance : jobInstances) {
+            jobExplorer.getJobExecutions(jobInstance).stream()
+                    .map(jobExecution -> toDto(jobExecution, now))
+                    .forEach(executions::add);
+        }
+
+        return executions.stream()
+                .sorted(Comparator.comparing(JobExecutionDto::getJobExecutionId).reversed())
+                .collect(Collectors.toList());
+    }
+
+    private JobExecutionDto toDto(JobExecution jobExecution, Date now) {
+        List<StepExecutionDto> steps = jobExecution.getStepExecutions().stream()
+                .map(stepExecution -> StepExecutionDto.from(stepExecution,
+                        elapsedMillis(stepExecution.getStartTime(), stepExecution.getEndTime(), now)))
+                .sorted(Comparator.comparing(StepExecutionDto::getStepExecutionId))
+                .collect(Collectors.toList());
+
+        return JobExecutionDto.from(jobExecution,
+                elapsedMillis(jobExecution.getStartTime(), jobExecution.getEndTime(), now), steps);
+    }
+
+    private static long elapsedMillis(Date startTime, Date endTime, Date now) {
+        if (startTime == null) {
+            return 0L;
+        }
+        return Duration.between(startTime.toInstant(), (endTime != null ? endTime : now).toInstant()).toMillis();
+    }
+}
@@ -1,17 +1,17 @@
 package chocoteamteam.togather.batch.application.service;
 
 import chocoteamteam.togather.batch.application.model.MemberRecommendationProjectDto;
+import chocoteamteam.togather.batch.application.model.RecommendationProjectIndex;
 import chocoteamteam.togather.batch.application.model.SimpleMemberTechStackInfoDto;
 import chocoteamteam.togather.batch.domain.entity.Mail;
 import chocoteamteam.togather.repository.ProjectRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import javax.transaction.Transactional;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Transactional
 @RequiredArgsConstructor
@@ -19,38 +19,36 @@ import java.util.List;
 public class CreateRecommendationProjectService {
 
     private final ProjectRepository projectRepository;
-    private final TemplateEngine template;
 
-    private final static String TEMPLATE_URL = "mail/recommend_project";
     private final static String SUBJECT = String.format("[%tF] 주간 공고 추천", LocalDate.now());
 
+    // 추천 후보 프로젝트는 Job 실행마다 한 번만 조회한다.
+    public RecommendationProjectIndex createRecommendationProjectIndex(LocalDate startDate, LocalDate endDate) {
+        return RecommendationProjectIndex.of(
+                projectRepository.findAllRecommendationCandidates(startDate, endDate));
+    }
+
     public Mail getMatchedProjectAndConvertMail(
             SimpleMemberTechStackInfoDto member,
-            LocalDate startDate,
-            LocalDate endDate
+            RecommendationProjectIndex recommendationProjectIndex
     ) {
 
         List<MemberRecommendationProjectDto> projects =
-                projectRepository.findAllByTechStackIdsAndDeadline(
-                        member.getTechStackIds(),
-                        startDate,
-                        endDate,
-                        member.getId());
+                recommendationProjectIndex.match(member.getId(), member.getTechStackIds());
 
         return convertMail(member, projects);
     }
 
+    // 메일 내용은 전송 시점에 RecommendationMailRenderer 가 만든다.
     private Mail convertMail(SimpleMemberTechStackInfoDto member,
                              List<MemberRecommendationProjectDto> projects) {
-        Context context = new Context();
-        context.setVariable("projects", projects);
-
-        String contentTemplate = template.process(TEMPLATE_URL, context);
-
         return Mail.builder()
                 .email(member.getEmail())
-                .content(contentTemplate)
                 .subject(SUBJECT)
+                .memberId(member.getId())
+                .projectIds(projects.stream()
+                        .map(MemberRecommendationProjectDto::getId)
+                        .collect(Collectors.toList()))
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+package chocoteamteam.togather.batch.application.service;
+
+import chocoteamteam.togather.batch.application.model.MailDispatchResult;
+import chocoteamteam.togather.batch.application.model.MailMessage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ *   메일 병렬 전송기
+ *   SMTP 연결(Transport)을 poolSize 개 까지 열어두고 재사용하면서 poolSize 개의 스레드로 동시에 전송한다.
+ *   전송 실패 시 해당 연결은 버리고 backoff 후 새 연결로 maxAttempts 까지 다시 시도한다.
+ * */
+@Slf4j
+@Component
+public class MailDispatcher implements MeterBinder {
+
+    // 오래 쉬고 있던 연결은 서버에서 끊었을 수 있으므로 NOOP 으로 확인 후 사용
+    private static final long VALIDATE_IDLE_MILLIS = 10_000L;
+
+    private final JavaMailSender javaMailSender;
+    private final SendMailService sendMailService;
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    private final ExecutorService executor;
+    private final BlockingQueue<PooledTransport> idleTransports;
+
+    private final LongAdder sentCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+
+    public MailDispatcher(JavaMailSender javaMailSender,
+                          SendMailService sendMailService,
+                          @Value("${mail.dispatch.pool-size:4}") int poolSize,
+                          @Value("${mail.dispatch.max-attempts:3}") int maxAttempts,
+                          @Value("${mail.dispatch.backoff-millis:500}") long backoffMillis) {
+        this.javaMailSender = javaMailSender;
+        this.sendMailService = sendMailService;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.executor = Executors.newFixedThreadPool(poolSize, new CustomizableThreadFactory("mail-dispatch-"));
+        this.idleTransports = new LinkedBlockingQueue<>(poolSize);
+    }
+
+    /*
+     *   모든 메일의 전송(재시도 포함)이 끝날 때 까지 기다린 후 결과를 반환한다.
+     * */
+    public MailDispatchResult dispatch(List<MailMessage> mails) {
+        long start = System.currentTimeMillis();
+
+        List<Future<Boolean>> futures = new ArrayList<>(mails.size());
+        for (MailMessage mail : mails) {
+            futures.add(executor.submit(() -> sendWithRetry(mail)));
+        }
+
+        List<Long> sentMailIds = new ArrayList<>();
+        List<Long> failedMailIds = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            if (isSent(futures.get(i))) {
+                sentMailIds.add(mails.get(i).getId());
+            } else {
+                failedMailIds.add(mails.get(i).getId());
+            }
+        }
+
+        MailDispatchResult result = new MailDispatchResult(sentMailIds, failedMailIds,
+                System.currentTimeMillis() - start);
+        log.info("mail dispatched : sent {} , failed {} , {} ms , {} mails/sec",
+                result.getSentCount(), failedMailIds.size(), result.getElapsedMillis(),
+                String.format("%.1f", result.getThroughput()));
+        return result;
+    }
+
+    public long getSentCount() {
+        return sentCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    // mail.dispatch{result=sent|failed|retry}
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("mail.dispatch", this, MailDispatcher::getSentCount)
+                .tag("result", "sent")
+                .register(registry);
+        FunctionCounter.builder("mail.dispatch", this, MailDispatcher::getFailedCount)
+                .tag("result", "failed")
+                .register(registry);
+        FunctionCounter.builder("mail.dispatch", this, MailDispatcher::getRetryCount)
+                .tag("result", "retry")
+                .register(registry);
+    }
+
+    private boolean isSent(Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    private boolean sendWithRetry(MailMessage mail) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                send(mail);
+                sentCount.increment();
+                return true;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    failedCount.increment();
+                    log.warn("mail send failed : mail id = {} , attempts = {}", mail.getId(), attempt, e);
+                    return false;
+                }
+                retryCount.increment();
+                Thread.sleep(backoffMillis << (attempt - 1));
+            }
+        }
+    }
+
+    private void send(MailMessage mail) throws Exception {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        sendMailService.prepare(message, mail);
+
+        if (!(javaMailSender instanceof JavaMailSenderImpl)) {
+            javaMailSender.send(message);
+            return;
+        }
+
+        PooledTransport transport = borrowTransport((JavaMailSenderImpl) javaMailSender);
+        boolean broken = true;
+        try {
+            message.saveChanges();
+            transport.transport.sendMessage(message, message.getAllRecipients());
+            broken = false;
+        } finally {
+            if (broken) {
+                close(transport);
+            } else {
+                returnTransport(transport);
+            }
+        }
+    }
+
+    private PooledTransport borrowTransport(JavaMailSenderImpl mailSender) throws MessagingException {
+        PooledTransport transport = idleTransports.poll();
+        if (transport != null) {
+            if (System.currentTimeMillis() - transport.lastUsedMillis < VALIDATE_IDLE_MILLIS
+                    || transport.transport.isConnected()) {
+                return transport;
+            }
+            close(transport);
+        }
+        return new PooledTransport(connect(mailSender));
+    }
+
+    private void returnTransport(PooledTransport transport) {
+        transport.lastUsedMillis = System.currentTimeMillis();
+        if (!idleTransports.offer(transport)) {
+            close(transport);
+        }
+    }
+
+    // JavaMailSenderImpl.connectTransport 와 같은 방식으로 연결
+    private Transport connect(JavaMailSenderImpl mailSender) throws MessagingException {
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+
+        String protocol = mailSender.getProtocol() == null ? JavaMailSenderImpl.DEFAULT_PROTOCOL
+                : mailSender.getProtocol();
+        Transport transport = mailSender.getSession().getTransport(protocol);
+        transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        return transport;
+    }
+
+    private void close(PooledTransport transport) {
+        try {
+            transport.transport.close();
+        } catch (MessagingException e) {
+            log.debug("mail transport close failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        PooledTransport transport;
+        while ((transport = idleTransports.poll()) != null) {
+            close(transport);
+        }
+    }
+
+    private static class PooledTransport {
+        private final Transport transport;
+        private long lastUsedMillis;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+            this.lastUsedMillis = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package chocoteamteam.togather.batch.application.service;
+
+import chocoteamteam.togather.batch.application.model.MailMessage;
+import chocoteamteam.togather.batch.application.model.MemberRecommendationProjectDto;
+import chocoteamteam.togather.batch.domain.entity.Mail;
+import chocoteamteam.togather.repository.ProjectRepository;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ *   추천 메일 내용을 전송 시점에 만든다.
+ *   프로젝트 하나를 표시하는 HTML 조각은 프로젝트 별로 한 번만 만들어 두고 회원별 메일에서 재사용한다.
+ *   Step 실행마다 새로 생성해서 사용하므로 Job 실행 사이에 캐시가 남지 않는다.
+ * */
+public class RecommendationMailRenderer {
+
+    private static final String TEMPLATE_URL = "mail/recommend_project";
+    private static final String PROJECT_TEMPLATE_URL = "mail/recommend_project_item";
+    // 삭제된 프로젝트
+    private static final String EMPTY_FRAGMENT = "";
+
+    private final TemplateEngine templateEngine;
+    private final ProjectRepository projectRepository;
+    private final Map<Long, String> projectFragments = new HashMap<>();
+
+    public RecommendationMailRenderer(TemplateEngine templateEngine, ProjectRepository projectRepository) {
+        this.templateEngine = templateEngine;
+        this.projectRepository = projectRepository;
+    }
+
+    public List<MailMessage> render(List<? extends Mail> mails) {
+        loadProjectFragments(mails);
+
+        List<MailMessage> messages = new ArrayList<>(mails.size());
+        for (Mail mail : mails) {
+            messages.add(MailMessage.of(mail, renderContent(mail)));
+        }
+        return messages;
+    }
+
+    public int getCachedProjectCount() {
+        return projectFragments.size();
+    }
+
+    // 처음 보는 프로젝트만 한 번에 조회해서 조각을 만든다.
+    private void loadProjectFragments(List<? extends Mail> mails) {
+        Set<Long> projectIds = new LinkedHashSet<>();
+        for (Mail mail : mails) {
+            for (Long projectId : mail.getProjectIds()) {
+                if (!projectFragments.containsKey(projectId)) {
+                    projectIds.add(projectId);
+                }
+            }
+        }
+        if (projectIds.isEmpty()) {
+            return;
+        }
+
+        for (MemberRecommendationProjectDto project : projectRepository.findAllRecommendationProjectByIds(projectIds)) {
+            Context context = new Context();
+            context.setVariable("project", project);
+            projectFragments.put(project.getId(), templateEngine.process(PROJECT_TEMPLATE_URL, context));
+        }
+        projectIds.forEach(projectId -> projectFragments.putIfAbsent(projectId, EMPTY_FRAGMENT));
+    }
+
+    private String renderContent(Mail mail) {
+        List<String> projectBlocks = new ArrayList<>();
+        for (Long projectId : mail.getProjectIds()) {
+            String fragment = projectFragments.get(projectId);
+            if (!EMPTY_FRAGMENT.equals(fragment)) {
+                projectBlocks.add(fragment);
+            }
+        }
+
+        Context context = new Context();
+        context.setVariable("projectBlocks", projectBlocks);
+        return templateEngine.process(TEMPLATE_URL, context);
+    }
+}
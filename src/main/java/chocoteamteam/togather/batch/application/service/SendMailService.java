@@ -1,6 +1,6 @@
 package chocoteamteam.togather.batch.application.service;
 
-import chocoteamteam.togather.batch.domain.entity.Mail;
+import chocoteamteam.togather.batch.application.model.MailMessage;
 import chocoteamteam.togather.exception.ErrorCode;
 import chocoteamteam.togather.exception.MailException;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +10,10 @@ import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.mail.javamail.MimeMessagePreparator;
 import org.springframework.stereotype.Service;
 
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.io.UnsupportedEncodingException;
+
 @Service
 @RequiredArgsConstructor
 public class SendMailService {
@@ -18,16 +22,8 @@ public class SendMailService {
     @Value("${spring.mail.username}")
     private String FROM_EMAIL;
 
-    public boolean sendMail(Mail mail) {
-        MimeMessagePreparator msg = mimeMessage -> {
-            MimeMessageHelper mimeMessageHelper =
-                    new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
-            mimeMessageHelper.setFrom(FROM_EMAIL, FROM_NAME);
-            mimeMessageHelper.setTo(mail.getEmail());
-            mimeMessageHelper.setSubject(mail.getSubject());
-            mimeMessageHelper.setText(mail.getContent(), true);
-        };
+    public boolean sendMail(MailMessage mail) {
+        MimeMessagePreparator msg = mimeMessage -> prepare(mimeMessage, mail);
 
         try {
             javaMailSender.send(msg);
@@ -36,4 +32,14 @@ public class SendMailService {
         }
         return true;
     }
+
+    public void prepare(MimeMessage mimeMessage, MailMessage mail) throws MessagingException, UnsupportedEncodingException {
+        MimeMessageHelper mimeMessageHelper =
+                new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+        mimeMessageHelper.setFrom(FROM_EMAIL, FROM_NAME);
+        mimeMessageHelper.setTo(mail.getEmail());
+        mimeMessageHelper.setSubject(mail.getSubject());
+        mimeMessageHelper.setText(mail.getContent(), true);
+    }
 }
@@ -0,0 +1,104 @@
+package chocoteamteam.togather.batch.application.service;
+
+import chocoteamteam.togather.batch.application.model.TechStatisticsDto;
+import chocoteamteam.togather.batch.domain.entity.TechStackStatistics;
+import chocoteamteam.togather.batch.domain.repository.TechStackStatisticsRepository;
+import chocoteamteam.togather.repository.ProjectTechStackRepository;
+import chocoteamteam.togather.type.StatisticsGranularity;
+import chocoteamteam.togather.type.TechCategory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+ *   기술 스택 통계 롤업
+ *   하루치 프로젝트를 DAILY 로 집계하고, 그 날이 속한 주 / 월 구간을 DAILY 합으로 다시 계산한다.
+ *   같은 구간을 다시 집계하면 기존 행을 지우고 새로 쓰므로 재실행해도 결과가 같다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TechStackRollupService {
+    private final TechStackStatisticsRepository techStackStatisticsRepository;
+    private final ProjectTechStackRepository projectTechStackRepository;
+
+    @Transactional
+    public int rollupDaily(LocalDate date) {
+        List<TechStatisticsDto> counts = projectTechStackRepository.countAllGroupByTechStackAndCreatedAtBetween(
+                LocalDateTime.of(date, LocalTime.MIN), LocalDateTime.of(date, LocalTime.MAX));
+        return replace(StatisticsGranularity.DAILY, date, counts);
+    }
+
+    // date 가 속한 주 / 월 구간을 DAILY 합계로 다시 계산
+    @Transactional
+    public int rollup(StatisticsGranularity granularity, LocalDate date) {
+        if (granularity == StatisticsGranularity.DAILY) {
+            throw new IllegalArgumentException("DAILY is aggregated from projects, use rollupDaily");
+        }
+
+        List<TechStatisticsDto> sums = techStackStatisticsRepository.sumAllGroupByTechStack(
+                StatisticsGranularity.DAILY, granularity.periodStart(date), granularity.periodEnd(date));
+        return replace(granularity, date, sums);
+    }
+
+    private int replace(StatisticsGranularity granularity, LocalDate date, List<TechStatisticsDto> counts) {
+        LocalDate periodStart = granularity.periodStart(date);
+        String periodKey = granularity.periodKey(periodStart);
+
+        Map<Long, TechStackStatistics> previous = techStackStatisticsRepository
+                .findAllByGranularityAndPeriodKey(granularity,
+                        granularity.periodKey(granularity.previousPeriodStart(date)))
+                .stream()
+                .collect(Collectors.toMap(TechStackStatistics::getTechStackId, Function.identity()));
+
+        Map<Long, TechStackStatistics> rows = new LinkedHashMap<>();
+        for (TechStatisticsDto count : counts) {
+            rows.put(count.getTechStackId(), toEntity(granularity, periodKey, periodStart,
+                    count.getTechStackId(), count.getTechStackName(), count.getTechStackCategory(),
+                    count.getCount(), previous.get(count.getTechStackId())));
+        }
+
+        // 직전 구간에는 있었지만 이번 구간에 없는 기술 스택은 0 건으로 남겨 감소량을 기록
+        for (TechStackStatistics before : previous.values()) {
+            if (!rows.containsKey(before.getTechStackId()) && before.getCount() > 0) {
+                rows.put(before.getTechStackId(), toEntity(granularity, periodKey, periodStart,
+                        before.getTechStackId(), before.getTechStackName(), before.getTechStackCategory(),
+                        0L, before));
+            }
+        }
+
+        techStackStatisticsRepository.deleteAllByGranularityAndPeriodKey(granularity, periodKey);
+        techStackStatisticsRepository.saveAll(new ArrayList<>(rows.values()));
+
+        log.info("tech stack statistics rollup : {} {} , {} tech stacks", granularity, periodKey, rows.size());
+        return rows.size();
+    }
+
+    private TechStackStatistics toEntity(StatisticsGranularity granularity, String periodKey, LocalDate periodStart,
+                                         Long techStackId, String techStackName,
+                                         TechCategory techStackCategory,
+                                         Long count, TechStackStatistics previous) {
+        long previousCount = previous == null ? 0L : previous.getCount();
+        return TechStackStatistics.builder()
+                .techStackId(techStackId)
+                .techStackName(techStackName)
+                .techStackCategory(techStackCategory)
+                .granularity(granularity)
+                .periodKey(periodKey)
+                .periodStart(periodStart)
+                .count(count)
+                .delta(count - previousCount)
+                .build();
+    }
+}
@@ -0,0 +1,42 @@
+package chocoteamteam.togather.batch.config;
+
+import chocoteamteam.togather.batch.application.job.listener.BatchMetricsListener;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.batch.core.step.AbstractStep;
+import org.springframework.batch.core.step.tasklet.TaskletStep;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ *   모든 step 에 BatchMetricsListener 를 등록
+ *   step 마다 listener 를 붙이지 않아도 새로 추가되는 step 까지 지표가 수집된다.
+ *   @JobScope / @StepScope step 은 scope 프록시가 아닌 실제 step 이 만들어질 때 등록된다.
+ * */
+@Configuration
+public class BatchMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor batchMetricsStepPostProcessor(ObjectProvider<BatchMetricsListener> batchMetricsListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof AbstractStep) || AopUtils.isAopProxy(bean)) {
+                    return bean;
+                }
+
+                BatchMetricsListener listener = batchMetricsListener.getIfAvailable();
+                if (listener == null) {
+                    return bean;
+                }
+
+                ((AbstractStep) bean).registerStepExecutionListener(listener);
+                if (bean instanceof TaskletStep) {
+                    ((TaskletStep) bean).registerChunkListener(listener);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package chocoteamteam.togather.batch.config;
+
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.scope.context.JobContext;
+import org.springframework.batch.core.scope.context.JobSynchronizationManager;
+import org.springframework.core.task.TaskDecorator;
+
+/*
+ *   partition worker 스레드에서도 @JobScope 빈을 사용할 수 있도록
+ *   작업을 넘기는 스레드의 JobExecution 을 worker 스레드에 등록한다.
+ *   같은 JobExecution 으로 등록하므로 @JobScope 빈은 Job 실행 당 하나만 만들어진다.
+ * */
+public class JobScopeTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        JobContext context = JobSynchronizationManager.getContext();
+        if (context == null) {
+            return runnable;
+        }
+
+        JobExecution jobExecution = context.getJobExecution();
+        return () -> {
+            JobSynchronizationManager.register(jobExecution);
+            try {
+                runnable.run();
+            } finally {
+                JobSynchronizationManager.release();
+            }
+        };
+    }
+}
@@ -0,0 +1,37 @@
+package chocoteamteam.togather.batch.domain.converter;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/*
+ *   id 목록을 "1,2,3" 형태의 문자열 컬럼 하나로 저장한다.
+ * */
+@Converter
+public class LongListConverter implements AttributeConverter<List<Long>, String> {
+
+    private static final String DELIMITER = ",";
+
+    @Override
+    public String convertToDatabaseColumn(List<Long> ids) {
+        if (ids == null) {
+            return null;
+        }
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+    }
+
+    @Override
+    public List<Long> convertToEntityAttribute(String column) {
+        if (column == null || column.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(column.split(DELIMITER))
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+    }
+}
@@ -1,15 +1,20 @@
 package chocoteamteam.togather.batch.domain.entity;
 
+import chocoteamteam.togather.batch.domain.converter.LongListConverter;
 import chocoteamteam.togather.entity.BaseTimeEntity;
+import chocoteamteam.togather.type.MailStatus;
 import lombok.*;
 
 import javax.persistence.*;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {@Index(name = "mail_status_id_index", columnList = "status, id")})
 public class Mail extends BaseTimeEntity {
 
     @Id
@@ -22,7 +27,21 @@ public class Mail extends BaseTimeEntity {
     @Column(nullable = false)
     private String subject;
 
-    @Lob
     @Column(nullable = false)
-    private String content;
+    private Long memberId;
+
+    // 추천 프로젝트 id 목록, 메일 내용은 전송 시점에 만든다.
+    @Builder.Default
+    @Convert(converter = LongListConverter.class)
+    @Column(nullable = false)
+    private List<Long> projectIds = new ArrayList<>();
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MailStatus status = MailStatus.PENDING;
+
+    // 전송 시도 횟수 (job 실행마다 1 증가, 실패가 MAX_ATTEMPTS 에 도달하면 FAILED)
+    @Column(nullable = false)
+    private int attempts;
 }
@@ -0,0 +1,48 @@
+package chocoteamteam.togather.batch.domain.entity;
+
+import chocoteamteam.togather.type.StatisticsGranularity;
+import chocoteamteam.togather.type.TechCategory;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/*
+ *   기술 스택별 기간 통계 (시계열)
+ *   DAILY 는 프로젝트 원본에서, WEEKLY / MONTHLY 는 DAILY 구간을 합산해서 만든다.
+ *   delta 는 직전 구간 대비 증감으로 집계 시점에 계산해 둔다.
+ * */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "tech_stack_statistics_period_unique",
+                columnNames = {"granularity", "periodKey", "techStackId"}),
+        indexes = @Index(name = "tech_stack_statistics_range_index",
+                columnList = "techStackId, granularity, periodStart"))
+public class TechStackStatistics {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long techStackId;
+    private String techStackName;
+
+    @Enumerated(EnumType.STRING)
+    private TechCategory techStackCategory;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StatisticsGranularity granularity;
+
+    @Column(nullable = false)
+    private String periodKey;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    private Long count;
+    private Long delta;
+}
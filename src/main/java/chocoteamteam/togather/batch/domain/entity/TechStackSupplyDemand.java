@@ -0,0 +1,42 @@
+package chocoteamteam.togather.batch.domain.entity;
+
+import chocoteamteam.togather.type.TechCategory;
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDate;
+
+/*
+ *   주차별 기술 스택 수요 / 공급
+ *   demand : 모집중인 프로젝트 중 해당 기술 스택을 요구하는 수
+ *   supply : 활동중인 회원 중 해당 기술 스택을 보유한 수
+ *   supplyDemandRatio 가 낮을수록 공급이 부족한 기술 스택 (수요가 없으면 null)
+ * */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "tech_stack_supply_demand_period_unique",
+        columnNames = {"periodKey", "techStackId"}))
+public class TechStackSupplyDemand {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long techStackId;
+    private String techStackName;
+
+    @Enumerated(EnumType.STRING)
+    private TechCategory techStackCategory;
+
+    @Column(nullable = false)
+    private String periodKey;
+
+    @Column(nullable = false)
+    private LocalDate periodStart;
+
+    private long demand;
+    private long supply;
+    private Double supplyDemandRatio;
+}
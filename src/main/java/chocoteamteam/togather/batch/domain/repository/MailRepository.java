@@ -1,7 +1,25 @@
 package chocoteamteam.togather.batch.domain.repository;
 
 import chocoteamteam.togather.batch.domain.entity.Mail;
+import chocoteamteam.togather.type.MailStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface MailRepository extends JpaRepository<Mail, Long> {
+
+    List<Mail> findAllByStatusAndIdGreaterThanOrderByIdAsc(MailStatus status, Long id, Pageable pageable);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Mail m set m.status = :status, m.attempts = m.attempts + 1, m.updatedAt = :updatedAt " +
+            "where m.id in :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+                           @Param("status") MailStatus status,
+                           @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,35 @@
+package chocoteamteam.togather.batch.domain.repository;
+
+import chocoteamteam.togather.batch.application.model.TechStatisticsDto;
+import chocoteamteam.togather.batch.domain.entity.TechStackStatistics;
+import chocoteamteam.togather.type.StatisticsGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TechStackStatisticsRepository extends JpaRepository<TechStackStatistics, Long> {
+
+    List<TechStackStatistics> findAllByGranularityAndPeriodKey(StatisticsGranularity granularity, String periodKey);
+
+    List<TechStackStatistics> findAllByTechStackIdAndGranularityAndPeriodStartBetweenOrderByPeriodStartAsc(
+            Long techStackId, StatisticsGranularity granularity, LocalDate from, LocalDate to);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from TechStackStatistics s where s.granularity = :granularity and s.periodKey = :periodKey")
+    int deleteAllByGranularityAndPeriodKey(@Param("granularity") StatisticsGranularity granularity,
+                                           @Param("periodKey") String periodKey);
+
+    // 하위 단위 구간을 합산 (예: DAILY 구간들 -> 주간 합계)
+    @Query("select new chocoteamteam.togather.batch.application.model.TechStatisticsDto(" +
+            "s.techStackId, s.techStackName, s.techStackCategory, sum(s.count)) " +
+            "from TechStackStatistics s " +
+            "where s.granularity = :granularity and s.periodStart between :from and :to " +
+            "group by s.techStackId, s.techStackName, s.techStackCategory")
+    List<TechStatisticsDto> sumAllGroupByTechStack(@Param("granularity") StatisticsGranularity granularity,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to);
+}
@@ -0,0 +1,18 @@
+package chocoteamteam.togather.batch.domain.repository;
+
+import chocoteamteam.togather.batch.domain.entity.TechStackSupplyDemand;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TechStackSupplyDemandRepository extends JpaRepository<TechStackSupplyDemand, Long> {
+
+    List<TechStackSupplyDemand> findAllByPeriodKey(String periodKey);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("delete from TechStackSupplyDemand s where s.periodKey = :periodKey")
+    int deleteAllByPeriodKey(@Param("periodKey") String periodKey);
+}
@@ -0,0 +1,126 @@
+package chocoteamteam.togather.batch.schduler;
+
+import chocoteamteam.togather.component.lock.Lease;
+import chocoteamteam.togather.component.lock.RedisLeaseLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobExecutionNotRunningException;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.JobOperator;
+import org.springframework.batch.core.launch.NoSuchJobExecutionException;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/*
+ *   job 마다 Redis lease 를 잡은 노드만 job 을 실행한다.
+ *   실행 중에는 TTL 의 1/3 마다 lease 를 연장하고, 끝나면 반납한다.
+ *   lease 의 fencing token 은 식별에 쓰이지 않는 job parameter(leaseToken)로 남겨서
+ *   재시작 복구 시 실제로 살아있는 실행인지 판단하는 데 사용한다.
+ * */
+@Slf4j
+@Component
+public class LeasedJobLauncher {
+    public static final String LEASE_TOKEN_KEY = "leaseToken";
+    private static final String LEASE_PREFIX = "batch:job:";
+
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobOperator jobOperator;
+    private final RedisLeaseLock redisLeaseLock;
+    private final Duration leaseTtl;
+    private final ScheduledExecutorService renewalExecutor =
+            Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("job-lease-"));
+
+    public LeasedJobLauncher(JobLauncher jobLauncher,
+                             JobExplorer jobExplorer,
+                             JobOperator jobOperator,
+                             RedisLeaseLock redisLeaseLock,
+                             @Value("${batch.lease.ttl-millis:60000}") long leaseTtlMillis) {
+        this.jobLauncher = jobLauncher;
+        this.jobExplorer = jobExplorer;
+        this.jobOperator = jobOperator;
+        this.redisLeaseLock = redisLeaseLock;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+    }
+
+    public static String leaseName(String jobName) {
+        return LEASE_PREFIX + jobName;
+    }
+
+    // lease 를 잡지 못하면 다른 노드가 실행 중이므로 null 을 반환
+    public JobExecution run(Job job, JobParameters jobParameters) throws JobExecutionAlreadyRunningException, JobRestartException, JobInstanceAlreadyCompleteException, JobParametersInvalidException {
+        Lease lease = redisLeaseLock.tryAcquire(leaseName(job.getName()), leaseTtl).orElse(null);
+        if (lease == null) {
+            log.info("skip job launch, lease is held by another node : {}", job.getName());
+            return null;
+        }
+
+        JobParameters leasedParameters = new JobParametersBuilder(jobParameters)
+                .addLong(LEASE_TOKEN_KEY, lease.getToken(), false)
+                .toJobParameters();
+
+        long renewalPeriod = Math.max(1L, leaseTtl.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(
+                () -> renew(job.getName(), lease), renewalPeriod, renewalPeriod, TimeUnit.MILLISECONDS);
+        try {
+            return jobLauncher.run(job, leasedParameters);
+        } finally {
+            renewal.cancel(false);
+            redisLeaseLock.release(lease);
+        }
+    }
+
+    private void renew(String jobName, Lease lease) {
+        boolean renewed;
+        try {
+            renewed = redisLeaseLock.renew(lease, leaseTtl);
+        } catch (RuntimeException e) {
+            // 일시적인 Redis 오류는 TTL 안에 다음 연장에서 다시 시도
+            log.warn("lease renewal failed : {} , token : {}", lease.getName(), lease.getToken(), e);
+            return;
+        }
+
+        if (!renewed) {
+            // lease 가 만료되어 다른 노드로 넘어갔으므로 이 노드의 실행은 중단한다.
+            log.error("lease lost, stop job : {} , token : {}", jobName, lease.getToken());
+            stopExecutions(jobName, lease.getToken());
+            // 예외를 던지면 이후 연장 스케줄도 취소된다.
+            throw new IllegalStateException("lease lost : " + lease.getName());
+        }
+    }
+
+    private void stopExecutions(String jobName, long token) {
+        for (JobExecution jobExecution : jobExplorer.findRunningJobExecutions(jobName)) {
+            Long executionToken = jobExecution.getJobParameters().getLong(LEASE_TOKEN_KEY);
+            if (executionToken == null || executionToken != token) {
+                continue;
+            }
+            try {
+                jobOperator.stop(jobExecution.getId());
+            } catch (NoSuchJobExecutionException | JobExecutionNotRunningException e) {
+                log.warn("job execution already finished : {}", jobExecution.getId());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+}
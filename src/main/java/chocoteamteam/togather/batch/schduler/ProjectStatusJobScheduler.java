@@ -5,10 +5,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -18,13 +18,17 @@ import java.time.LocalDate;
 @RequiredArgsConstructor
 @Component
 public class ProjectStatusJobScheduler {
-    private final JobLauncher jobLauncher;
+    private final LeasedJobLauncher leasedJobLauncher;
     private final Job changeProjectStatusJob;
 
+    @Value("${batch.project-status.mode:bulk}")
+    private String mode;
+
     @Scheduled(cron = "0 5 0 * * *")
     public void runJob() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
-        jobLauncher.run(changeProjectStatusJob, new JobParametersBuilder()
+        leasedJobLauncher.run(changeProjectStatusJob, new JobParametersBuilder()
                 .addString("nowDate", LocalDate.now().toString())
+                .addString("mode", mode)
                 .toJobParameters());
     }
 
@@ -0,0 +1,30 @@
+package chocoteamteam.togather.batch.schduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.JobParametersInvalidException;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TechStackRollupJobScheduler {
+    private final LeasedJobLauncher leasedJobLauncher;
+    private final Job techStackRollupJob;
+
+    // 매일 실행, 어제 하루치를 집계하고 어제가 속한 주 / 월을 갱신
+    @Scheduled(cron = "0 40 0 * * *")
+    public void runJob() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
+        leasedJobLauncher.run(techStackRollupJob, new JobParametersBuilder()
+                .addString("date", LocalDate.now().minusDays(1).toString())
+                .toJobParameters());
+    }
+}
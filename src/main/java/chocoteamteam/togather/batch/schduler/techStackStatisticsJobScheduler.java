@@ -6,7 +6,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.JobParametersInvalidException;
-import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
@@ -22,14 +21,14 @@ import java.time.temporal.WeekFields;
 @RequiredArgsConstructor
 @Component
 public class techStackStatisticsJobScheduler {
-    private final JobLauncher jobLauncher;
+    private final LeasedJobLauncher leasedJobLauncher;
     private final Job techStackStatisticsJob;
 
     // 월 실행, 지난 주 월 ~ 일 통계
     @Scheduled(cron = "0 30 0 ? * MON")
     public void runJob() throws JobInstanceAlreadyCompleteException, JobExecutionAlreadyRunningException, JobParametersInvalidException, JobRestartException {
         LocalDate now = LocalDate.now();
-        jobLauncher.run(techStackStatisticsJob, new JobParametersBuilder()
+        leasedJobLauncher.run(techStackStatisticsJob, new JobParametersBuilder()
                 .addString("startDate", LocalDateTime.of(now.minusDays(7), LocalTime.MIN).toString())
                 .addString("endDate", LocalDateTime.of(now.minusDays(1), LocalTime.MAX).toString())
                 .addLong("weeks", (long) (now.get(WeekFields.ISO.weekOfYear()) - 1))
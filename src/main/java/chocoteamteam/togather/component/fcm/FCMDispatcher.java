@@ -0,0 +1,252 @@
+package chocoteamteam.togather.component.fcm;
+
+import chocoteamteam.togather.repository.FCMRegistrationTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/*
+ *   FCM 알림 비동기 전송기
+ *   알림을 bounded queue 에 쌓아두고 worker 스레드가 최대 500 개씩 모아
+ *   토큰 조회(Redis 파이프라인 1회)와 FCM batch 전송(HTTP 요청 1회)을 한다.
+ *   일시 장애는 backoff 후 maxAttempts 까지 재시도하고, 무효 토큰은 저장소에서 삭제한다.
+ *   큐에 넣을 때 받은 future 로 알림별 결과를 돌려주며, 큐가 가득 차면 호출 스레드를 막지 않고 RETRY 로 바로 끝낸다.
+ * */
+@Slf4j
+@Component
+public class FCMDispatcher implements MeterBinder {
+
+	private final FCMSender fcmSender;
+	private final FCMRegistrationTokenRepository tokenRepository;
+	private final long lingerMillis;
+	private final int maxAttempts;
+	private final long backoffMillis;
+
+	private final BlockingQueue<PendingNotification> queue;
+	private final ExecutorService worker;
+
+	private final LongAdder sentCount = new LongAdder();
+	private final LongAdder failedCount = new LongAdder();
+	private final LongAdder retryCount = new LongAdder();
+	private final LongAdder invalidCount = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+
+	public FCMDispatcher(FCMSender fcmSender,
+		FCMRegistrationTokenRepository tokenRepository,
+		@Value("${fcm.dispatch.queue-capacity:10000}") int queueCapacity,
+		@Value("${fcm.dispatch.linger-millis:50}") long lingerMillis,
+		@Value("${fcm.dispatch.max-attempts:3}") int maxAttempts,
+		@Value("${fcm.dispatch.backoff-millis:500}") long backoffMillis) {
+		this.fcmSender = fcmSender;
+		this.tokenRepository = tokenRepository;
+		this.lingerMillis = lingerMillis;
+		this.maxAttempts = maxAttempts;
+		this.backoffMillis = backoffMillis;
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.worker = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("fcm-dispatch-"));
+	}
+
+	@PostConstruct
+	public void start() {
+		worker.execute(this::run);
+	}
+
+	/*
+	 *   알림을 큐에 넣고 전송 결과(SENT / FAILED)로 끝나는 future 를 반환한다.
+	 *   큐가 가득 찼거나 종료 중이라 보내지 못한 알림은 RETRY 로 끝난다.
+	 * */
+	public CompletableFuture<FCMSendResult> enqueue(FCMNotification notification) {
+		PendingNotification pending = new PendingNotification(notification, new CompletableFuture<>());
+		if (queue.offer(pending)) {
+			return pending.result;
+		}
+		droppedCount.increment();
+		log.warn("fcm queue is full. drop notification : member id = {}", notification.getMemberId());
+		return CompletableFuture.completedFuture(FCMSendResult.RETRY);
+	}
+
+	public long getSentCount() {
+		return sentCount.sum();
+	}
+
+	public long getFailedCount() {
+		return failedCount.sum();
+	}
+
+	public long getRetryCount() {
+		return retryCount.sum();
+	}
+
+	public long getInvalidCount() {
+		return invalidCount.sum();
+	}
+
+	public long getDroppedCount() {
+		return droppedCount.sum();
+	}
+
+	// fcm.dispatch{result=sent|failed|retry|invalid|dropped}
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("fcm.dispatch", this, FCMDispatcher::getSentCount)
+			.tag("result", "sent")
+			.register(registry);
+		FunctionCounter.builder("fcm.dispatch", this, FCMDispatcher::getFailedCount)
+			.tag("result", "failed")
+			.register(registry);
+		FunctionCounter.builder("fcm.dispatch", this, FCMDispatcher::getRetryCount)
+			.tag("result", "retry")
+			.register(registry);
+		FunctionCounter.builder("fcm.dispatch", this, FCMDispatcher::getInvalidCount)
+			.tag("result", "invalid")
+			.register(registry);
+		FunctionCounter.builder("fcm.dispatch", this, FCMDispatcher::getDroppedCount)
+			.tag("result", "dropped")
+			.register(registry);
+	}
+
+	private void run() {
+		List<PendingNotification> batch = new ArrayList<>(FCMSender.MAX_BATCH_SIZE);
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				batch.add(queue.take());
+				// 잠깐 기다려서 한 번의 요청에 최대한 많이 담는다.
+				if (lingerMillis > 0 && queue.size() < FCMSender.MAX_BATCH_SIZE - 1) {
+					Thread.sleep(lingerMillis);
+				}
+				queue.drainTo(batch, FCMSender.MAX_BATCH_SIZE - 1);
+				dispatchPending(batch);
+				batch.clear();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			// 종료 중에 남은 알림은 호출한 쪽에서 다시 보내도록 RETRY 로 끝낸다.
+			queue.drainTo(batch);
+			batch.forEach(pending -> pending.result.complete(FCMSendResult.RETRY));
+		}
+	}
+
+	private void dispatchPending(List<PendingNotification> batch) throws InterruptedException {
+		List<FCMNotification> notifications = batch.stream()
+			.map(pending -> pending.notification)
+			.collect(Collectors.toList());
+		try {
+			List<FCMSendResult> results = dispatch(notifications);
+			for (int i = 0; i < batch.size(); i++) {
+				batch.get(i).result.complete(results.get(i));
+			}
+		} catch (InterruptedException e) {
+			throw e;
+		} catch (Exception e) {
+			log.error("fcm dispatch failed : {} notifications", batch.size(), e);
+			batch.forEach(pending -> pending.result.complete(FCMSendResult.FAILED));
+		}
+	}
+
+	/*
+	 *   전송(재시도 포함)이 끝날 때 까지 기다린 뒤 알림별 결과를 notifications 와 같은 순서로 반환한다.
+	 *   - SENT : 모든 기기로 전송했거나 보낼 기기가 없음 (토큰 미등록, 무효 토큰만 있는 경우 포함)
+	 *   - FAILED : 재시도 후에도 전송하지 못한 기기가 있음 (다시 보내야 함)
+	 * */
+	public List<FCMSendResult> dispatch(List<FCMNotification> notifications) throws InterruptedException {
+		Set<Long> memberIds = notifications.stream()
+			.map(FCMNotification::getMemberId)
+			.collect(Collectors.toSet());
+		Map<Long, List<String>> tokens = tokenRepository.findAll(memberIds);
+
+		// 회원의 모든 기기로 전송, 같은 알림의 메시지는 붙여두어 multicast 로 묶일 수 있게 한다.
+		List<FCMMessage> messages = new ArrayList<>(notifications.size());
+		List<List<FCMMessage>> messagesByNotification = new ArrayList<>(notifications.size());
+		for (FCMNotification notification : notifications) {
+			List<FCMMessage> notificationMessages = new ArrayList<>();
+			for (String token : tokens.getOrDefault(notification.getMemberId(), List.of())) {
+				notificationMessages.add(new FCMMessage(notification.getMemberId(), token,
+					notification.getTitle(), notification.getBody()));
+			}
+			messages.addAll(notificationMessages);
+			messagesByNotification.add(notificationMessages);
+		}
+
+		Set<FCMMessage> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (int from = 0; from < messages.size(); from += FCMSender.MAX_BATCH_SIZE) {
+			failed.addAll(sendWithRetry(messages.subList(from,
+				Math.min(from + FCMSender.MAX_BATCH_SIZE, messages.size()))));
+		}
+
+		List<FCMSendResult> results = new ArrayList<>(notifications.size());
+		for (List<FCMMessage> notificationMessages : messagesByNotification) {
+			results.add(notificationMessages.stream().anyMatch(failed::contains) ? FCMSendResult.FAILED
+				: FCMSendResult.SENT);
+		}
+		return results;
+	}
+
+	// 끝내 전송하지 못한 메시지 반환
+	private List<FCMMessage> sendWithRetry(List<FCMMessage> messages) throws InterruptedException {
+		List<FCMMessage> failed = new ArrayList<>();
+		List<FCMMessage> pending = messages;
+		for (int attempt = 1; !pending.isEmpty(); attempt++) {
+			List<FCMSendResult> results = fcmSender.send(pending);
+
+			List<FCMMessage> retry = new ArrayList<>();
+			for (int i = 0; i < pending.size(); i++) {
+				FCMMessage message = pending.get(i);
+				FCMSendResult result = results.get(i);
+
+				if (result == FCMSendResult.SENT) {
+					sentCount.increment();
+				} else if (result == FCMSendResult.INVALID_TOKEN) {
+					invalidCount.increment();
+					log.info("delete invalid FCM Token : member id = {}", message.getMemberId());
+					tokenRepository.delete(message.getMemberId(), message.getToken());
+				} else if (result == FCMSendResult.RETRY && attempt < maxAttempts) {
+					retry.add(message);
+				} else {
+					failedCount.increment();
+					failed.add(message);
+					log.warn("fcm send failed : member id = {} , attempts = {}", message.getMemberId(), attempt);
+				}
+			}
+
+			if (!retry.isEmpty()) {
+				retryCount.add(retry.size());
+				Thread.sleep(backoffMillis << (attempt - 1));
+			}
+			pending = retry;
+		}
+		return failed;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		worker.shutdownNow();
+	}
+
+	@AllArgsConstructor
+	private static class PendingNotification {
+
+		private final FCMNotification notification;
+		private final CompletableFuture<FCMSendResult> result;
+	}
+}
@@ -0,0 +1,17 @@
+package chocoteamteam.togather.component.fcm;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ *   FCM 으로 보낼 메시지 (알림 + 받을 기기의 registration token)
+ * */
+@Getter
+@AllArgsConstructor
+public class FCMMessage {
+
+	private final Long memberId;
+	private final String token;
+	private final String title;
+	private final String body;
+}
@@ -0,0 +1,13 @@
+package chocoteamteam.togather.component.fcm;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FCMNotification {
+
+	private final Long memberId;
+	private final String title;
+	private final String body;
+}
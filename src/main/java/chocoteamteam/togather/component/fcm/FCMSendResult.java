@@ -0,0 +1,10 @@
+package chocoteamteam.togather.component.fcm;
+
+public enum FCMSendResult {
+	SENT,
+	// 앱 삭제, 토큰 만료 등으로 더 이상 사용할 수 없는 토큰
+	INVALID_TOKEN,
+	// FCM 서버 과부하, 일시 장애 (다시 보내면 성공할 수 있음)
+	RETRY,
+	FAILED
+}
@@ -0,0 +1,15 @@
+package chocoteamteam.togather.component.fcm;
+
+import java.util.List;
+
+/*
+ *   FCM 전송 추상화 (테스트에서는 가짜 전송기로 바꿔 끼운다.)
+ * */
+public interface FCMSender {
+
+	// FCM 한 번의 batch 요청에 담을 수 있는 최대 메시지 수
+	int MAX_BATCH_SIZE = 500;
+
+	// 결과는 messages 와 같은 순서로 반환
+	List<FCMSendResult> send(List<FCMMessage> messages);
+}
@@ -0,0 +1,117 @@
+package chocoteamteam.togather.component.fcm;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/*
+ *   Firebase Admin SDK 의 sendAll 로 최대 500 개의 메시지를 한 번의 HTTP batch 요청으로 전송
+ *   모든 메시지의 알림 내용이 같으면 sendMulticast 로 알림 하나에 토큰 목록만 담아 보낸다.
+ * */
+@Slf4j
+@Component
+public class FirebaseFCMSender implements FCMSender {
+
+	private static final String INVALID_TOKEN_MESSAGE = "registration token";
+
+	@Override
+	public List<FCMSendResult> send(List<FCMMessage> messages) {
+		try {
+			BatchResponse response = isSameNotification(messages)
+				? FirebaseMessaging.getInstance().sendMulticast(toMulticastMessage(messages))
+				: FirebaseMessaging.getInstance().sendAll(toMessages(messages));
+
+			List<FCMSendResult> results = new ArrayList<>(messages.size());
+			for (SendResponse sendResponse : response.getResponses()) {
+				results.add(sendResponse.isSuccessful() ? FCMSendResult.SENT
+					: toResult(sendResponse.getException()));
+			}
+			return results;
+		} catch (FirebaseMessagingException e) {
+			log.warn("fcm batch request failed : {}", e.getMessage());
+			return Collections.nCopies(messages.size(), toResult(e));
+		}
+	}
+
+	// 한 알림을 여러 기기로 보내는 경우 (한 회원의 여러 기기, 채팅방 참여자 전체)
+	private boolean isSameNotification(List<FCMMessage> messages) {
+		FCMMessage first = messages.get(0);
+		return messages.stream().allMatch(message ->
+			Objects.equals(first.getTitle(), message.getTitle())
+				&& Objects.equals(first.getBody(), message.getBody()));
+	}
+
+	private MulticastMessage toMulticastMessage(List<FCMMessage> messages) {
+		FCMMessage first = messages.get(0);
+		return MulticastMessage.builder()
+			.addAllTokens(messages.stream().map(FCMMessage::getToken).collect(Collectors.toList()))
+			.setNotification(toNotification(first))
+			.build();
+	}
+
+	private List<Message> toMessages(List<FCMMessage> messages) {
+		return messages.stream()
+			.map(message -> Message.builder()
+				.setToken(message.getToken())
+				.setNotification(toNotification(message))
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	private Notification toNotification(FCMMessage message) {
+		return Notification.builder()
+			.setTitle(message.getTitle())
+			.setBody(message.getBody())
+			.build();
+	}
+
+	/*
+	 *   토큰 문제로 확인된 경우만 INVALID_TOKEN 으로 보고 토큰을 지운다.
+	 *   INVALID_ARGUMENT 는 알림 내용(크기 초과 등)이 잘못된 경우에도 오므로 토큰 오류 메시지일 때만 토큰 문제로 본다.
+	 *   일시 장애만 RETRY 로 보내고(FCMDispatcher 가 maxAttempts 까지만 재시도), 나머지는 FAILED 로 끝낸다.
+	 * */
+	private FCMSendResult toResult(FirebaseMessagingException e) {
+		MessagingErrorCode errorCode = e.getMessagingErrorCode();
+		if (errorCode == null) {
+			return isTransient(e.getErrorCode()) ? FCMSendResult.RETRY : FCMSendResult.FAILED;
+		}
+
+		switch (errorCode) {
+			case UNREGISTERED:
+				return FCMSendResult.INVALID_TOKEN;
+			case INVALID_ARGUMENT:
+				return isTokenError(e) ? FCMSendResult.INVALID_TOKEN : FCMSendResult.FAILED;
+			case UNAVAILABLE:
+			case INTERNAL:
+			case QUOTA_EXCEEDED:
+				return FCMSendResult.RETRY;
+			default:
+				return FCMSendResult.FAILED;
+		}
+	}
+
+	// FCM 은 잘못된 토큰에 "The registration token is not a valid FCM registration token" 을 돌려준다.
+	private boolean isTokenError(FirebaseMessagingException e) {
+		return e.getMessage() != null && e.getMessage().toLowerCase().contains(INVALID_TOKEN_MESSAGE);
+	}
+
+	private boolean isTransient(ErrorCode errorCode) {
+		return errorCode == ErrorCode.UNAVAILABLE
+			|| errorCode == ErrorCode.INTERNAL
+			|| errorCode == ErrorCode.DEADLINE_EXCEEDED
+			|| errorCode == ErrorCode.RESOURCE_EXHAUSTED;
+	}
+}
@@ -3,12 +3,10 @@ package chocoteamteam.togather.component.jwt;
 import chocoteamteam.togather.exception.ErrorCode;
 import chocoteamteam.togather.exception.TokenException;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.SignatureException;
 import java.security.Key;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -16,13 +14,14 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtParser {
 
+	// 파서는 불변이고 thread-safe 하므로 키마다 한 번만 만든다.
+	private final Map<Key, io.jsonwebtoken.JwtParser> parsers = new ConcurrentHashMap<>();
+
 	public Claims parseToken(String token, Key secretKey) {
 		Claims claims;
 
 		try {
-			claims = Jwts.parserBuilder()
-				.setSigningKey(secretKey)
-				.build()
+			claims = getParser(secretKey)
 				.parseClaimsJws(token).getBody();
 		} catch (Exception e) {
 			throw new TokenException(ErrorCode.INVALID_TOKEN, e);
@@ -30,4 +29,11 @@ public class JwtParser {
 
 		return claims;
 	}
+
+	private io.jsonwebtoken.JwtParser getParser(Key secretKey) {
+		return parsers.computeIfAbsent(secretKey,
+			key -> Jwts.parserBuilder()
+				.setSigningKey(key)
+				.build());
+	}
 }
@@ -20,6 +20,7 @@ public class JwtUtils {
 	public static final String KEY_STATUS = "status";
 	public static final String KEY_ROLES = "roles";
 	public static final String KEY_PROVIDER = "provider";
+	public static final String KEY_SESSION = "sid";
 
 	@Value("${jwt.secret-key.access}")
 	private String accessKey;
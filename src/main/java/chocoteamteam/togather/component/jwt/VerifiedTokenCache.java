@@ -0,0 +1,112 @@
+package chocoteamteam.togather.component.jwt;
+
+import chocoteamteam.togather.dto.TokenMemberInfo;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ *   서명 검증이 끝난 access token 캐시
+ *   같은 토큰이 반복해서 들어오면 HMAC 검증과 claim 파싱 없이 TokenMemberInfo 를 돌려준다.
+ *   - key 는 토큰 원문이 아닌 SHA-256 digest 를 사용한다.
+ *   - 토큰 만료 시각과 maxTtl 중 빠른 시각까지만 유효하다.
+ *   - maxSize 를 넘으면 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 임의의 항목을 지운다.
+ * */
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+	private final int maxSize;
+	private final long maxTtlMillis;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	public VerifiedTokenCache(
+		@Value("${jwt.verified-cache.max-size:10000}") int maxSize,
+		@Value("${jwt.verified-cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+		this.maxSize = maxSize;
+		this.maxTtlMillis = maxTtlSeconds * 1000;
+	}
+
+	public Optional<TokenMemberInfo> get(String token) {
+		String digest = digest(token);
+		Entry entry = entries.get(digest);
+		if (entry == null) {
+			return Optional.empty();
+		}
+		if (entry.isExpired(System.currentTimeMillis())) {
+			entries.remove(digest, entry);
+			return Optional.empty();
+		}
+		return Optional.of(entry.info);
+	}
+
+	public void put(String token, TokenMemberInfo info) {
+		long now = System.currentTimeMillis();
+		long expiresAt = now + maxTtlMillis;
+		if (info.getExpiration() != null) {
+			expiresAt = Math.min(expiresAt, info.getExpiration().getTime());
+		}
+		if (expiresAt <= now) {
+			return;
+		}
+
+		if (entries.size() >= maxSize) {
+			evict(now);
+		}
+		entries.put(digest(token), new Entry(info, expiresAt));
+	}
+
+	// 회원 정보가 바뀐 경우 해당 회원의 캐시를 모두 제거
+	public void evictMember(Long memberId) {
+		entries.values().removeIf(entry -> memberId.equals(entry.info.getId()));
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	private void evict(long now) {
+		entries.values().removeIf(entry -> entry.isExpired(now));
+
+		// 만료된 항목이 없으면 1/10 을 비운다. (ConcurrentHashMap 순회 순서는 해시 순서이므로 임의 제거)
+		int toRemove = entries.size() - maxSize + Math.max(1, maxSize / 10);
+		Iterator<String> iterator = entries.keySet().iterator();
+		while (toRemove-- > 0 && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private static String digest(String token) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			return Base64.getEncoder().encodeToString(
+				messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static class Entry {
+
+		private final TokenMemberInfo info;
+		private final long expiresAt;
+
+		private Entry(TokenMemberInfo info, long expiresAt) {
+			this.info = info;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package chocoteamteam.togather.component.lock;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ *   RedisLeaseLock 으로 획득한 lease
+ *   token 은 같은 name 에 대해 획득할 때마다 1 씩 증가하는 fencing token 이다.
+ *   token 이 더 큰 lease 가 있다면 이 lease 는 만료되어 다른 노드에 넘어간 것이다.
+ * */
+@Getter
+@AllArgsConstructor
+public class Lease {
+
+	private final String name;
+	private final String owner;
+	private final long token;
+
+	String value() {
+		return owner + RedisLeaseLock.TOKEN_DELIMITER + token;
+	}
+}
@@ -0,0 +1,95 @@
+package chocoteamteam.togather.component.lock;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/*
+ *   Redis 기반 lease lock
+ *   lease:{name} 에 "소유자|token" 을 TTL 과 함께 저장하고, 획득할 때마다 lease:{name}:fence 를 INCR 해서 fencing token 을 발급한다.
+ *   (두 key 는 hash tag 로 같은 slot 에 두어 cluster 에서도 하나의 스크립트로 처리된다.)
+ *   획득 / 연장 / 반납은 Lua 스크립트로 처리해서 다른 노드의 lease 를 연장하거나 지우지 않는다.
+ *   소유자가 죽으면 TTL 이 지나 자동으로 풀리며, 다음 소유자는 더 큰 token 을 받는다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RedisLeaseLock {
+
+	static final String TOKEN_DELIMITER = "|";
+	private static final String KEY_PREFIX = "lease:";
+	private static final String FENCE_SUFFIX = ":fence";
+
+	// 이 서버 프로세스를 구분하는 소유자 id
+	private static final String OWNER = ManagementFactory.getRuntimeMXBean().getName() + ":" + UUID.randomUUID();
+
+	private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('exists', KEYS[1]) == 1 then return nil end "
+			+ "local token = redis.call('incr', KEYS[2]) "
+			+ "redis.call('set', KEYS[1], ARGV[1] .. '" + TOKEN_DELIMITER + "' .. token, 'PX', ARGV[2]) "
+			+ "return token",
+		Long.class);
+
+	private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) end "
+			+ "return 0",
+		Long.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end "
+			+ "return 0",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public Optional<Lease> tryAcquire(String name, Duration ttl) {
+		Long token = redisTemplate.execute(ACQUIRE_SCRIPT,
+			Arrays.asList(key(name), key(name) + FENCE_SUFFIX),
+			OWNER, String.valueOf(ttl.toMillis()));
+
+		if (token == null) {
+			return Optional.empty();
+		}
+		log.debug("lease acquired : {} , token : {}", name, token);
+		return Optional.of(new Lease(name, OWNER, token));
+	}
+
+	// 아직 이 lease 를 가지고 있을 때만 TTL 을 연장
+	public boolean renew(Lease lease, Duration ttl) {
+		Long result = redisTemplate.execute(RENEW_SCRIPT,
+			Collections.singletonList(key(lease.getName())),
+			lease.value(), String.valueOf(ttl.toMillis()));
+		return result != null && result == 1L;
+	}
+
+	public void release(Lease lease) {
+		Long result = redisTemplate.execute(RELEASE_SCRIPT,
+			Collections.singletonList(key(lease.getName())),
+			lease.value());
+		if (result == null || result == 0L) {
+			log.warn("lease already expired or taken : {} , token : {}", lease.getName(), lease.getToken());
+		}
+	}
+
+	// 현재 lease 를 가진 소유자의 token, 아무도 가지고 있지 않으면 empty
+	public Optional<Long> getCurrentToken(String name) {
+		String value = redisTemplate.opsForValue().get(key(name));
+		if (value == null) {
+			return Optional.empty();
+		}
+		return Optional.of(Long.parseLong(value.substring(value.lastIndexOf(TOKEN_DELIMITER) + 1)));
+	}
+
+	private String key(String name) {
+		return KEY_PREFIX + "{" + name + "}";
+	}
+}
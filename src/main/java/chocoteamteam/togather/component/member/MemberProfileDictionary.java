@@ -0,0 +1,114 @@
+package chocoteamteam.togather.component.member;
+
+import chocoteamteam.togather.dto.queryDslSimpleDto.SimpleMemberDto;
+import chocoteamteam.togather.repository.MemberRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ *   회원 표시 정보(닉네임, 프로필 이미지) 메모리 사전
+ *   채팅 메시지 조회 시 member 조인 없이 발신자 정보를 채우기 위해 사용한다.
+ *   회원 정보가 수정되면 버전을 올려, 수정 이전 값으로 읽어온 결과가 다시 캐싱되지 않도록 한다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberProfileDictionary {
+
+	static final int MAXIMUM_SIZE = 10_000;
+
+	private final MemberRepository memberRepository;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChannelTopic memberProfileInvalidationTopic;
+
+	// 접근 순서 LRU, 가득 차면 가장 오래 읽지 않은 회원 하나만 밀어낸다. (profiles 로 동기화)
+	private final Map<Long, SimpleMemberDto> profiles = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, SimpleMemberDto> eldest) {
+			return size() > MAXIMUM_SIZE;
+		}
+	};
+	private final AtomicLong version = new AtomicLong();
+
+	public Map<Long, SimpleMemberDto> getAll(Collection<Long> memberIds) {
+		Map<Long, SimpleMemberDto> result = new HashMap<>();
+		List<Long> missIds = new ArrayList<>();
+
+		synchronized (profiles) {
+			for (Long memberId : memberIds) {
+				SimpleMemberDto profile = profiles.get(memberId);
+				if (profile != null) {
+					result.put(memberId, profile);
+				} else {
+					missIds.add(memberId);
+				}
+			}
+		}
+
+		if (!missIds.isEmpty()) {
+			long loadVersion = version.get();
+			for (SimpleMemberDto profile : memberRepository.findAllSimpleMemberDtoByIdIn(missIds)) {
+				result.put(profile.getId(), profile);
+				cache(profile, loadVersion);
+			}
+		}
+
+		return result;
+	}
+
+	private void cache(SimpleMemberDto profile, long loadVersion) {
+		synchronized (profiles) {
+			// 조회 도중 회원 정보가 수정됐다면 이전 값일 수 있으므로 캐싱하지 않음
+			if (version.get() == loadVersion) {
+				profiles.put(profile.getId(), profile);
+			}
+		}
+	}
+
+	// 트랜잭션 커밋 후 모든 서버에 무효화 전파
+	public void invalidate(long memberId) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						publishInvalidation(memberId);
+					}
+				});
+			return;
+		}
+
+		publishInvalidation(memberId);
+	}
+
+	private void publishInvalidation(long memberId) {
+		evict(memberId);
+		redisTemplate.convertAndSend(memberProfileInvalidationTopic.getTopic(),
+			String.valueOf(memberId));
+	}
+
+	public void evict(long memberId) {
+		synchronized (profiles) {
+			version.incrementAndGet();
+			profiles.remove(memberId);
+		}
+	}
+
+	int size() {
+		synchronized (profiles) {
+			return profiles.size();
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package chocoteamteam.togather.component.member;
+
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberProfileInvalidationListener implements MessageListener {
+
+	private final MemberProfileDictionary memberProfileDictionary;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+		try {
+			memberProfileDictionary.evict(Long.parseLong(body));
+		} catch (NumberFormatException e) {
+			log.warn("invalid member profile invalidation message : {}", body);
+		}
+	}
+}
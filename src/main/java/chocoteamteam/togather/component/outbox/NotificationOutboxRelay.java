@@ -0,0 +1,235 @@
+package chocoteamteam.togather.component.outbox;
+
+import chocoteamteam.togather.component.fcm.FCMDispatcher;
+import chocoteamteam.togather.component.fcm.FCMNotification;
+import chocoteamteam.togather.component.fcm.FCMSendResult;
+import chocoteamteam.togather.component.lock.Lease;
+import chocoteamteam.togather.component.lock.RedisLeaseLock;
+import chocoteamteam.togather.entity.NotificationOutbox;
+import chocoteamteam.togather.repository.NotificationOutboxRepository;
+import chocoteamteam.togather.type.OutboxStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+/*
+ *   알림 outbox 전송기
+ *   커밋 직후(wake) 와 주기적인 polling 으로 PENDING 알림을 batchSize 개씩 읽어 FCMDispatcher 의 큐로 넘기고,
+ *   알림별 전송 결과를 받아 상태를 바꾼다.
+ *   전송이 끝난 뒤에 SENT 로 바꾸므로 서버가 중간에 죽어도 다음 polling 에서 다시 보낸다. (at-least-once)
+ *   읽기는 Redis lease 를 잡은 노드의 단일 스레드에서만 하므로 여러 서버가 같은 알림을 동시에 읽지 않는다.
+ *   lease 를 잡지 못한 노드는 건너뛰며, 그 사이 쌓인 알림은 lease 를 가진 노드나 다음 polling 에서 보낸다.
+ * */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+	private static final String LEASE_NAME = "notification:outbox:relay";
+
+	private final NotificationOutboxRepository outboxRepository;
+	private final FCMDispatcher fcmDispatcher;
+	private final RedisLeaseLock redisLeaseLock;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration leaseTtl;
+	private final Duration dispatchTimeout;
+
+	private final ExecutorService executor;
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+
+	public NotificationOutboxRelay(NotificationOutboxRepository outboxRepository,
+		FCMDispatcher fcmDispatcher,
+		RedisLeaseLock redisLeaseLock,
+		@Value("${outbox.relay.batch-size:500}") int batchSize,
+		@Value("${outbox.relay.max-attempts:5}") int maxAttempts,
+		@Value("${outbox.relay.lease-ttl-millis:30000}") long leaseTtlMillis,
+		@Value("${outbox.relay.dispatch-timeout-millis:20000}") long dispatchTimeoutMillis) {
+		this.outboxRepository = outboxRepository;
+		this.fcmDispatcher = fcmDispatcher;
+		this.redisLeaseLock = redisLeaseLock;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.leaseTtl = Duration.ofMillis(leaseTtlMillis);
+		this.dispatchTimeout = Duration.ofMillis(dispatchTimeoutMillis);
+		this.executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("outbox-relay-"));
+	}
+
+	// 이미 전송이 예약되어 있으면 그 전송이 새 알림까지 읽으므로 다시 예약하지 않는다.
+	public void wake() {
+		if (scheduled.compareAndSet(false, true)) {
+			executor.execute(() -> {
+				scheduled.set(false);
+				relay();
+			});
+		}
+	}
+
+	// 커밋 후 전송에 실패했거나 전송 전에 서버가 종료된 알림 처리
+	@Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:10000}")
+	public void poll() {
+		wake();
+	}
+
+	@Scheduled(cron = "${outbox.relay.purge-cron:0 0 4 * * *}")
+	public void purge() {
+		int deleted = outboxRepository.deleteAllByStatusAndUpdatedAtBefore(OutboxStatus.SENT,
+			LocalDateTime.now().minusDays(1));
+		log.info("purge sent notification outbox : {}", deleted);
+	}
+
+	void relay() {
+		Lease lease;
+		try {
+			lease = redisLeaseLock.tryAcquire(LEASE_NAME, leaseTtl).orElse(null);
+		} catch (Exception e) {
+			log.error("notification outbox lease acquire failed", e);
+			return;
+		}
+		if (lease == null) {
+			log.info("skip notification outbox relay, lease is held by another node");
+			return;
+		}
+
+		try {
+			relay(lease);
+		} finally {
+			try {
+				redisLeaseLock.release(lease);
+			} catch (Exception e) {
+				// 반납하지 못해도 TTL 이 지나면 풀린다.
+				log.warn("notification outbox lease release failed : {}", lease.getToken(), e);
+			}
+		}
+	}
+
+	private void relay(Lease lease) {
+		long lastId = 0L;
+		while (true) {
+			// batch 전송 시간이 TTL 보다 짧으므로 batch 마다 연장하고, 잃었으면 다른 노드에 넘긴다.
+			if (!renew(lease)) {
+				log.warn("notification outbox lease lost : {}", lease.getToken());
+				return;
+			}
+
+			List<NotificationOutbox> events;
+			try {
+				events = outboxRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+					OutboxStatus.PENDING, lastId, PageRequest.of(0, batchSize));
+			} catch (Exception e) {
+				log.error("notification outbox read failed", e);
+				return;
+			}
+			if (events.isEmpty()) {
+				return;
+			}
+
+			lastId = events.get(events.size() - 1).getId();
+			if (!send(events) || events.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	private boolean renew(Lease lease) {
+		try {
+			return redisLeaseLock.renew(lease, leaseTtl);
+		} catch (Exception e) {
+			log.warn("notification outbox lease renewal failed : {}", lease.getToken(), e);
+			return false;
+		}
+	}
+
+	/*
+	 *   FCMDispatcher 의 큐에 넘기고 batch 의 결과가 모두 나올 때 까지 기다린다.
+	 *   기다리는 동안 lease 를 연장하지 않으므로 dispatchTimeout 은 lease TTL 보다 짧아야 한다.
+	 *   제한 시간을 넘기거나 큐가 가득 차서 넘기지 못한 알림은 시도 횟수를 늘리지 않고 PENDING 으로 남긴다.
+	 * */
+	private boolean send(List<NotificationOutbox> events) {
+		List<CompletableFuture<FCMSendResult>> futures = events.stream()
+			.map(event -> fcmDispatcher.enqueue(
+				new FCMNotification(event.getMemberId(), event.getTitle(), event.getBody())))
+			.collect(Collectors.toList());
+
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+				.get(dispatchTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (TimeoutException | ExecutionException e) {
+			log.warn("notification outbox relay timed out : {} events", events.size());
+			return false;
+		}
+
+		// 보내지 못한 기기가 있는 알림만 다시 시도한다.
+		List<Long> sentIds = new ArrayList<>();
+		List<NotificationOutbox> failedEvents = new ArrayList<>();
+		boolean handedOff = true;
+		for (int i = 0; i < events.size(); i++) {
+			FCMSendResult result = futures.get(i).join();
+			if (result == FCMSendResult.SENT) {
+				sentIds.add(events.get(i).getId());
+			} else if (result == FCMSendResult.RETRY) {
+				handedOff = false;
+			} else {
+				failedEvents.add(events.get(i));
+			}
+		}
+
+		if (!sentIds.isEmpty()) {
+			outboxRepository.updateStatusByIdIn(sentIds, OutboxStatus.SENT, LocalDateTime.now());
+		}
+		if (!failedEvents.isEmpty()) {
+			log.warn("notification outbox relay failed : {} events", failedEvents.size());
+			markFailed(failedEvents);
+		}
+		// 큐가 가득 찼으면 다음 polling 까지 더 읽지 않는다.
+		return handedOff;
+	}
+
+	// 최대 시도 횟수에 도달한 알림은 FAILED, 나머지는 PENDING 으로 남겨 다음 polling 에서 다시 보낸다.
+	private void markFailed(List<NotificationOutbox> events) {
+		List<Long> retryIds = new ArrayList<>();
+		List<Long> failedIds = new ArrayList<>();
+		for (NotificationOutbox event : events) {
+			if (event.getAttempts() + 1 >= maxAttempts) {
+				failedIds.add(event.getId());
+			} else {
+				retryIds.add(event.getId());
+			}
+		}
+
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			if (!retryIds.isEmpty()) {
+				outboxRepository.updateStatusByIdIn(retryIds, OutboxStatus.PENDING, now);
+			}
+			if (!failedIds.isEmpty()) {
+				outboxRepository.updateStatusByIdIn(failedIds, OutboxStatus.FAILED, now);
+			}
+		} catch (Exception e) {
+			log.error("notification outbox status update failed", e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
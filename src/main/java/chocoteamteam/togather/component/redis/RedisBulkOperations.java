@@ -0,0 +1,103 @@
+package chocoteamteam.togather.component.redis;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+/*
+ *   여러 회원의 값을 한 번의 파이프라인으로 조회
+ *   key 는 "prefix + 회원 id" 형식이고, 너무 큰 파이프라인이 되지 않도록 CHUNK_SIZE 씩 나눠 보낸다.
+ *   파이프라인 전체 소요 시간은 redis.pipeline{operation} 으로 기록된다.
+ * */
+@Slf4j
+@Component
+public class RedisBulkOperations {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final Timer multiGetTimer;
+	private final Timer multiGetHashTimer;
+
+	public RedisBulkOperations(RedisTemplate<String, String> redisTemplate,
+		MeterRegistry meterRegistry) {
+		this.redisTemplate = redisTemplate;
+		this.multiGetTimer = pipelineTimer(meterRegistry, "multiGet");
+		this.multiGetHashTimer = pipelineTimer(meterRegistry, "multiGetHash");
+	}
+
+	// 값이 없는 id 는 결과에 포함되지 않는다.
+	public Map<Long, String> multiGet(String keyPrefix, Collection<Long> ids) {
+		Map<Long, String> result = new HashMap<>();
+
+		execute(multiGetTimer, ids,
+			(operations, id) -> operations.opsForValue().get(keyPrefix + id),
+			(id, value) -> {
+				if (value != null) {
+					result.put(id, (String) value);
+				}
+			});
+
+		return result;
+	}
+
+	// hash 가 없는 id 는 결과에 포함되지 않는다.
+	@SuppressWarnings("unchecked")
+	public Map<Long, Map<String, String>> multiGetHash(String keyPrefix, Collection<Long> ids) {
+		Map<Long, Map<String, String>> result = new HashMap<>();
+
+		execute(multiGetHashTimer, ids,
+			(operations, id) -> operations.opsForHash().entries(keyPrefix + id),
+			(id, value) -> {
+				Map<String, String> entries = (Map<String, String>) value;
+				if (entries != null && !entries.isEmpty()) {
+					result.put(id, entries);
+				}
+			});
+
+		return result;
+	}
+
+	private void execute(Timer timer, Collection<Long> ids,
+		BiConsumer<RedisOperations<String, String>, Long> command,
+		BiConsumer<Long, Object> resultConsumer) {
+		List<Long> idList = new ArrayList<>(ids);
+
+		for (int from = 0; from < idList.size(); from += CHUNK_SIZE) {
+			List<Long> chunk = idList.subList(from, Math.min(from + CHUNK_SIZE, idList.size()));
+
+			List<Object> values = timer.record(() -> redisTemplate.executePipelined(
+				new SessionCallback<Object>() {
+					@Override
+					@SuppressWarnings("unchecked")
+					public Object execute(RedisOperations operations) throws DataAccessException {
+						for (Long id : chunk) {
+							command.accept(operations, id);
+						}
+						return null;
+					}
+				}));
+
+			for (int i = 0; i < chunk.size(); i++) {
+				resultConsumer.accept(chunk.get(i), values.get(i));
+			}
+		}
+	}
+
+	private static Timer pipelineTimer(MeterRegistry meterRegistry, String operation) {
+		return Timer.builder("redis.pipeline")
+			.tag("operation", operation)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,45 @@
+package chocoteamteam.togather.component.revocation;
+
+import chocoteamteam.togather.component.jwt.VerifiedTokenCache;
+import chocoteamteam.togather.component.stomp.StompSessionRegistry;
+import chocoteamteam.togather.type.MemberStatus;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/*
+ *   "회원 id" (로그아웃) 또는 "회원 id:상태:변경 시각" (상태 변경) 메시지 처리
+ *   검증 캐시에 남아 있는 해당 회원의 access token 정보도 함께 제거한다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberRevocationListener implements MessageListener {
+
+	private final StompSessionRegistry stompSessionRegistry;
+	private final MemberStatusRegistry memberStatusRegistry;
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+		try {
+			String[] values = body.split(":");
+			long memberId = Long.parseLong(values[0]);
+
+			if (values.length == 3) {
+				memberStatusRegistry.apply(memberId, MemberStatus.valueOf(values[1]),
+					Long.parseLong(values[2]));
+			}
+
+			verifiedTokenCache.evictMember(memberId);
+			stompSessionRegistry.revoke(memberId);
+		} catch (IllegalArgumentException e) {
+			log.warn("invalid member revocation message : {}", body);
+		}
+	}
+}
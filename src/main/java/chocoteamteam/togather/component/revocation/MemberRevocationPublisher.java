@@ -0,0 +1,55 @@
+package chocoteamteam.togather.component.revocation;
+
+import chocoteamteam.togather.type.MemberStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ *   회원 상태 변경, 로그아웃 시 Redis 채널로 강제 종료 대상 회원 id 발행
+ *   모든 서버가 구독하고 있으므로 회원이 어느 서버에 접속해 있든 즉시 끊을 수 있다.
+ *   상태 변경인 경우 "회원 id:상태:변경 시각" 을 발행해 각 서버의 MemberStatusRegistry 에도 반영한다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberRevocationPublisher {
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ChannelTopic memberRevocationTopic;
+	private final MemberStatusRegistry memberStatusRegistry;
+
+	public void publish(long memberId) {
+		log.info("publish member revocation. member id : {}", memberId);
+		redisTemplate.convertAndSend(memberRevocationTopic.getTopic(), String.valueOf(memberId));
+	}
+
+	// 트랜잭션 커밋 후 발행 (롤백된 상태 변경이 전파되지 않도록)
+	public void publish(long memberId, MemberStatus status) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						publishStatus(memberId, status);
+					}
+				});
+			return;
+		}
+
+		publishStatus(memberId, status);
+	}
+
+	private void publishStatus(long memberId, MemberStatus status) {
+		long changedAtMillis = System.currentTimeMillis();
+		log.info("publish member status. member id : {} , status : {}", memberId, status);
+
+		memberStatusRegistry.save(memberId, status, changedAtMillis);
+		redisTemplate.convertAndSend(memberRevocationTopic.getTopic(),
+			memberId + ":" + MemberStatusRegistry.format(status, changedAtMillis));
+	}
+}
@@ -0,0 +1,129 @@
+package chocoteamteam.togather.component.revocation;
+
+import chocoteamteam.togather.type.MemberStatus;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/*
+ *   상태가 변경된 회원의 최신 상태 메모리 사본 (회원 id -> 상태, 변경 시각)
+ *   access token 안의 status claim 은 발급 시점 값이므로, 최근 상태가 바뀐 회원은 이 값을 우선한다.
+ *   - 원본은 Redis hash 에 두고, 서버 시작 시 읽어온 뒤 memberRevocation 채널로 변경분을 받는다.
+ *   - 변경 후 access token 유효시간이 지나면 이전 토큰이 모두 만료되므로 항목을 버린다. (저장할 때 함께 정리)
+ * */
+@Slf4j
+@Component
+public class MemberStatusRegistry {
+
+	public static final String MEMBER_STATUS_KEY = "member:status";
+	private static final String DELIMITER = ":";
+
+	// 상태 저장 후 access token 유효시간이 지난 항목 정리 (상태 변경은 드물어서 hash 크기는 작게 유지된다.)
+	static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) "
+			+ "local fields = redis.call('hgetall', KEYS[1]) "
+			+ "for i = 1, #fields, 2 do "
+			+ "  local changedAt = tonumber(string.match(fields[i + 1], '" + DELIMITER + "(%d+)$')) "
+			+ "  if changedAt == nil or changedAt <= tonumber(ARGV[3]) then redis.call('hdel', KEYS[1], fields[i]) end "
+			+ "end "
+			+ "return 1",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final long retentionMillis;
+
+	private final Map<Long, StatusEntry> statuses = new ConcurrentHashMap<>();
+
+	public MemberStatusRegistry(RedisTemplate<String, String> redisTemplate,
+		@Value("${jwt.expired-min.access}") int accessTokenExpiredMin) {
+		this.redisTemplate = redisTemplate;
+		this.retentionMillis = accessTokenExpiredMin * 60_000L;
+	}
+
+	// 최근 상태가 변경된 회원이면 변경된 상태, 아니면 토큰의 상태를 반환
+	public MemberStatus getStatus(Long memberId, MemberStatus tokenStatus) {
+		StatusEntry entry = statuses.get(memberId);
+		if (entry == null) {
+			return tokenStatus;
+		}
+
+		if (entry.isStale(System.currentTimeMillis(), retentionMillis)) {
+			statuses.remove(memberId, entry);
+			return tokenStatus;
+		}
+
+		return entry.status;
+	}
+
+	// 늦게 도착한 이전 변경은 무시
+	public void apply(long memberId, MemberStatus status, long changedAtMillis) {
+		statuses.merge(memberId, new StatusEntry(status, changedAtMillis),
+			(current, changed) -> changed.changedAtMillis >= current.changedAtMillis ? changed
+				: current);
+	}
+
+	public void save(long memberId, MemberStatus status, long changedAtMillis) {
+		apply(memberId, status, changedAtMillis);
+		long now = System.currentTimeMillis();
+		statuses.values().removeIf(entry -> entry.isStale(now, retentionMillis));
+
+		redisTemplate.execute(SAVE_SCRIPT, Collections.singletonList(MEMBER_STATUS_KEY),
+			String.valueOf(memberId), format(status, changedAtMillis), String.valueOf(now - retentionMillis));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		try {
+			long now = System.currentTimeMillis();
+			Map<Object, Object> entries = redisTemplate.opsForHash().entries(MEMBER_STATUS_KEY);
+
+			for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+				String memberId = (String) entry.getKey();
+				String[] values = ((String) entry.getValue()).split(DELIMITER);
+				long changedAtMillis = Long.parseLong(values[1]);
+
+				if (now - changedAtMillis >= retentionMillis) {
+					redisTemplate.opsForHash().delete(MEMBER_STATUS_KEY, memberId);
+					continue;
+				}
+				apply(Long.parseLong(memberId), MemberStatus.valueOf(values[0]), changedAtMillis);
+			}
+
+			log.info("member status registry loaded : {} members", statuses.size());
+		} catch (DataAccessException e) {
+			log.warn("member status registry load failed", e);
+		}
+	}
+
+	public int size() {
+		return statuses.size();
+	}
+
+	public static String format(MemberStatus status, long changedAtMillis) {
+		return status.name() + DELIMITER + changedAtMillis;
+	}
+
+	private static class StatusEntry {
+
+		private final MemberStatus status;
+		private final long changedAtMillis;
+
+		private StatusEntry(MemberStatus status, long changedAtMillis) {
+			this.status = status;
+			this.changedAtMillis = changedAtMillis;
+		}
+
+		private boolean isStale(long now, long retentionMillis) {
+			return now - changedAtMillis >= retentionMillis;
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package chocoteamteam.togather.component.s3;
+
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/*
+ *   multipart upload 의 한 part 구간 [offset, offset + length) 만 읽는 스트림
+ *   원본 스트림을 offset 까지 건너뛴 뒤 length 바이트까지만 읽고, close 하면 원본도 닫는다.
+ * */
+class PartInputStream extends FilterInputStream {
+
+	private long remaining;
+	private long markedRemaining;
+
+	PartInputStream(InputStream in, long offset, long length) throws IOException {
+		super(in);
+		try {
+			skipFully(in, offset);
+		} catch (IOException e) {
+			in.close();
+			throw e;
+		}
+		this.remaining = length;
+		this.markedRemaining = length;
+	}
+
+	// InputStream.skip 은 요청보다 적게 건너뛸 수 있으므로 끝까지 반복한다.
+	private static void skipFully(InputStream in, long offset) throws IOException {
+		long left = offset;
+		while (left > 0) {
+			long skipped = in.skip(left);
+			if (skipped > 0) {
+				left -= skipped;
+			} else if (in.read() >= 0) {
+				left--;
+			} else {
+				throw new EOFException("stream ended before part offset : " + offset);
+			}
+		}
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (remaining <= 0) {
+			return -1;
+		}
+		int b = in.read();
+		if (b >= 0) {
+			remaining--;
+		}
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0) {
+			return 0;
+		}
+		if (remaining <= 0) {
+			return -1;
+		}
+		int read = in.read(b, off, (int) Math.min(len, remaining));
+		if (read > 0) {
+			remaining -= read;
+		}
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = in.skip(Math.min(n, remaining));
+		remaining -= skipped;
+		return skipped;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return (int) Math.min(in.available(), remaining);
+	}
+
+	@Override
+	public synchronized void mark(int readlimit) {
+		in.mark(readlimit);
+		markedRemaining = remaining;
+	}
+
+	@Override
+	public synchronized void reset() throws IOException {
+		in.reset();
+		remaining = markedRemaining;
+	}
+}
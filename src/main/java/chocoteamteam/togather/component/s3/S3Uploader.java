@@ -0,0 +1,126 @@
+package chocoteamteam.togather.component.s3;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/*
+ *   S3 업로드
+ *   MultipartFile.getSize() 로 Content-Length 를 지정해 SDK 가 스트림 전체를 메모리에 올리지 않고 그대로 전송하게 한다.
+ *   multipartThreshold 이상인 파일은 partSize 단위로 나눠 parallelism 개의 스레드로 동시에 올린다.
+ *   (part 마다 getInputStream() 으로 새 스트림을 열어 자기 구간만 읽는다.)
+ * */
+@Slf4j
+@Component
+public class S3Uploader {
+
+	// S3 multipart 의 마지막 part 를 제외한 최소 크기
+	private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+	private final AmazonS3 amazonS3;
+	private final long multipartThreshold;
+	private final long partSize;
+	private final ExecutorService executor;
+
+	public S3Uploader(AmazonS3 amazonS3,
+		@Value("${cloud.aws.s3.multipart-threshold-bytes:16777216}") long multipartThreshold,
+		@Value("${cloud.aws.s3.part-size-bytes:8388608}") long partSize,
+		@Value("${cloud.aws.s3.upload-parallelism:4}") int parallelism) {
+		this.amazonS3 = amazonS3;
+		this.partSize = Math.max(partSize, MIN_PART_SIZE);
+		this.multipartThreshold = Math.max(multipartThreshold, this.partSize);
+		this.executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("s3-upload-"));
+	}
+
+	public void upload(String bucket, String key, MultipartFile file) throws IOException {
+		long size = file.getSize();
+		ObjectMetadata objectMetadata = new ObjectMetadata();
+		objectMetadata.setContentType(file.getContentType());
+
+		if (size < multipartThreshold) {
+			objectMetadata.setContentLength(size);
+			try (InputStream inputStream = file.getInputStream()) {
+				amazonS3.putObject(bucket, key, inputStream, objectMetadata);
+			}
+			return;
+		}
+
+		uploadMultipart(bucket, key, file, size, objectMetadata);
+	}
+
+	private void uploadMultipart(String bucket, String key, MultipartFile file, long size,
+		ObjectMetadata objectMetadata) throws IOException {
+		String uploadId = amazonS3.initiateMultipartUpload(
+			new InitiateMultipartUploadRequest(bucket, key, objectMetadata)).getUploadId();
+
+		List<Future<PartETag>> futures = new ArrayList<>();
+		int partNumber = 1;
+		for (long offset = 0; offset < size; offset += partSize, partNumber++) {
+			long length = Math.min(partSize, size - offset);
+			UploadPartRequest request = new UploadPartRequest()
+				.withBucketName(bucket)
+				.withKey(key)
+				.withUploadId(uploadId)
+				.withPartNumber(partNumber)
+				.withPartSize(length)
+				.withLastPart(offset + length >= size);
+			long partOffset = offset;
+			futures.add(executor.submit(() -> uploadPart(file, request, partOffset)));
+		}
+
+		try {
+			List<PartETag> partETags = new ArrayList<>(futures.size());
+			for (Future<PartETag> future : futures) {
+				partETags.add(future.get());
+			}
+			amazonS3.completeMultipartUpload(
+				new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			abort(bucket, key, uploadId, futures);
+			throw new IOException("multipart upload interrupted", e);
+		} catch (ExecutionException | RuntimeException e) {
+			abort(bucket, key, uploadId, futures);
+			throw new IOException("multipart upload failed : " + key, e);
+		}
+	}
+
+	private PartETag uploadPart(MultipartFile file, UploadPartRequest request, long offset) throws IOException {
+		try (InputStream inputStream = new PartInputStream(file.getInputStream(), offset,
+			request.getPartSize())) {
+			return amazonS3.uploadPart(request.withInputStream(inputStream)).getPartETag();
+		}
+	}
+
+	private void abort(String bucket, String key, String uploadId, List<Future<PartETag>> futures) {
+		futures.forEach(future -> future.cancel(true));
+		try {
+			amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+		} catch (RuntimeException e) {
+			log.warn("multipart upload abort failed : key = {} , upload id = {}", key, uploadId, e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -3,6 +3,7 @@ package chocoteamteam.togather.component.security;
 import static chocoteamteam.togather.component.jwt.JwtUtils.BEARER_PREFIX;
 import static chocoteamteam.togather.exception.ErrorCode.*;
 
+import chocoteamteam.togather.component.revocation.MemberStatusRegistry;
 import chocoteamteam.togather.dto.LoginMember;
 import chocoteamteam.togather.exception.MemberException;
 import chocoteamteam.togather.exception.TokenException;
@@ -28,6 +29,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtService jwtService;
+	private final MemberStatusRegistry memberStatusRegistry;
 
 	@Override
 	public void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -44,7 +46,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 				LoginMember loginMember = LoginMember.from(jwtService.parseAccessToken(token));
 
-				validateStatus(loginMember.getStatus());
+				// 토큰 발급 후 상태가 바뀐 회원은 메모리에 있는 최신 상태로 확인
+				validateStatus(memberStatusRegistry.getStatus(loginMember.getId(),
+					loginMember.getStatus()));
 
 				saveLoginMemberInSecurityContext(loginMember);
 
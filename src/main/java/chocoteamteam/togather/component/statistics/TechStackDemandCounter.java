@@ -0,0 +1,223 @@
+package chocoteamteam.togather.component.statistics;
+
+import chocoteamteam.togather.batch.application.model.TechStatisticsDto;
+import chocoteamteam.togather.repository.ProjectTechStackRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ *   기술 스택별 프로젝트 수 실시간 집계
+ *   프로젝트 생성/수정/삭제 시 서버 메모리의 LongAdder 에 변화량만 더해두고,
+ *   주기적으로 Redis hash 에 HINCRBY 로 합쳐서 모든 서버가 같은 값을 보도록 한다.
+ *
+ *   초기값은 DB 전체 집계로 채우며, hash 와 seeded 표시(집계 시작 시각)를 하나의 Lua 스크립트로 함께 저장한다.
+ *   seeded 표시가 생기기 전의 변화량은 Redis 에 반영하지 않고 커밋 시각과 함께 모아두었다가,
+ *   초기 집계 이후에 커밋된 것만 반영한다. (그 전의 변화는 이미 DB 집계에 포함되어 있다.)
+ *   두 key 는 hash tag 로 같은 slot 에 둔다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TechStackDemandCounter {
+
+	public static final String KEY = "{techStackDemand}";
+	public static final String SEEDED_KEY = KEY + ":seeded";
+
+	// seeded 표시가 없을 때만 hash 를 초기값으로 덮어쓰고 표시를 남긴다. 반환값은 실제로 저장된 집계 시작 시각
+	static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+		"local seededAt = redis.call('get', KEYS[2]) "
+			+ "if seededAt then return tonumber(seededAt) end "
+			+ "redis.call('del', KEYS[1]) "
+			+ "for i = 2, #ARGV, 2 do redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+			+ "redis.call('set', KEYS[2], ARGV[1]) "
+			+ "return tonumber(ARGV[1])",
+		Long.class);
+
+	// 초기값이 채워지기 전에는 반영하지 않는다. (0 반환)
+	static final RedisScript<Long> FLUSH_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('exists', KEYS[2]) == 0 then return 0 end "
+			+ "for i = 1, #ARGV, 2 do redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+			+ "return 1",
+		Long.class);
+
+	private static final long UNSEEDED = -1L;
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ProjectTechStackRepository projectTechStackRepository;
+
+	// 아직 Redis 에 반영되지 않은 변화량
+	private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+	// 초기값 확인 전에 커밋된 변화
+	private final Queue<UnseededChange> unseededChanges = new ConcurrentLinkedQueue<>();
+	private volatile long seededAt = UNSEEDED;
+
+	public void increment(Collection<Long> techStackIds) {
+		add(techStackIds, 1L);
+	}
+
+	public void decrement(Collection<Long> techStackIds) {
+		add(techStackIds, -1L);
+	}
+
+	// 트랜잭션이 커밋된 경우에만 반영
+	private void add(Collection<Long> techStackIds, long delta) {
+		if (techStackIds.isEmpty()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						addPending(techStackIds, delta);
+					}
+				});
+			return;
+		}
+
+		addPending(techStackIds, delta);
+	}
+
+	private void addPending(Collection<Long> techStackIds, long delta) {
+		if (seededAt == UNSEEDED) {
+			unseededChanges.add(new UnseededChange(System.currentTimeMillis(), List.copyOf(techStackIds), delta));
+			return;
+		}
+		addDeltas(techStackIds, delta);
+	}
+
+	private void addDeltas(Collection<Long> techStackIds, long delta) {
+		for (Long techStackId : techStackIds) {
+			pendingDeltas.computeIfAbsent(techStackId, id -> new LongAdder()).add(delta);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${statistics.tech-stack-demand.flush-interval-ms:5000}")
+	public void flush() {
+		if (seededAt == UNSEEDED && !seed()) {
+			return;
+		}
+		drainUnseededChanges();
+
+		Map<Long, Long> deltas = new HashMap<>();
+		pendingDeltas.forEach((techStackId, adder) -> {
+			long delta = adder.sumThenReset();
+			if (delta != 0) {
+				deltas.put(techStackId, delta);
+			}
+		});
+		if (deltas.isEmpty()) {
+			return;
+		}
+
+		List<String> args = new ArrayList<>(deltas.size() * 2);
+		deltas.forEach((techStackId, delta) -> {
+			args.add(String.valueOf(techStackId));
+			args.add(String.valueOf(delta));
+		});
+
+		boolean flushed = false;
+		try {
+			flushed = Long.valueOf(1L).equals(redisTemplate.execute(FLUSH_SCRIPT, List.of(KEY, SEEDED_KEY),
+				args.toArray()));
+			if (!flushed) {
+				log.warn("tech stack demand flush skipped, counter is not seeded");
+			}
+		} catch (Exception e) {
+			log.warn("tech stack demand flush failed : {}", e.getMessage());
+		}
+		if (!flushed) {
+			// 다음 주기에 다시 반영
+			deltas.forEach((techStackId, delta) -> addDeltas(List.of(techStackId), delta));
+		}
+	}
+
+	// 초기 집계 이후에 커밋된 변화만 반영하고, 그 전의 변화는 초기값에 포함되어 있으므로 버린다.
+	private void drainUnseededChanges() {
+		UnseededChange change;
+		while ((change = unseededChanges.poll()) != null) {
+			if (change.committedAt >= seededAt) {
+				addDeltas(change.techStackIds, change.delta);
+			}
+		}
+	}
+
+	/*
+	 *   Redis 에 반영된 값 + 이 서버에서 아직 반영하지 않은 변화량
+	 * */
+	public Map<Long, Long> getCounts() {
+		Map<Long, Long> counts = new HashMap<>();
+		redisTemplate.<String, String>opsForHash().entries(KEY)
+			.forEach((techStackId, count) -> counts.put(Long.valueOf(techStackId), Long.valueOf(count)));
+		pendingDeltas.forEach((techStackId, adder) -> counts.merge(techStackId, adder.sum(), Long::sum));
+		return counts;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		seed();
+	}
+
+	/*
+	 *   이미 초기값이 있으면 그 집계 시작 시각을 읽고, 없으면 DB 전체 집계로 채운다.
+	 *   여러 서버가 동시에 채워도 스크립트가 먼저 실행된 한 서버의 값만 남긴다.
+	 *   실패하면 false 를 반환하고 다음 flush 에서 다시 시도한다.
+	 * */
+	private boolean seed() {
+		try {
+			String stored = redisTemplate.opsForValue().get(SEEDED_KEY);
+			if (stored != null) {
+				seededAt = Long.parseLong(stored);
+				return true;
+			}
+
+			// 집계 시작 전에 커밋된 변화는 DB 집계에 포함된다.
+			long startedAt = System.currentTimeMillis();
+			List<TechStatisticsDto> statistics = projectTechStackRepository.countAllGroupByTechStack();
+			List<String> args = new ArrayList<>(statistics.size() * 2 + 1);
+			args.add(String.valueOf(startedAt));
+			for (TechStatisticsDto statistic : statistics) {
+				args.add(String.valueOf(statistic.getTechStackId()));
+				args.add(String.valueOf(statistic.getCount()));
+			}
+
+			Long seeded = redisTemplate.execute(SEED_SCRIPT, List.of(KEY, SEEDED_KEY), args.toArray());
+			if (seeded == null) {
+				return false;
+			}
+			seededAt = seeded;
+			log.info("tech stack demand seeded at {} : {} tech stacks", seeded, statistics.size());
+			return true;
+		} catch (Exception e) {
+			log.warn("tech stack demand seed failed : {}", e.getMessage());
+			return false;
+		}
+	}
+
+	@AllArgsConstructor
+	private static class UnseededChange {
+
+		private final long committedAt;
+		private final List<Long> techStackIds;
+		private final long delta;
+	}
+}
@@ -1,9 +1,11 @@
 package chocoteamteam.togather.component.stomp;
 
+import chocoteamteam.togather.component.revocation.MemberStatusRegistry;
 import chocoteamteam.togather.dto.TokenMemberInfo;
 import chocoteamteam.togather.exception.ErrorCode;
 import chocoteamteam.togather.exception.TokenException;
 import chocoteamteam.togather.service.JwtService;
+import chocoteamteam.togather.type.MemberStatus;
 import com.sun.security.auth.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,23 +27,44 @@ import org.springframework.stereotype.Component;
 public class StompJwtHandler implements ChannelInterceptor {
 
 	private final JwtService jwtService;
+	private final StompSessionRegistry stompSessionRegistry;
+	private final MemberStatusRegistry memberStatusRegistry;
 
 	@Override
 	public Message<?> preSend(Message<?> message, MessageChannel channel) {
 		StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message,
 			StompHeaderAccessor.class);
 
-		if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+		StompCommand command = accessor.getCommand();
+
+		if (StompCommand.CONNECT.equals(command)) {
 			try {
 				TokenMemberInfo info = jwtService.parseAccessToken(
 					accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION).substring(7));
 
+				// 토큰 발급 후 정지, 탈퇴된 회원은 연결 거부
+				MemberStatus status = memberStatusRegistry.getStatus(info.getId(),
+					MemberStatus.valueOf(info.getStatus()));
+				if (status == MemberStatus.BANNED || status == MemberStatus.WITHDRAWAL) {
+					throw new TokenException(ErrorCode.INVALID_TOKEN);
+				}
+
 				log.info("Member connected WebSocket. id : {} , name : {}",info.getId(),info.getNickname());
 
+				stompSessionRegistry.register(accessor.getSessionId(), info.getId(),
+					info.getExpiration());
+
 				accessor.setUser(new UserPrincipal(String.valueOf(info.getId())));
 			} catch (Exception e) {
 				throw new TokenException(ErrorCode.INVALID_TOKEN,e);
 			}
+		} else if (StompCommand.SEND.equals(command) || StompCommand.SUBSCRIBE.equals(command)) {
+			// 토큰 재파싱 없이 등록된 세션의 만료/강제 종료 여부만 확인
+			if (!stompSessionRegistry.isAuthenticated(accessor.getSessionId())) {
+				throw new TokenException(ErrorCode.INVALID_TOKEN);
+			}
+		} else if (StompCommand.DISCONNECT.equals(command)) {
+			stompSessionRegistry.unregister(accessor.getSessionId());
 		}
 
 		return message;
@@ -0,0 +1,30 @@
+package chocoteamteam.togather.component.stomp;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+public class StompSessionHandlerDecorator extends WebSocketHandlerDecorator {
+
+	private final StompSessionRegistry stompSessionRegistry;
+
+	public StompSessionHandlerDecorator(WebSocketHandler delegate,
+		StompSessionRegistry stompSessionRegistry) {
+		super(delegate);
+		this.stompSessionRegistry = stompSessionRegistry;
+	}
+
+	@Override
+	public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+		stompSessionRegistry.addWebSocketSession(session);
+		super.afterConnectionEstablished(session);
+	}
+
+	@Override
+	public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus)
+		throws Exception {
+		stompSessionRegistry.removeWebSocketSession(session.getId());
+		super.afterConnectionClosed(session, closeStatus);
+	}
+}
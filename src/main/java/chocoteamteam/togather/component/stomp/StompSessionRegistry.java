@@ -0,0 +1,122 @@
+package chocoteamteam.togather.component.stomp;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+/*
+ *   STOMP 세션별 인증 정보 저장소
+ *   CONNECT 시점에 파싱한 토큰 만료 시간을 세션 단위로 보관해서
+ *   이후 프레임마다 JWT 를 다시 파싱하지 않고 만료/강제 종료 여부를 판단한다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class StompSessionRegistry {
+
+	private final Clock clock;
+
+	private final Map<String, StompSession> sessions = new ConcurrentHashMap<>();
+	private final Map<Long, Set<String>> memberSessionIds = new ConcurrentHashMap<>();
+	private final Map<String, WebSocketSession> webSocketSessions = new ConcurrentHashMap<>();
+
+	public void addWebSocketSession(WebSocketSession webSocketSession) {
+		webSocketSessions.put(webSocketSession.getId(), webSocketSession);
+	}
+
+	public void removeWebSocketSession(String sessionId) {
+		webSocketSessions.remove(sessionId);
+		unregister(sessionId);
+	}
+
+	public void register(String sessionId, long memberId, Date expiration) {
+		sessions.put(sessionId, new StompSession(memberId, expiration.getTime()));
+		memberSessionIds.computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet())
+			.add(sessionId);
+	}
+
+	public void unregister(String sessionId) {
+		StompSession session = sessions.remove(sessionId);
+
+		if (session == null) {
+			return;
+		}
+
+		memberSessionIds.computeIfPresent(session.getMemberId(), (id, sessionIds) -> {
+			sessionIds.remove(sessionId);
+			return sessionIds.isEmpty() ? null : sessionIds;
+		});
+	}
+
+	public boolean isAuthenticated(String sessionId) {
+		StompSession session = sessions.get(sessionId);
+
+		return session != null && !session.isExpired(clock.millis());
+	}
+
+	// 회원 상태 변경, 로그아웃 시 해당 회원의 모든 세션 종료
+	public void revoke(long memberId) {
+		Set<String> sessionIds = memberSessionIds.remove(memberId);
+
+		if (sessionIds == null) {
+			return;
+		}
+
+		for (String sessionId : sessionIds) {
+			log.info("revoke WebSocket session. member id : {} , session id : {}", memberId, sessionId);
+			close(sessionId);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${stomp.session.sweep-interval-ms:60000}")
+	public void closeExpiredSessions() {
+		long now = clock.millis();
+
+		sessions.forEach((sessionId, session) -> {
+			if (session.isExpired(now)) {
+				log.info("close expired WebSocket session. member id : {} , session id : {}",
+					session.getMemberId(), sessionId);
+				close(sessionId);
+			}
+		});
+	}
+
+	private void close(String sessionId) {
+		unregister(sessionId);
+
+		WebSocketSession webSocketSession = webSocketSessions.remove(sessionId);
+
+		if (webSocketSession == null || !webSocketSession.isOpen()) {
+			return;
+		}
+
+		try {
+			webSocketSession.close(CloseStatus.POLICY_VIOLATION);
+		} catch (IOException e) {
+			log.warn("failed to close WebSocket session. session id : {}", sessionId, e);
+		}
+	}
+
+	@Getter
+	@AllArgsConstructor
+	private static class StompSession {
+
+		private final long memberId;
+		private final long expiresAt;
+
+		private boolean isExpired(long now) {
+			return expiresAt <= now;
+		}
+	}
+}
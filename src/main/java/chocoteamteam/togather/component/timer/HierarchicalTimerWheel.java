@@ -0,0 +1,149 @@
+package chocoteamteam.togather.component.timer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/*
+ *   계층형 타이머 휠
+ *   가장 아래 휠은 tickMs 단위 버킷 wheelSize 개로 구성되고,
+ *   범위를 넘어서는 만료 시간은 tick 이 (tickMs * wheelSize) 인 상위 휠에 필요할 때 생성해서 보관한다.
+ *   시간이 흘러 상위 휠의 버킷 구간에 진입하면 해당 버킷을 하위 휠로 다시 내려 보낸다.
+ *
+ *   등록/취소는 O(1) 이고, 만료 처리는 지나간 tick 수 만큼만 버킷을 확인한다.
+ *   취소/재등록 된 항목은 버킷에서 바로 지우지 않고 만료 시점에 scheduled 와 비교해서 걸러낸다.
+ * */
+public class HierarchicalTimerWheel {
+
+    private final Level root;
+    // id -> 현재 유효한 만료 시간
+    private final Map<Long, Long> scheduled = new HashMap<>();
+
+    public HierarchicalTimerWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize must be greater than 1");
+        }
+        this.root = new Level(tickMs, wheelSize, startMs - (startMs % tickMs));
+    }
+
+    /*
+     *   만료 시간이 이미 지난 경우 등록하지 않고 false 를 반환한다.
+     *   같은 id 로 다시 등록하면 이전 만료 시간은 무시된다.
+     * */
+    public synchronized boolean schedule(long id, long expirationMs) {
+        if (expirationMs < root.currentTime) {
+            scheduled.remove(id);
+            return false;
+        }
+        scheduled.put(id, expirationMs);
+        add(root, id, expirationMs);
+        return true;
+    }
+
+    public synchronized void cancel(long id) {
+        scheduled.remove(id);
+    }
+
+    public synchronized int size() {
+        return scheduled.size();
+    }
+
+    /*
+     *   nowMs 까지 완전히 지나간 tick 의 버킷을 만료 처리하고 만료된 id 목록을 반환한다.
+     *   만료 시간보다 먼저 반환되는 일은 없고, 최대 한 tick 늦게 반환된다.
+     * */
+    public synchronized List<Long> advance(long nowMs) {
+        List<Long> expired = new ArrayList<>();
+        while (root.currentTime + root.tickMs <= nowMs) {
+            Map<Long, Long> bucket = root.removeBucket(root.currentTime);
+            if (bucket != null) {
+                bucket.forEach((id, expirationMs) -> {
+                    if (isScheduled(id, expirationMs)) {
+                        scheduled.remove(id);
+                        expired.add(id);
+                    }
+                });
+            }
+            root.currentTime += root.tickMs;
+            cascade(root);
+        }
+        return expired;
+    }
+
+    private void add(Level level, long id, long expirationMs) {
+        while (expirationMs >= level.currentTime + level.interval) {
+            level = level.overflow();
+        }
+        level.bucket(expirationMs).put(id, expirationMs);
+    }
+
+    // 하위 휠이 상위 휠의 tick 경계에 도달하면 상위 휠의 현재 버킷을 하위 휠로 내려 보낸다.
+    private void cascade(Level level) {
+        Level upper = level.overflow;
+        if (upper == null || level.currentTime % upper.tickMs != 0) {
+            return;
+        }
+        upper.currentTime = level.currentTime;
+        cascade(upper);
+
+        Map<Long, Long> bucket = upper.removeBucket(upper.currentTime);
+        if (bucket != null) {
+            bucket.forEach((id, expirationMs) -> {
+                if (isScheduled(id, expirationMs)) {
+                    add(root, id, expirationMs);
+                }
+            });
+        }
+    }
+
+    private boolean isScheduled(long id, long expirationMs) {
+        Long current = scheduled.get(id);
+        return current != null && current == expirationMs;
+    }
+
+    private static class Level {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final List<Map<Long, Long>> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMs, int wheelSize, long currentTime) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.currentTime = currentTime;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(null);
+            }
+        }
+
+        private Map<Long, Long> bucket(long timeMs) {
+            int index = index(timeMs);
+            Map<Long, Long> bucket = buckets.get(index);
+            if (bucket == null) {
+                bucket = new HashMap<>();
+                buckets.set(index, bucket);
+            }
+            return bucket;
+        }
+
+        private Map<Long, Long> removeBucket(long timeMs) {
+            return buckets.set(index(timeMs), null);
+        }
+
+        private int index(long timeMs) {
+            return (int) ((timeMs / tickMs) % wheelSize);
+        }
+
+        private Level overflow() {
+            if (overflow == null) {
+                overflow = new Level(interval, wheelSize, currentTime - (currentTime % interval));
+            }
+            return overflow;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package chocoteamteam.togather.component.timer;
+
+import chocoteamteam.togather.dto.ProjectDeadlineDto;
+import chocoteamteam.togather.repository.ProjectRepository;
+import chocoteamteam.togather.type.ProjectStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/*
+ *   모집 마감일이 지나는 순간(마감일 다음 날 0시) 프로젝트를 마감 처리하는 타이머
+ *   마감이 가까운(DEADLINE_HORIZON_DAYS 이내) 모집 중 프로젝트만 타이머 휠에 올려 메모리 사용량을 제한하고,
+ *   매일 밤 다시 적재해서 다른 서버에서 생성/수정된 프로젝트도 반영한다.
+ *   마감 쿼리는 상태/마감일 조건을 다시 확인하므로 중복 실행되어도 안전하고,
+ *   놓친 프로젝트는 새벽 projectStatusJob 이 처리한다.
+ * */
+@Slf4j
+@Component
+public class ProjectDeadlineTimer {
+
+    private static final long TICK_MS = 60_000L;
+    private static final int WHEEL_SIZE = 60;
+    private static final int DEADLINE_HORIZON_DAYS = 2;
+    public static final int CLOSE_BATCH_SIZE = 100;
+
+    private final ProjectRepository projectRepository;
+    private final Clock clock;
+    private final HierarchicalTimerWheel wheel;
+    // 등록 시점에 이미 마감 시간이 지난 프로젝트
+    private final Queue<Long> expiredProjectIds = new ConcurrentLinkedQueue<>();
+
+    public ProjectDeadlineTimer(ProjectRepository projectRepository, Clock clock) {
+        this.projectRepository = projectRepository;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimerWheel(TICK_MS, WHEEL_SIZE, clock.millis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @Scheduled(cron = "0 50 23 * * *")
+    public void reload() {
+        LocalDate horizon = LocalDate.now(clock).plusDays(DEADLINE_HORIZON_DAYS);
+        List<ProjectDeadlineDto> deadlines =
+                projectRepository.findAllDeadlineByStatusAndDeadlineBefore(ProjectStatus.RECRUITING, horizon);
+        deadlines.forEach(deadline -> schedule(deadline.getProjectId(), deadline.getDeadline()));
+        log.info("project deadline timer loaded : {} projects", deadlines.size());
+    }
+
+    public void schedule(Long projectId, LocalDate deadline) {
+        if (deadline == null
+                || !deadline.isBefore(LocalDate.now(clock).plusDays(DEADLINE_HORIZON_DAYS))) {
+            wheel.cancel(projectId);
+            return;
+        }
+        if (!wheel.schedule(projectId, closeTimeMillis(deadline))) {
+            expiredProjectIds.add(projectId);
+        }
+    }
+
+    public void cancel(Long projectId) {
+        wheel.cancel(projectId);
+    }
+
+    @Scheduled(fixedDelay = TICK_MS)
+    public void closeExpiredProjects() {
+        List<Long> projectIds = wheel.advance(clock.millis());
+        Long projectId;
+        while ((projectId = expiredProjectIds.poll()) != null) {
+            projectIds.add(projectId);
+        }
+        if (projectIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        int closedCount = 0;
+        for (int from = 0; from < projectIds.size(); from += CLOSE_BATCH_SIZE) {
+            List<Long> batch = new ArrayList<>(
+                    projectIds.subList(from, Math.min(from + CLOSE_BATCH_SIZE, projectIds.size())));
+            closedCount += projectRepository.updateStatusByIdInAndDeadlineBefore(batch,
+                    ProjectStatus.RECRUITING, now.toLocalDate(), ProjectStatus.COMPLETED, now);
+        }
+        log.info("project deadline timer closed : {} / {} projects", closedCount, projectIds.size());
+    }
+
+    // 마감일 당일까지 모집하므로 다음 날 0시에 마감된다.
+    private long closeTimeMillis(LocalDate deadline) {
+        return deadline.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
@@ -1,36 +1,130 @@
 package chocoteamteam.togather.config;
 
+import chocoteamteam.togather.component.member.MemberProfileInvalidationListener;
+import chocoteamteam.togather.component.revocation.MemberRevocationListener;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ClientOptions.DisconnectedBehavior;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.metrics.MicrometerCommandLatencyRecorder;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection.PipeliningFlushPolicy;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
-import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
 @EnableRedisRepositories
 public class RedisConfig {
 
+	private static final String MEMBER_REVOCATION_CHANNEL = "memberRevocation";
+	private static final String MEMBER_PROFILE_INVALIDATION_CHANNEL = "memberProfileInvalidation";
+
 	@Value("${spring.redis.host}")
 	private String host;
 
 	@Value("${spring.redis.port}")
 	private int port;
 
+	@Value("${redis.connect-timeout-millis:1000}")
+	private long connectTimeoutMillis;
+
+	@Value("${redis.command-timeout-millis:2000}")
+	private long commandTimeoutMillis;
+
+	// executePipelined 사용 시 몇 개의 명령마다 flush 할지
+	@Value("${redis.pipelining-flush-size:256}")
+	private int pipeliningFlushSize;
+
+	// 파이프라인, 트랜잭션 등 전용 연결이 필요한 명령에 쓰는 연결 풀 크기
+	@Value("${redis.pool.max-total:8}")
+	private int poolMaxTotal;
+
+	@Value("${redis.pool.min-idle:1}")
+	private int poolMinIdle;
+
+	/*
+	 *   Lettuce 공용 리소스 (이벤트 루프, 명령 지연 시간 측정)
+	 *   명령 종류별 지연 시간이 lettuce.command.completion / lettuce.command.firstresponse 로 기록된다.
+	 * */
+	@Bean(destroyMethod = "shutdown")
+	public ClientResources lettuceClientResources(MeterRegistry meterRegistry) {
+		return DefaultClientResources.builder()
+			.commandLatencyRecorder(
+				new MicrometerCommandLatencyRecorder(meterRegistry, MicrometerOptions.create()))
+			.build();
+	}
+
+	/*
+	 *   하나의 네이티브 연결을 공유해서 여러 스레드의 명령이 자동으로 파이프라이닝 되도록 한다.
+	 *   executePipelined 는 항상 전용 연결을 쓰므로 매번 새 TCP 연결을 열지 않도록 풀에서 빌려 쓴다.
+	 *   연결이 끊긴 동안의 명령은 쌓아두지 않고 바로 실패시켜 요청 스레드가 묶이지 않게 한다.
+	 * */
+	@Bean
+	public RedisConnectionFactory redisConnectionFactory(ClientResources lettuceClientResources) {
+		GenericObjectPoolConfig<StatefulConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+		poolConfig.setMaxTotal(poolMaxTotal);
+		poolConfig.setMaxIdle(poolMaxTotal);
+		poolConfig.setMinIdle(poolMinIdle);
+		poolConfig.setMaxWait(Duration.ofMillis(commandTimeoutMillis));
+
+		LettuceClientConfiguration clientConfiguration = LettucePoolingClientConfiguration.builder()
+			.poolConfig(poolConfig)
+			.clientResources(lettuceClientResources)
+			.clientOptions(ClientOptions.builder()
+				.socketOptions(SocketOptions.builder()
+					.connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+					.keepAlive(true)
+					.build())
+				.timeoutOptions(TimeoutOptions.enabled(Duration.ofMillis(commandTimeoutMillis)))
+				.disconnectedBehavior(DisconnectedBehavior.REJECT_COMMANDS)
+				.autoReconnect(true)
+				.build())
+			.commandTimeout(Duration.ofMillis(commandTimeoutMillis))
+			.build();
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+			new RedisStandaloneConfiguration(host, port), clientConfiguration);
+		connectionFactory.setShareNativeConnection(true);
+		connectionFactory.setPipeliningFlushPolicy(
+			PipeliningFlushPolicy.buffered(pipeliningFlushSize));
+		return connectionFactory;
+	}
+
+	@Bean
+	public ChannelTopic memberRevocationTopic() {
+		return new ChannelTopic(MEMBER_REVOCATION_CHANNEL);
+	}
 
 	@Bean
-	public RedisConnectionFactory redisConnectionFactory() {
-		return new LettuceConnectionFactory(host, port);
+	public ChannelTopic memberProfileInvalidationTopic() {
+		return new ChannelTopic(MEMBER_PROFILE_INVALIDATION_CHANNEL);
 	}
 
 	@Bean
-	public RedisTemplate<String, Object> redisTemplate() {
-		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
-		redisTemplate.setKeySerializer(new StringRedisSerializer());
-		redisTemplate.setValueSerializer(new StringRedisSerializer());
-		redisTemplate.setConnectionFactory(redisConnectionFactory());
-		return redisTemplate;
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+		RedisConnectionFactory redisConnectionFactory,
+		MemberRevocationListener memberRevocationListener,
+		MemberProfileInvalidationListener memberProfileInvalidationListener) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(memberRevocationListener, memberRevocationTopic());
+		container.addMessageListener(memberProfileInvalidationListener,
+			memberProfileInvalidationTopic());
+		return container;
 	}
 }
@@ -1,5 +1,6 @@
 package chocoteamteam.togather.config;
 
+import chocoteamteam.togather.component.revocation.MemberStatusRegistry;
 import chocoteamteam.togather.component.security.JwtAccessDeniedHandler;
 import chocoteamteam.togather.component.security.JwtAuthenticationFilter;
 import chocoteamteam.togather.component.security.JwtEntryPoint;
@@ -23,6 +24,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
 	private final JwtService jwtService;
+	private final MemberStatusRegistry memberStatusRegistry;
 	private final ObjectMapper objectMapper;
 
 
@@ -78,7 +80,7 @@ public class SecurityConfig {
 
 	@Bean
 	public JwtAuthenticationFilter jwtAuthenticationFilter() {
-		return new JwtAuthenticationFilter(jwtService);
+		return new JwtAuthenticationFilter(jwtService, memberStatusRegistry);
 	}
 
 }
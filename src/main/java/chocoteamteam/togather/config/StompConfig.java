@@ -2,6 +2,8 @@ package chocoteamteam.togather.config;
 
 import chocoteamteam.togather.component.stomp.ChatErrorHandler;
 import chocoteamteam.togather.component.stomp.StompJwtHandler;
+import chocoteamteam.togather.component.stomp.StompSessionHandlerDecorator;
+import chocoteamteam.togather.component.stomp.StompSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -10,6 +12,7 @@ import org.springframework.util.AntPathMatcher;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @RequiredArgsConstructor
 @Configuration
@@ -18,6 +21,7 @@ public class StompConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompJwtHandler stompJwtHandler;
     private final ChatErrorHandler chatErrorHandler;
+    private final StompSessionRegistry stompSessionRegistry;
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
@@ -44,4 +48,10 @@ public class StompConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompJwtHandler);
     }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.addDecoratorFactory(
+            handler -> new StompSessionHandlerDecorator(handler, stompSessionRegistry));
+    }
 }
@@ -0,0 +1,48 @@
+package chocoteamteam.togather.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/*
+ *   외부 API 호출용 공용 WebClient
+ *   연결을 풀로 재사용하고, 연결/응답 대기 시간을 제한해 느린 외부 서버 때문에 요청이 묶이지 않도록 한다.
+ * */
+@Configuration
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider webClientConnectionProvider(
+        @Value("${webclient.max-connections:100}") int maxConnections,
+        @Value("${webclient.pending-acquire-timeout-millis:3000}") long pendingAcquireTimeoutMillis,
+        @Value("${webclient.max-idle-millis:30000}") long maxIdleMillis) {
+        return ConnectionProvider.builder("webclient")
+            .maxConnections(maxConnections)
+            .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+            .maxIdleTime(Duration.ofMillis(maxIdleMillis))
+            .build();
+    }
+
+    @Bean
+    public WebClient webClient(WebClient.Builder builder, ConnectionProvider webClientConnectionProvider,
+        @Value("${webclient.connect-timeout-millis:3000}") int connectTimeoutMillis,
+        @Value("${webclient.read-timeout-millis:5000}") long readTimeoutMillis) {
+        HttpClient httpClient = HttpClient.create(webClientConnectionProvider)
+            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+            .responseTimeout(Duration.ofMillis(readTimeoutMillis))
+            .doOnConnected(connection -> connection.addHandlerLast(
+                new ReadTimeoutHandler(readTimeoutMillis, TimeUnit.MILLISECONDS)));
+
+        return builder
+            .clientConnector(new ReactorClientHttpConnector(httpClient))
+            .build();
+    }
+}
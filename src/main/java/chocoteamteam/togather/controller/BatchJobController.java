@@ -0,0 +1,47 @@
+package chocoteamteam.togather.controller;
+
+import chocoteamteam.togather.batch.application.service.BatchJobExecutionService;
+import chocoteamteam.togather.dto.JobExecutionDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Batch", description = "배치 실행 이력 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/batch/jobs")
+public class BatchJobController {
+
+    private final BatchJobExecutionService batchJobExecutionService;
+
+    @Operation(
+        summary = "배치 job 목록 조회",
+        description = "실행 이력이 있는 job 이름 목록을 조회합니다. ADMIN만 조회할 수 있습니다",
+        security = {@SecurityRequirement(name = "Authorization")}, tags = {"Batch"}
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    public ResponseEntity<List<String>> getJobNames() {
+        return ResponseEntity.ok(batchJobExecutionService.getJobNames());
+    }
+
+    @Operation(
+        summary = "배치 job 실행 이력 조회",
+        description = "최근 job 실행 이력과 step 별 처리 건수, 처리 시간, 초당 처리 건수를 조회합니다. ADMIN만 조회할 수 있습니다",
+        security = {@SecurityRequirement(name = "Authorization")}, tags = {"Batch"}
+    )
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{jobName}/executions")
+    public ResponseEntity<List<JobExecutionDto>> getJobExecutions(
+        @PathVariable String jobName,
+        @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(batchJobExecutionService.getRecentExecutions(jobName, size));
+    }
+}
@@ -11,9 +11,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "FCM_Notification", description = "FCM 알림 관련 API")
@@ -40,14 +42,19 @@ public class FCMController {
 
 	@Operation(
 		summary = "Registration Token 삭제",
-		description = "사용자 ID를 기반으로 Token을 삭제합니다.",
+		description = "사용자 ID를 기반으로 Token을 삭제합니다. registrationToken 을 주면 해당 기기의 Token만 삭제합니다.",
 		security = {@SecurityRequirement(name = "Authorization")}, tags = {"FCM_Notification"}
 	)
 	@PreAuthorize("hasRole('USER')")
 	@DeleteMapping("/fcm/token")
-	public ResponseEntity deleteFCMToken(@AuthenticationPrincipal LoginMember member) {
-
-		fcmService.deleteRegistrationToken(member.getId());
+	public ResponseEntity deleteFCMToken(@AuthenticationPrincipal LoginMember member,
+		@RequestParam(required = false) String registrationToken) {
+
+		if (StringUtils.hasText(registrationToken)) {
+			fcmService.deleteRegistrationToken(member.getId(), registrationToken);
+		} else {
+			fcmService.deleteRegistrationToken(member.getId());
+		}
 
 		return ResponseEntity.ok().body("success");
 	}
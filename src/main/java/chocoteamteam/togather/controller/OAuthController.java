@@ -11,6 +11,7 @@ import chocoteamteam.togather.service.OAuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
@@ -42,9 +43,12 @@ public class OAuthController {
         tags = {"OAuth"}
     )
     @GetMapping("/login/{provider}")
-    public ResponseEntity<LoginResponse> login(@RequestParam String code,
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@RequestParam String code,
         @PathVariable String provider) {
-        return ResponseEntity.ok().body(oAuthService.login(code, provider));
+        // Provider 응답을 기다리는 동안 요청 스레드를 반환하고, 응답이 오면 이어서 로그인 처리
+        return oAuthService.getOAuth2MemberInfo(code, provider)
+            .thenApply(oAuth2MemberInfo -> ResponseEntity.ok()
+                .body(oAuthService.login(oAuth2MemberInfo, provider)));
     }
 
     @Operation(
@@ -1,7 +1,12 @@
 package chocoteamteam.togather.controller;
 
+import chocoteamteam.togather.dto.LiveTechStackStatisticsResponse;
+import chocoteamteam.togather.dto.PeriodTechStackStatisticsResponse;
+import chocoteamteam.togather.dto.TechStackSupplyDemandResponse;
+import chocoteamteam.togather.dto.TechStackTrendResponse;
 import chocoteamteam.togather.dto.WeeklyTechStackStatisticsResponse;
 import chocoteamteam.togather.service.TechStackStatisticsService;
+import chocoteamteam.togather.type.StatisticsGranularity;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +14,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "TechStack Statistics", description = "주단위 기술스택 통계 API")
@@ -27,6 +33,44 @@ public class StatisticsController {
         return ResponseEntity.ok(techStackStatisticsService.getWeeklyStatistics());
     }
 
+    @Operation(summary = "실시간 기술스택 통계 조회 api",
+            description = "현재 기술스택별 프로젝트 수를 반환합니다.",
+            tags = {"TechStack Statistics"})
+    @GetMapping("/live")
+    public ResponseEntity<LiveTechStackStatisticsResponse> getLiveTechStackStatistics() {
+        return ResponseEntity.ok(techStackStatisticsService.getLiveStatistics());
+    }
+
+    @Operation(summary = "기술스택 기간별 추이 조회 api",
+            description = "최근 periods 개 구간(일/주/월)의 프로젝트 수와 직전 구간 대비 증감을 반환합니다.",
+            tags = {"TechStack Statistics"})
+    @GetMapping("/trend/{techStackId}")
+    public ResponseEntity<TechStackTrendResponse> getTechStackTrend(
+            @PathVariable Long techStackId,
+            @RequestParam(defaultValue = "WEEKLY") StatisticsGranularity granularity,
+            @RequestParam(defaultValue = "12") int periods) {
+        return ResponseEntity.ok(techStackStatisticsService.getTrend(techStackId, granularity, periods));
+    }
+
+    @Operation(summary = "특정 구간 기술스택 통계 조회 api",
+            description = "periodKey(예: 2022-10-03, 2022-W40, 2022-10)에 해당하는 구간의 통계자료를 반환합니다.",
+            tags = {"TechStack Statistics"})
+    @GetMapping("/periods/{periodKey}")
+    public ResponseEntity<PeriodTechStackStatisticsResponse> getPeriodTechStackStatistics(
+            @PathVariable String periodKey,
+            @RequestParam(defaultValue = "WEEKLY") StatisticsGranularity granularity) {
+        return ResponseEntity.ok(techStackStatisticsService.getPeriodStatistics(granularity, periodKey));
+    }
+
+    @Operation(summary = "기술스택 수요 / 공급 조회 api",
+            description = "주차(예: 2022-W40)별 모집중 프로젝트 수요와 회원 보유 수, 공급 / 수요 비율을 반환합니다. 주차를 생략하면 지난 주를 반환합니다.",
+            tags = {"TechStack Statistics"})
+    @GetMapping("/supplyDemand")
+    public ResponseEntity<TechStackSupplyDemandResponse> getTechStackSupplyDemand(
+            @RequestParam(required = false) String week) {
+        return ResponseEntity.ok(techStackStatisticsService.getSupplyDemand(week));
+    }
+
     @Operation(summary = "특정 주차 기술스택 통계 조회 api",
             description = "특정 주차의 통계자료를 반환합니다.",
             tags = {"TechStack Statistics by weeks"})
@@ -1,5 +1,6 @@
 package chocoteamteam.togather.dto;
 
+import chocoteamteam.togather.dto.queryDslSimpleDto.SimpleMemberDto;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -14,4 +15,5 @@ public class ChatDetailDto {
 	private long roomId;
 	private String roomName;
 	private List<ChatMessageDto> messages;
+	private List<SimpleMemberDto> senders;
 }
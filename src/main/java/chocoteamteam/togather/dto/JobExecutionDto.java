@@ -0,0 +1,40 @@
+package chocoteamteam.togather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.batch.core.JobExecution;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class JobExecutionDto {
+    private Long jobExecutionId;
+    private Long jobInstanceId;
+    private String jobName;
+    private String status;
+    private String exitCode;
+    private String jobParameters;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private long durationMillis;
+    private List<StepExecutionDto> steps;
+
+    public static JobExecutionDto from(JobExecution jobExecution, long durationMillis, List<StepExecutionDto> steps) {
+        return JobExecutionDto.builder()
+                .jobExecutionId(jobExecution.getId())
+                .jobInstanceId(jobExecution.getJobId())
+                .jobName(jobExecution.getJobInstance().getJobName())
+                .status(jobExecution.getStatus().name())
+                .exitCode(jobExecution.getExitStatus().getExitCode())
+                .jobParameters(jobExecution.getJobParameters().toString())
+                .startTime(StepExecutionDto.toLocalDateTime(jobExecution.getStartTime()))
+                .endTime(StepExecutionDto.toLocalDateTime(jobExecution.getEndTime()))
+                .durationMillis(durationMillis)
+                .steps(steps)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package chocoteamteam.togather.dto;
+
+import chocoteamteam.togather.batch.application.model.TechStatisticsDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LiveTechStackStatisticsResponse {
+    private LocalDateTime aggregatedAt;
+    private List<TechStatisticsDto> techStatistics;
+}
@@ -0,0 +1,15 @@
+package chocoteamteam.togather.dto;
+
+import chocoteamteam.togather.type.StatisticsGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PeriodTechStackStatisticsResponse {
+    private StatisticsGranularity granularity;
+    private String periodKey;
+    private List<TechStackStatisticsPointDto> techStatistics;
+}
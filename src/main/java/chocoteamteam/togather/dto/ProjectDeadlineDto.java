@@ -0,0 +1,13 @@
+package chocoteamteam.togather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class ProjectDeadlineDto {
+    private Long projectId;
+    private LocalDate deadline;
+}
@@ -0,0 +1,51 @@
+package chocoteamteam.togather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.batch.core.StepExecution;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class StepExecutionDto {
+    private Long stepExecutionId;
+    private String stepName;
+    private String status;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private long durationMillis;
+    private int readCount;
+    private int writeCount;
+    private int filterCount;
+    private int commitCount;
+    private int rollbackCount;
+    private int skipCount;
+    private double itemsPerSecond;
+
+    public static StepExecutionDto from(StepExecution stepExecution, long durationMillis) {
+        return StepExecutionDto.builder()
+                .stepExecutionId(stepExecution.getId())
+                .stepName(stepExecution.getStepName())
+                .status(stepExecution.getStatus().name())
+                .startTime(toLocalDateTime(stepExecution.getStartTime()))
+                .endTime(toLocalDateTime(stepExecution.getEndTime()))
+                .durationMillis(durationMillis)
+                .readCount(stepExecution.getReadCount())
+                .writeCount(stepExecution.getWriteCount())
+                .filterCount(stepExecution.getFilterCount())
+                .commitCount(stepExecution.getCommitCount())
+                .rollbackCount(stepExecution.getRollbackCount())
+                .skipCount(stepExecution.getSkipCount())
+                .itemsPerSecond(durationMillis > 0 ? stepExecution.getWriteCount() * 1000.0 / durationMillis : 0)
+                .build();
+    }
+
+    static LocalDateTime toLocalDateTime(Date date) {
+        return date == null ? null : LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+    }
+}
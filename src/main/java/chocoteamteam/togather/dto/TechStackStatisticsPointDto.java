@@ -0,0 +1,34 @@
+package chocoteamteam.togather.dto;
+
+import chocoteamteam.togather.batch.domain.entity.TechStackStatistics;
+import chocoteamteam.togather.type.TechCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TechStackStatisticsPointDto {
+    private Long techStackId;
+    private String techStackName;
+    private TechCategory techStackCategory;
+    private String periodKey;
+    private LocalDate periodStart;
+    private Long count;
+    private Long delta;
+
+    public static TechStackStatisticsPointDto from(TechStackStatistics statistics) {
+        return TechStackStatisticsPointDto.builder()
+                .techStackId(statistics.getTechStackId())
+                .techStackName(statistics.getTechStackName())
+                .techStackCategory(statistics.getTechStackCategory())
+                .periodKey(statistics.getPeriodKey())
+                .periodStart(statistics.getPeriodStart())
+                .count(statistics.getCount())
+                .delta(statistics.getDelta())
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package chocoteamteam.togather.dto;
+
+import chocoteamteam.togather.batch.domain.entity.TechStackSupplyDemand;
+import chocoteamteam.togather.type.TechCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TechStackSupplyDemandDto {
+    private Long techStackId;
+    private String techStackName;
+    private TechCategory techStackCategory;
+    private long demand;
+    private long supply;
+    private Double supplyDemandRatio;
+
+    public static TechStackSupplyDemandDto from(TechStackSupplyDemand supplyDemand) {
+        return TechStackSupplyDemandDto.builder()
+                .techStackId(supplyDemand.getTechStackId())
+                .techStackName(supplyDemand.getTechStackName())
+                .techStackCategory(supplyDemand.getTechStackCategory())
+                .demand(supplyDemand.getDemand())
+                .supply(supplyDemand.getSupply())
+                .supplyDemandRatio(supplyDemand.getSupplyDemandRatio())
+                .build();
+    }
+}
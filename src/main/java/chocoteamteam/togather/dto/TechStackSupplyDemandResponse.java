@@ -0,0 +1,13 @@
+package chocoteamteam.togather.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TechStackSupplyDemandResponse {
+    private String periodKey;
+    private List<TechStackSupplyDemandDto> techStacks;
+}
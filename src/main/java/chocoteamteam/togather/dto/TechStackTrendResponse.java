@@ -0,0 +1,16 @@
+package chocoteamteam.togather.dto;
+
+import chocoteamteam.togather.type.StatisticsGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TechStackTrendResponse {
+    private Long techStackId;
+    private String techStackName;
+    private StatisticsGranularity granularity;
+    private List<TechStackStatisticsPointDto> points;
+}
@@ -25,6 +25,7 @@ public class TokenMemberInfo {
 	private String nickname;
 	private String status;
 	private String role;
+	private Date expiration;
 
 	public Claims toClaims(int expiresMin) {
 		Claims claims = Jwts.claims();
@@ -47,6 +48,7 @@ public class TokenMemberInfo {
 			.nickname(claims.get(KEY_NICKNAME, String.class))
 			.role(claims.get(KEY_ROLES, String.class))
 			.status(claims.get(KEY_STATUS, String.class))
+			.expiration(claims.getExpiration())
 			.build();
 	}
 }
@@ -0,0 +1,42 @@
+package chocoteamteam.togather.entity;
+
+import chocoteamteam.togather.type.OutboxStatus;
+import lombok.*;
+
+import javax.persistence.*;
+
+/*
+ *   알림 outbox
+ *   알림을 발생시킨 요청과 같은 트랜잭션에서 저장하고, 커밋 후 NotificationOutboxRelay 가 전송한다.
+ * */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PROTECTED)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {@Index(name = "notification_outbox_status_id_index", columnList = "status, id")})
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 알림 받을 회원 id
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String body;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    // 전송 시도 횟수
+    @Column(nullable = false)
+    private int attempts;
+}
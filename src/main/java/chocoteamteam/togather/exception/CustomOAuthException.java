@@ -16,4 +16,11 @@ public class CustomOAuthException extends RuntimeException {
         this.errorMessage = errorCode.getErrorMessage();
     }
 
+    public CustomOAuthException(ErrorCode errorCode, Throwable e) {
+        super(errorCode.getErrorMessage(), e);
+        this.errorCode = errorCode;
+        this.status = errorCode.getHttpStatus().value();
+        this.errorMessage = errorCode.getErrorMessage();
+    }
+
 }
@@ -37,7 +37,8 @@ public enum ErrorCode {
     NOT_FOUND_IMAGE(HttpStatus.BAD_REQUEST, "이미지를 찾을 수 없습니다."),
     EMAIL_SEND_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "메일 전송이 실패했습니다"),
     MISS_MATCH_IMAGE_TYPE(HttpStatus.BAD_REQUEST, "이미지 파일 형식이 아닙니다."),
-    FCM_INITIALIZATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "FCM 초기화에 실패했습니다.");
+    FCM_INITIALIZATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "FCM 초기화에 실패했습니다."),
+    OAUTH_PROVIDER_ERROR(HttpStatus.BAD_GATEWAY, "소셜 로그인 서버와 통신에 실패했습니다.");
 
     private final HttpStatus httpStatus;
     private final String errorMessage;
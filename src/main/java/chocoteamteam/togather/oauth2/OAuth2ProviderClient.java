@@ -0,0 +1,77 @@
+package chocoteamteam.togather.oauth2;
+
+import chocoteamteam.togather.dto.OAuthTokenResponse;
+import chocoteamteam.togather.exception.CustomOAuthException;
+import chocoteamteam.togather.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/*
+ *   OAuth Provider 와 통신 (인가 코드 -> access token -> 회원 정보)
+ *   블로킹 없이 Mono 로 반환하므로 Provider 응답을 기다리는 동안 요청 스레드를 점유하지 않는다.
+ * */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class OAuth2ProviderClient {
+
+    private final WebClient webClient;
+
+    public Mono<Map<String, Object>> getAttributes(String code, ClientRegistration provider) {
+        return getOAuth2Token(code, provider)
+            .flatMap(oAuthToken -> getAttributes(oAuthToken, provider))
+            .switchIfEmpty(Mono.error(() -> new CustomOAuthException(ErrorCode.OAUTH_PROVIDER_ERROR)))
+            .onErrorMap(e -> !(e instanceof CustomOAuthException), e -> {
+                log.warn("oauth provider request failed. provider : {}",
+                    provider.getRegistrationId(), e);
+                return new CustomOAuthException(ErrorCode.OAUTH_PROVIDER_ERROR, e);
+            });
+    }
+
+    private Mono<OAuthTokenResponse> getOAuth2Token(String code, ClientRegistration provider) {
+        return webClient
+            .post()
+            .uri(provider.getProviderDetails().getTokenUri())
+            .headers(header -> {
+                header.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+                header.setBasicAuth(provider.getClientId(), provider.getClientSecret());
+                header.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
+                header.setAcceptCharset(Collections.singletonList(StandardCharsets.UTF_8));
+            })
+            .bodyValue(tokenRequest(code, provider))
+            .retrieve()
+            .bodyToMono(OAuthTokenResponse.class);
+    }
+
+    private Mono<Map<String, Object>> getAttributes(OAuthTokenResponse oAuthToken,
+        ClientRegistration provider) {
+        return webClient
+            .get()
+            .uri(provider.getProviderDetails().getUserInfoEndpoint().getUri())
+            .headers(httpHeader -> httpHeader.setBearerAuth(oAuthToken.getAccess_token()))
+            .retrieve()
+            .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
+            });
+    }
+
+    private MultiValueMap<String, String> tokenRequest(String code, ClientRegistration provider) {
+        LinkedMultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("grant_type", "authorization_code");
+        formData.add("code", code);
+        formData.add("redirect_uri", provider.getRedirectUri());
+        formData.add("client_id", provider.getClientId());
+        formData.add("client_secret", provider.getClientSecret());
+        return formData;
+    }
+}
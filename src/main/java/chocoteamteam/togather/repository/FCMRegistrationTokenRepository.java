@@ -1,36 +1,113 @@
 package chocoteamteam.togather.repository;
 
+import chocoteamteam.togather.component.redis.RedisBulkOperations;
 import java.time.Duration;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.StringUtils;
 
+/*
+ *   회원별 FCM registration token (기기별 1개)
+ *   hash FcmRegistrationTokens::{회원 id} 에 token -> 마지막 등록 시각 으로 저장한다.
+ *   TOKEN_TTL 동안 다시 등록되지 않은 토큰과 MAX_TOKENS_PER_MEMBER 를 넘는 오래된 토큰은 저장 시 정리한다.
+ *   이전 key (회원당 토큰 1개) 는 다시 등록할 때 지우고, 그 전까지는 조회 시 함께 읽는다. (최대 60일 후 만료)
+ *   이전 key 는 새 key 와 slot 이 다를 수 있으므로(cluster) Lua 스크립트 밖에서 따로 지운다.
+ *   이전 key 에는 더 이상 쓰지 않으므로 따로 지워도 새로 등록한 토큰을 덮어쓰는 경우는 없다.
+ * */
 @RequiredArgsConstructor
 @Repository
 public class FCMRegistrationTokenRepository {
 
-	private final RedisTemplate<String, String> redisTemplate;
+	private static final String KEY_PREFIX = "FcmRegistrationTokens::";
+	// 회원당 토큰 1개를 string 으로 저장하던 이전 key
+	private static final String LEGACY_KEY_PREFIX = "FcmRegistrationToken::";
+
+	private static final Duration TOKEN_TTL = Duration.ofDays(60);
+	private static final int MAX_TOKENS_PER_MEMBER = 10;
 
-	private static final String KEY_PREFIX = "FcmRegistrationToken::";
+	// 토큰 저장 후 오래된 토큰 정리, key TTL 은 마지막 등록 시각 기준으로 연장
+	private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+		"redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) "
+			+ "local fields = redis.call('hgetall', KEYS[1]) "
+			+ "local tokens = {} "
+			+ "for i = 1, #fields, 2 do "
+			+ "  local lastSeen = tonumber(fields[i + 1]) "
+			+ "  if lastSeen <= tonumber(ARGV[3]) then "
+			+ "    redis.call('hdel', KEYS[1], fields[i]) "
+			+ "  else "
+			+ "    table.insert(tokens, {fields[i], lastSeen}) "
+			+ "  end "
+			+ "end "
+			+ "if #tokens > tonumber(ARGV[4]) then "
+			+ "  table.sort(tokens, function(a, b) return a[2] > b[2] end) "
+			+ "  for i = tonumber(ARGV[4]) + 1, #tokens do redis.call('hdel', KEYS[1], tokens[i][1]) end "
+			+ "end "
+			+ "redis.call('pexpire', KEYS[1], ARGV[5]) "
+			+ "return 1",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisBulkOperations redisBulkOperations;
 
 	public void save(long userId, String token) {
-		redisTemplate.opsForValue().set(KEY_PREFIX + userId, token, Duration.ofDays(60));
+		long now = System.currentTimeMillis();
+		long ttlMillis = TOKEN_TTL.toMillis();
+
+		redisTemplate.execute(SAVE_SCRIPT, Collections.singletonList(KEY_PREFIX + userId),
+			token, String.valueOf(now), String.valueOf(now - ttlMillis),
+			String.valueOf(MAX_TOKENS_PER_MEMBER), String.valueOf(ttlMillis));
+		redisTemplate.delete(LEGACY_KEY_PREFIX + userId);
 	}
 
 	public boolean exists(long userId) {
-		return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId));
+		Long count = redisTemplate.countExistingKeys(List.of(KEY_PREFIX + userId, LEGACY_KEY_PREFIX + userId));
+		return count != null && count > 0;
+	}
 
+	public List<String> find(long userId) {
+		return findAll(List.of(userId)).getOrDefault(userId, List.of());
 	}
 
-	public Optional<String> find(long userId) {
-		String token = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+	/*
+	 *   여러 회원의 토큰을 파이프라인으로 조회 (토큰이 없는 회원은 제외)
+	 *   아직 다시 등록하지 않아 이전 key 에만 토큰이 있는 회원은 이전 key 에서 읽는다.
+	 * */
+	public Map<Long, List<String>> findAll(Collection<Long> userIds) {
+		Map<Long, Map<String, String>> hashes = redisBulkOperations.multiGetHash(KEY_PREFIX, userIds);
+
+		Map<Long, List<String>> tokens = new HashMap<>(userIds.size());
+		hashes.forEach((userId, hash) -> tokens.put(userId, new ArrayList<>(hash.keySet())));
 
-		return Optional.ofNullable(token);
+		List<Long> legacyUserIds = userIds.stream()
+			.filter(userId -> !tokens.containsKey(userId))
+			.distinct()
+			.collect(Collectors.toList());
+		if (!legacyUserIds.isEmpty()) {
+			redisBulkOperations.multiGet(LEGACY_KEY_PREFIX, legacyUserIds)
+				.forEach((userId, token) -> tokens.put(userId, List.of(token)));
+		}
+		return tokens;
 	}
 
+	// 회원의 모든 기기 토큰 삭제
 	public void delete(long userId) {
-		redisTemplate.delete(KEY_PREFIX + userId);
+		redisTemplate.delete(List.of(KEY_PREFIX + userId, LEGACY_KEY_PREFIX + userId));
+	}
+
+	// 한 기기의 토큰만 삭제, 이전 key 에 같은 토큰이 남아 있으면 함께 삭제 (다른 기기에서 같은 토큰이 다시 등록되는 경우는 없다.)
+	public boolean delete(long userId, String token) {
+		Long deleted = redisTemplate.opsForHash().delete(KEY_PREFIX + userId, token);
+		boolean legacyDeleted = token.equals(redisTemplate.opsForValue().get(LEGACY_KEY_PREFIX + userId))
+			&& Boolean.TRUE.equals(redisTemplate.delete(LEGACY_KEY_PREFIX + userId));
+		return (deleted != null && deleted > 0) || legacyDeleted;
 	}
 }
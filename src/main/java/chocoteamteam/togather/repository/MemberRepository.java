@@ -1,10 +1,16 @@
 package chocoteamteam.togather.repository;
 
+import chocoteamteam.togather.dto.queryDslSimpleDto.SimpleMemberDto;
 import chocoteamteam.togather.entity.Member;
+import chocoteamteam.togather.type.MemberStatus;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.EntityGraph.EntityGraphType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
@@ -15,6 +21,21 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @EntityGraph(attributePaths = {"memberTechStacks"}, type = EntityGraphType.LOAD)
     Optional<Member> findWithMemberTechStackById(Long id);
 
+    // 로그인 시 회원과 기술 스택을 한 번에 조회
+    @EntityGraph(attributePaths = {"memberTechStacks", "memberTechStacks.techStack"},
+        type = EntityGraphType.LOAD)
+    Optional<Member> findWithTechStackByEmail(String email);
+
     boolean existsByNickname(String nickname);
 
+    @Query("select new chocoteamteam.togather.dto.queryDslSimpleDto.SimpleMemberDto(m.id, m.nickname, m.profileImage) "
+        + "from Member m where m.id in :ids")
+    List<SimpleMemberDto> findAllSimpleMemberDtoByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select min(m.id) from Member m where m.status = :status")
+    Long findMinIdByStatus(@Param("status") MemberStatus status);
+
+    @Query("select max(m.id) from Member m where m.status = :status")
+    Long findMaxIdByStatus(@Param("status") MemberStatus status);
+
 }
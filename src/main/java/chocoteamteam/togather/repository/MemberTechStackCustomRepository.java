@@ -1,9 +1,12 @@
 package chocoteamteam.togather.repository;
 
 import chocoteamteam.togather.dto.MemberDetailResponse;
+import java.util.Collection;
 
 public interface MemberTechStackCustomRepository {
 
     MemberDetailResponse findMemberWithTechStackDetailByMemberId(Long memberId);
 
+    void bulkInsert(Long memberId, Collection<Long> techStackIds);
+
 }
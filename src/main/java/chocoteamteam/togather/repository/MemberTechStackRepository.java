@@ -1,12 +1,19 @@
 package chocoteamteam.togather.repository;
 
 import chocoteamteam.togather.entity.MemberTechStack;
+import chocoteamteam.togather.type.MemberStatus;
 import io.lettuce.core.dynamic.annotation.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 public interface MemberTechStackRepository extends JpaRepository<MemberTechStack, Long>, MemberTechStackCustomRepository {
 
     @Transactional
@@ -14,4 +21,9 @@ public interface MemberTechStackRepository extends JpaRepository<MemberTechStack
     @Query("delete from MemberTechStack mts where mts.id in :ids")
     void deleteAllByIdInQuery(@Param("ids")  Iterable<Long> ids);
 
+    // 트랜잭션 안에서 사용하고, 사용 후 반드시 close
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select mts.techStack.id from MemberTechStack mts join mts.member m where m.status = ?1")
+    Stream<Long> streamTechStackIdByMemberStatus(MemberStatus status);
+
 }
@@ -0,0 +1,33 @@
+package chocoteamteam.togather.repository;
+
+import chocoteamteam.togather.entity.NotificationOutbox;
+import chocoteamteam.togather.type.OutboxStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+	List<NotificationOutbox> findAllByStatusAndIdGreaterThanOrderByIdAsc(OutboxStatus status, Long id,
+		Pageable pageable);
+
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("update NotificationOutbox n set n.status = :status, n.attempts = n.attempts + 1, n.updatedAt = :updatedAt "
+		+ "where n.id in :ids")
+	int updateStatusByIdIn(@Param("ids") Collection<Long> ids,
+		@Param("status") OutboxStatus status,
+		@Param("updatedAt") LocalDateTime updatedAt);
+
+	@Transactional
+	@Modifying(clearAutomatically = true, flushAutomatically = true)
+	@Query("delete from NotificationOutbox n where n.status = :status and n.updatedAt < :before")
+	int deleteAllByStatusAndUpdatedAtBefore(@Param("status") OutboxStatus status,
+		@Param("before") LocalDateTime before);
+}
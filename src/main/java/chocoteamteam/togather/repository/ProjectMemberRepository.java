@@ -1,9 +1,17 @@
 package chocoteamteam.togather.repository;
 
 import chocoteamteam.togather.entity.ProjectMember;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProjectMemberRepository extends JpaRepository<ProjectMember,Long> {
 
 	boolean existsByProject_IdAndMember_Id(Long projectId, Long memberId);
+
+	// 채팅방이 속한 프로젝트의 참여 회원 id 목록
+	@Query("select pm.member.id from ProjectMember pm "
+		+ "where pm.project.id = (select cr.project.id from ChatRoom cr where cr.id = :chatRoomId)")
+	List<Long> findMemberIdsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
 }
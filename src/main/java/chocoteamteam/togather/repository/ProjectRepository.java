@@ -1,19 +1,56 @@
 package chocoteamteam.togather.repository;
 
+import chocoteamteam.togather.dto.ProjectDeadlineDto;
 import chocoteamteam.togather.entity.Project;
 import chocoteamteam.togather.type.ProjectStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ProjectRepository extends JpaRepository<Project, Long>, QueryDslProjectRepository {
 
     Page<Project> findAllByStatusAndDeadlineBefore(ProjectStatus status, LocalDate deadline, Pageable pageable);
 
+    @Query("select min(p.id) from Project p where p.status = :status and p.deadline < :deadline")
+    Long findMinIdByStatusAndDeadlineBefore(@Param("status") ProjectStatus status, @Param("deadline") LocalDate deadline);
+
+    @Query("select max(p.id) from Project p where p.status = :status and p.deadline < :deadline")
+    Long findMaxIdByStatusAndDeadlineBefore(@Param("status") ProjectStatus status, @Param("deadline") LocalDate deadline);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Project p set p.status = :newStatus, p.updatedAt = :updatedAt " +
+            "where p.id between :startId and :endId and p.status = :status and p.deadline < :deadline")
+    int updateStatusByIdRangeAndDeadlineBefore(@Param("startId") Long startId,
+                                               @Param("endId") Long endId,
+                                               @Param("status") ProjectStatus status,
+                                               @Param("deadline") LocalDate deadline,
+                                               @Param("newStatus") ProjectStatus newStatus,
+                                               @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select new chocoteamteam.togather.dto.ProjectDeadlineDto(p.id, p.deadline) from Project p " +
+            "where p.status = :status and p.deadline < :deadline")
+    List<ProjectDeadlineDto> findAllDeadlineByStatusAndDeadlineBefore(@Param("status") ProjectStatus status,
+                                                                      @Param("deadline") LocalDate deadline);
+
+    @Transactional
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Project p set p.status = :newStatus, p.updatedAt = :updatedAt " +
+            "where p.id in :ids and p.status = :status and p.deadline < :deadline")
+    int updateStatusByIdInAndDeadlineBefore(@Param("ids") Collection<Long> ids,
+                                            @Param("status") ProjectStatus status,
+                                            @Param("deadline") LocalDate deadline,
+                                            @Param("newStatus") ProjectStatus newStatus,
+                                            @Param("updatedAt") LocalDateTime updatedAt);
+
     @Query(value = "select * from project as p " +
             "where round(degrees(acos(sin(radians(:latitude)) * sin(radians(p.latitude)) + (cos(radians( :latitude )) * cos(radians(p.latitude)) * cos(radians( :longitude - p.longitude)))))" +
             " * 60 * 1.1515 * 1.609344, 4) < :distance" ,nativeQuery = true)
@@ -1,12 +1,20 @@
 package chocoteamteam.togather.repository;
 
+import chocoteamteam.togather.batch.application.model.TechStatisticsDto;
 import chocoteamteam.togather.entity.ProjectTechStack;
+import chocoteamteam.togather.type.ProjectStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface ProjectTechStackRepository extends JpaRepository<ProjectTechStack, Long> {
 
@@ -15,4 +23,21 @@ public interface ProjectTechStackRepository extends JpaRepository<ProjectTechSta
     void deleteAllByIdInQuery(@Param("ids") List<Long> ids);
 
     void deleteByProjectId(Long projectId);
-}
\ No newline at end of file
+
+    @Query("select new chocoteamteam.togather.batch.application.model.TechStatisticsDto(" +
+            "t.id, t.name, t.category, count(pt)) " +
+            "from ProjectTechStack pt join pt.techStack t group by t.id, t.name, t.category")
+    List<TechStatisticsDto> countAllGroupByTechStack();
+
+    @Query("select new chocoteamteam.togather.batch.application.model.TechStatisticsDto(" +
+            "t.id, t.name, t.category, count(pt)) " +
+            "from ProjectTechStack pt join pt.techStack t join pt.project p " +
+            "where p.createdAt between :start and :end group by t.id, t.name, t.category")
+    List<TechStatisticsDto> countAllGroupByTechStackAndCreatedAtBetween(@Param("start") LocalDateTime start,
+                                                                        @Param("end") LocalDateTime end);
+
+    // 트랜잭션 안에서 사용하고, 사용 후 반드시 close
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select pt.techStack.id from ProjectTechStack pt join pt.project p where p.status = :status")
+    Stream<Long> streamTechStackIdByProjectStatus(@Param("status") ProjectStatus status);
+}
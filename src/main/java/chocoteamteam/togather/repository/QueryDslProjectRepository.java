@@ -1,6 +1,7 @@
 package chocoteamteam.togather.repository;
 
 import chocoteamteam.togather.batch.application.model.MemberRecommendationProjectDto;
+import chocoteamteam.togather.batch.application.model.RecommendationCandidateDto;
 import chocoteamteam.togather.dto.InterestDetail;
 import chocoteamteam.togather.dto.ProjectCondition;
 import chocoteamteam.togather.dto.queryDslSimpleDto.SimpleProjectDto;
@@ -8,6 +9,7 @@ import chocoteamteam.togather.entity.Project;
 import chocoteamteam.togather.entity.ProjectMember;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,12 +20,9 @@ public interface QueryDslProjectRepository {
 
     Optional<Project> findByIdWithMemberAndTechStack(Long projectId);
 
-    List<MemberRecommendationProjectDto> findAllByTechStackIdsAndDeadline(
-            List<Long> techStackIds,
-            LocalDate startDate,
-            LocalDate endDate,
-            Long memberId
-    );
+    List<RecommendationCandidateDto> findAllRecommendationCandidates(LocalDate startDate, LocalDate endDate);
+
+    List<MemberRecommendationProjectDto> findAllRecommendationProjectByIds(Collection<Long> projectIds);
 
     List<SimpleProjectDto> findAllByMemberId(Long memberId);
 
@@ -1,41 +1,110 @@
 package chocoteamteam.togather.repository;
 
+import chocoteamteam.togather.type.RefreshTokenRotation;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
-import java.util.Optional;
+import java.util.Base64;
+import java.util.Collections;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
-import org.springframework.util.StringUtils;
 
+/*
+ *   회원별 refresh token 저장소
+ *   refreshToken::{회원 id} hash 에 세션(기기) id -> "토큰 SHA-256|만료 시각" 으로 저장해서 여러 기기 로그인을 유지한다.
+ *   토큰 교체는 Lua 스크립트 한 번으로 확인 / 교체 / 재사용 감지를 처리하므로 GET, SET 사이의 경쟁이 없다.
+ * */
 @RequiredArgsConstructor
 @Repository
 public class RefreshTokenRepository {
 
+	private static final String KEY_PREFIX = "refreshToken::";
+	private static final String VALUE_DELIMITER = "|";
+
+	// 만료된 세션을 정리한 뒤 새 세션 저장, key TTL 은 가장 늦게 만료되는 세션에 맞춘다.
+	// (이전 방식의 string 값이 남아 있으면 지우고 시작)
+	private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('type', KEYS[1]).ok == 'string' then redis.call('del', KEYS[1]) end "
+			+ "local fields = redis.call('hgetall', KEYS[1]) "
+			+ "for i = 1, #fields, 2 do "
+			+ "  local value = fields[i + 1] "
+			+ "  local expiresAt = tonumber(string.sub(value, string.find(value, '" + VALUE_DELIMITER + "', 1, true) + 1)) "
+			+ "  if expiresAt <= tonumber(ARGV[4]) then redis.call('hdel', KEYS[1], fields[i]) end "
+			+ "end "
+			+ "redis.call('hset', KEYS[1], ARGV[1], ARGV[2]) "
+			+ "redis.call('pexpire', KEYS[1], ARGV[3]) "
+			+ "return 1",
+		Long.class);
+
+	// 1 : 교체, 0 : 세션 없음, -1 : 재사용 감지 (세션 폐기)
+	private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+		"local current = redis.call('hget', KEYS[1], ARGV[1]) "
+			+ "if not current then return 0 end "
+			+ "local hash = string.sub(current, 1, string.find(current, '" + VALUE_DELIMITER + "', 1, true) - 1) "
+			+ "if hash ~= ARGV[2] then "
+			+ "  redis.call('hdel', KEYS[1], ARGV[1]) "
+			+ "  return -1 "
+			+ "end "
+			+ "redis.call('hset', KEYS[1], ARGV[1], ARGV[3]) "
+			+ "redis.call('pexpire', KEYS[1], ARGV[4]) "
+			+ "return 1",
+		Long.class);
+
 	private final RedisTemplate<String, String> redisTemplate;
 
-	private static final String KEY_PREFIX = "refreshToken::";
+	public void save(long userId, String sessionId, String token, int expiresMin) {
+		long now = System.currentTimeMillis();
+		long ttlMillis = Duration.ofMinutes(expiresMin).toMillis();
 
-	public void save(long userId, String token, int expiresMin) {
-		redisTemplate.opsForValue().set(KEY_PREFIX + userId, token, Duration.ofMinutes(expiresMin));
+		redisTemplate.execute(SAVE_SCRIPT, Collections.singletonList(key(userId)),
+			sessionId, value(token, now + ttlMillis), String.valueOf(ttlMillis),
+			String.valueOf(now));
 	}
 
-	public boolean exists(long userId) {
-		String token = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+	public RefreshTokenRotation rotate(long userId, String sessionId, String oldToken,
+		String newToken, int expiresMin) {
+		long ttlMillis = Duration.ofMinutes(expiresMin).toMillis();
 
-		if (!StringUtils.hasText(token)) {
-			return false;
-		}
+		Long result = redisTemplate.execute(ROTATE_SCRIPT, Collections.singletonList(key(userId)),
+			sessionId, hash(oldToken), value(newToken, System.currentTimeMillis() + ttlMillis),
+			String.valueOf(ttlMillis));
 
-		return true;
+		if (result == null || result == 0L) {
+			return RefreshTokenRotation.NOT_FOUND;
+		}
+		return result == 1L ? RefreshTokenRotation.ROTATED : RefreshTokenRotation.REUSED;
 	}
 
-	public Optional<String> find(long userId) {
-		String token = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+	public boolean exists(long userId) {
+		Boolean exists = redisTemplate.hasKey(key(userId));
 
-		return Optional.ofNullable(token);
+		return exists != null && exists;
 	}
 
+	// 회원의 모든 세션 삭제
 	public void delete(long userId) {
-		redisTemplate.delete(KEY_PREFIX + userId);
+		redisTemplate.delete(key(userId));
+	}
+
+	private static String key(long userId) {
+		return KEY_PREFIX + userId;
+	}
+
+	private static String value(String token, long expiresAtMillis) {
+		return hash(token) + VALUE_DELIMITER + expiresAtMillis;
+	}
+
+	private static String hash(String token) {
+		try {
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+			return Base64.getEncoder().encodeToString(
+				messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
 	}
 }
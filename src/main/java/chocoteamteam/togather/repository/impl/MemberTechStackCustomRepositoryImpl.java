@@ -11,14 +11,27 @@ import chocoteamteam.togather.dto.TechStackDto;
 import chocoteamteam.togather.repository.MemberTechStackCustomRepository;
 import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class MemberTechStackCustomRepositoryImpl implements MemberTechStackCustomRepository {
 
+    // IDENTITY 전략은 JPA batch insert 가 되지 않으므로 multi-row insert 로 직접 저장
+    private static final int BULK_INSERT_SIZE = 500;
+    private static final String BULK_INSERT_SQL =
+        "insert into member_tech_stack (member_id, tech_stack_id, created_at, updated_at) values ";
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public MemberDetailResponse findMemberWithTechStackDetailByMemberId(Long memberId) {
@@ -44,4 +57,26 @@ public class MemberTechStackCustomRepositoryImpl implements MemberTechStackCusto
                 ))).get(memberId);
     }
 
+    @Override
+    public void bulkInsert(Long memberId, Collection<Long> techStackIds) {
+        List<Long> ids = new ArrayList<>(techStackIds);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < ids.size(); from += BULK_INSERT_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_INSERT_SIZE, ids.size()));
+
+            List<Object> args = new ArrayList<>(chunk.size() * 4);
+            for (Long techStackId : chunk) {
+                args.add(memberId);
+                args.add(techStackId);
+                args.add(now);
+                args.add(now);
+            }
+
+            jdbcTemplate.update(
+                BULK_INSERT_SQL + String.join(", ", Collections.nCopies(chunk.size(), "(?, ?, ?, ?)")),
+                args.toArray());
+        }
+    }
+
 }
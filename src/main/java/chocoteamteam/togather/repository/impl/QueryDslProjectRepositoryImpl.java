@@ -2,6 +2,7 @@ package chocoteamteam.togather.repository.impl;
 
 
 import chocoteamteam.togather.batch.application.model.MemberRecommendationProjectDto;
+import chocoteamteam.togather.batch.application.model.RecommendationCandidateDto;
 import chocoteamteam.togather.dto.InterestDetail;
 import chocoteamteam.togather.dto.ProjectCondition;
 import chocoteamteam.togather.dto.queryDslSimpleDto.QSimpleMemberDto;
@@ -23,6 +24,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -59,22 +61,31 @@ public class QueryDslProjectRepositoryImpl implements QueryDslProjectRepository
     }
 
     @Override
-    public List<MemberRecommendationProjectDto> findAllByTechStackIdsAndDeadline(
-            List<Long> techStackIds,
-            LocalDate startDate,
-            LocalDate endDate,
-            Long memberId) {
-
+    public List<RecommendationCandidateDto> findAllRecommendationCandidates(LocalDate startDate, LocalDate endDate) {
         return jpaQueryFactory
+                .select(Projections.fields(RecommendationCandidateDto.class,
+                        project.id.as("projectId"),
+                        project.title.as("subject"),
+                        project.deadline.as("deadline"),
+                        project.member.id.as("authorId"),
+                        techStack.id.as("techStackId"),
+                        techStack.name.as("techStackName")))
                 .from(projectTechStack)
                 .innerJoin(projectTechStack.project, project)
                 .innerJoin(projectTechStack.techStack, techStack)
                 .where(project.status.eq(ProjectStatus.RECRUITING),
                         (project.deadline.between(startDate, endDate)),
-                        (techStack.id.in(techStackIds)),
-                        (project.member.id.ne(memberId)),
                         (project.createdAt.before(LocalDateTime.of(startDate, LocalTime.MIN))))
-                .limit(10)
+                .fetch();
+    }
+
+    @Override
+    public List<MemberRecommendationProjectDto> findAllRecommendationProjectByIds(Collection<Long> projectIds) {
+        return jpaQueryFactory
+                .from(projectTechStack)
+                .innerJoin(projectTechStack.project, project)
+                .innerJoin(projectTechStack.techStack, techStack)
+                .where(project.id.in(projectIds))
                 .transform(groupBy(project.id).list(
                         Projections.fields(MemberRecommendationProjectDto.class,
                                 project.id.as("id"),
@@ -1,7 +1,6 @@
 package chocoteamteam.togather.repository.impl;
 
 import static chocoteamteam.togather.entity.QChatMessage.chatMessage;
-import static chocoteamteam.togather.entity.QMember.member;
 
 import chocoteamteam.togather.dto.ChatMessageDto;
 import chocoteamteam.togather.entity.QChatMessage;
@@ -26,12 +25,10 @@ public class QuerydslChatRepository {
 	public List<ChatMessageDto> findAllByChatRoomId(long chatRoomId) {
 		List<ChatMessageDto> result = jpaQueryFactory.select(
 				Projections.fields(ChatMessageDto.class,
-					member.nickname.as("nickname"),
-					member.profileImage.as("profileImage"),
+					chatMessage.sender.id.as("senderId"),
 					chatMessage.message.as("message"),
 					chatMessage.createdAt.as("sendTime")
 				)).from(chatMessage)
-			.innerJoin(chatMessage.sender, member)
 			.where(chatMessage.chatRoom.id.eq(chatRoomId))
 			.orderBy(chatMessage.createdAt.desc())
 			.limit(1000)
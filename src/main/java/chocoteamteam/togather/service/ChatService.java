@@ -7,10 +7,16 @@ import chocoteamteam.togather.entity.Member;
 import chocoteamteam.togather.repository.ChatMessageRepository;
 import chocoteamteam.togather.repository.ChatRoomRepository;
 import chocoteamteam.togather.repository.MemberRepository;
+import chocoteamteam.togather.repository.ProjectMemberRepository;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -20,9 +26,11 @@ public class ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final MemberRepository memberRepository;
+    private final ProjectMemberRepository projectMemberRepository;
+    private final NotificationService notificationService;
     private final TopicExchange EXCHANGE;
 
-
+    @Transactional
     public void sendMessage(ChatMessageDto chatMessageDto, Long memberId, Long chatRoomId) {
 
         Member member = memberRepository.getReferenceById(memberId);
@@ -33,8 +41,30 @@ public class ChatService {
             .sender(member)
             .message(chatMessageDto.getMessage())
             .build());
+        chatMessageDto.setSenderId(memberId);
         chatMessageDto.setSendTime(saveChatMessage.getCreatedAt());
 
+        // 보낸 회원을 제외한 프로젝트 참여 회원에게 알림
+        List<Long> receiverIds = projectMemberRepository.findMemberIdsByChatRoomId(chatRoomId).stream()
+            .filter(receiverId -> !receiverId.equals(memberId))
+            .collect(Collectors.toList());
+        notificationService.publishAll(receiverIds, "새 채팅 메시지", chatMessageDto.getMessage());
+
+        // 롤백된 메시지가 채팅방에 전달되지 않도록 커밋 후 발행
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        publishMessage(chatRoomId, chatMessageDto);
+                    }
+                });
+            return;
+        }
+        publishMessage(chatRoomId, chatMessageDto);
+    }
+
+    private void publishMessage(Long chatRoomId, ChatMessageDto chatMessageDto) {
         rabbitTemplate.convertAndSend(EXCHANGE.getName(), "room." + chatRoomId, chatMessageDto);
     }
 
@@ -23,6 +23,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final MemberRepository memberRepository;
     private final ProjectRepository projectRepository;
+    private final NotificationService notificationService;
 
     @Transactional
     public CommentDto createComment(Long projectId, String content, Long memberId) {
@@ -34,6 +35,12 @@ public class CommentService {
                 .build());
 
         project.addComment(comment);
+
+        Long ownerId = project.getMember().getId();
+        if (!ownerId.equals(memberId)) {
+            notificationService.publish(ownerId, project.getTitle(),
+                    member.getNickname() + "님이 댓글을 남겼습니다.");
+        }
         return CommentDto.fromEntity(comment);
     }
 
@@ -1,19 +1,8 @@
 package chocoteamteam.togather.service;
 
-import chocoteamteam.togather.exception.ErrorCode;
-import chocoteamteam.togather.exception.FCMException;
 import chocoteamteam.togather.repository.FCMRegistrationTokenRepository;
-import com.google.api.core.ApiFuture;
-import com.google.firebase.FirebaseException;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
-import com.google.firebase.messaging.WebpushConfig;
-import com.google.firebase.messaging.WebpushNotification;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -33,29 +22,10 @@ public class FCMService {
 		tokenRepository.delete(memberId);
 	}
 
-	public void sendToMember(Long memberId, String title, String body) {
-
-		Optional<String> optionalToken = tokenRepository.find(memberId);
-
-		String registrationToken = null;
-
-		if (optionalToken.isPresent()) {
-			registrationToken = optionalToken.get();
-			log.info("saved registration Token = {}",registrationToken);
-		} else {
-			return;
-		}
-
-		Message message = Message.builder()
-			.setToken(registrationToken)
-			.setNotification(Notification.builder()
-				.setTitle(title)
-				.setBody(body)
-				.build())
-			.build();
-
-		FirebaseMessaging.getInstance().sendAsync(message);
-
+	// 한 기기의 토큰만 삭제 (로그아웃한 기기)
+	public void deleteRegistrationToken(Long memberId, String registrationToken) {
+		log.info("member id = {} , delete FCM Token = {}",memberId,registrationToken);
+		tokenRepository.delete(memberId, registrationToken);
 	}
 
 }
@@ -1,9 +1,9 @@
 package chocoteamteam.togather.service;
 
+import chocoteamteam.togather.component.s3.S3Uploader;
 import chocoteamteam.togather.exception.ErrorCode;
 import chocoteamteam.togather.exception.S3FileUtilException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.ObjectMetadata;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.UUID;
@@ -17,6 +17,7 @@ import org.springframework.web.multipart.MultipartFile;
 public class ImageService {
 
     private final AmazonS3 amazonS3;
+    private final S3Uploader s3Uploader;
 
     @Value("${cloud.aws.bucket}")
     private String bucket;
@@ -33,11 +34,9 @@ public class ImageService {
         validationFileType(type.toUpperCase());
 
         String fileName = UUID.randomUUID() + originName;
-        ObjectMetadata objectMetadata = new ObjectMetadata();
 
         try {
-            objectMetadata.setContentLength(file.getInputStream().available());
-            amazonS3.putObject(bucket, fileName, file.getInputStream(), objectMetadata);
+            s3Uploader.upload(bucket, fileName, file);
         } catch (IOException e) {
             throw new S3FileUtilException(ErrorCode.IMAGE_UPLOAD_FAIL);
         }
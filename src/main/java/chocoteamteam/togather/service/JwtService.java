@@ -3,24 +3,30 @@ package chocoteamteam.togather.service;
 import static chocoteamteam.togather.component.jwt.JwtUtils.BEARER_PREFIX;
 import static chocoteamteam.togather.component.jwt.JwtUtils.KEY_ID;
 import static chocoteamteam.togather.component.jwt.JwtUtils.KEY_PROVIDER;
+import static chocoteamteam.togather.component.jwt.JwtUtils.KEY_SESSION;
 
 import chocoteamteam.togather.component.jwt.JwtIssuer;
 import chocoteamteam.togather.component.jwt.JwtParser;
 import chocoteamteam.togather.component.jwt.JwtUtils;
+import chocoteamteam.togather.component.jwt.VerifiedTokenCache;
 import chocoteamteam.togather.dto.SignUpTokenMemberInfo;
 import chocoteamteam.togather.dto.TokenMemberInfo;
 import chocoteamteam.togather.dto.Tokens;
 import chocoteamteam.togather.exception.ErrorCode;
 import chocoteamteam.togather.exception.TokenException;
 import chocoteamteam.togather.repository.RefreshTokenRepository;
+import chocoteamteam.togather.type.RefreshTokenRotation;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
+import java.util.UUID;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class JwtService {
@@ -29,51 +35,78 @@ public class JwtService {
 	private final JwtIssuer jwtIssuer;
 	private final JwtParser jwtParser;
 	private final RefreshTokenRepository refreshTokenRepository;
+	private final VerifiedTokenCache verifiedTokenCache;
 
-	// 토큰 발급
+	// 토큰 발급 (로그인 할 때마다 새 세션)
 	@Transactional
 	public Tokens issueTokens(@NonNull TokenMemberInfo info) {
+		String sessionId = UUID.randomUUID().toString();
+		Tokens tokens = createTokens(info, sessionId);
 
-		String accessToken = jwtIssuer.issueToken(
-			info.toClaims(jwtUtils.getAccessTokenExpiredMin()), jwtUtils.getEncodedAccessKey());
-		String refreshToken = jwtIssuer.issueToken(
-			info.toClaims(jwtUtils.getRefreshTokenExpiredMin()), jwtUtils.getEncodedRefreshKey());
+		refreshTokenRepository.save(info.getId(), sessionId, tokens.getRefreshToken(),
+			jwtUtils.getRefreshTokenExpiredMin());
 
-		refreshTokenRepository.
-			save(info.getId(), refreshToken, jwtUtils.getRefreshTokenExpiredMin());
-
-		return Tokens.builder()
-			.accessToken(accessToken)
-			.refreshToken(refreshToken)
-			.accessExpires(jwtUtils.getAccessTokenExpiredMin())
-			.grantType(BEARER_PREFIX)
-			.build();
+		return tokens;
 	}
 
-	// 토큰 재발급
+	/*
+	 *   토큰 재발급
+	 *   같은 세션의 refresh token 을 새 토큰으로 교체한다.
+	 *   이미 교체된 토큰이 다시 들어오면 탈취로 보고 해당 세션을 폐기한다.
+	 * */
 	@Transactional
 	public Tokens refreshTokens(@NonNull String refreshToken) {
 
 		Claims claims = jwtParser.parseToken(refreshToken, jwtUtils.getEncodedRefreshKey());
 
-		String savedToken = refreshTokenRepository.find(claims.get(KEY_ID, Long.class))
-			.orElseThrow(() -> new TokenException(ErrorCode.INVALID_TOKEN));
+		String sessionId = claims.get(KEY_SESSION, String.class);
+		if (!StringUtils.hasText(sessionId)) {
+			throw new TokenException(ErrorCode.INVALID_TOKEN);
+		}
 
-		validateRefreshTokens(refreshToken, savedToken);
+		TokenMemberInfo info = TokenMemberInfo.from(claims);
+		Tokens tokens = createTokens(info, sessionId);
 
-		return issueTokens(TokenMemberInfo.from(claims));
-	}
+		RefreshTokenRotation rotation = refreshTokenRepository.rotate(info.getId(), sessionId,
+			refreshToken, tokens.getRefreshToken(), jwtUtils.getRefreshTokenExpiredMin());
 
-	private void validateRefreshTokens(String refreshToken, String savedToken) {
-		if (!refreshToken.equals(savedToken)) {
+		if (rotation == RefreshTokenRotation.REUSED) {
+			log.warn("refresh token reused. member id : {} , session : {}", info.getId(), sessionId);
+		}
+		if (rotation != RefreshTokenRotation.ROTATED) {
 			throw new TokenException(ErrorCode.INVALID_TOKEN);
 		}
+
+		return tokens;
+	}
+
+	private Tokens createTokens(TokenMemberInfo info, String sessionId) {
+		String accessToken = jwtIssuer.issueToken(
+			info.toClaims(jwtUtils.getAccessTokenExpiredMin()), jwtUtils.getEncodedAccessKey());
+
+		// 같은 초에 재발급 되어도 토큰이 달라지도록 jti 를 넣는다.
+		Claims refreshClaims = info.toClaims(jwtUtils.getRefreshTokenExpiredMin());
+		refreshClaims.put(KEY_SESSION, sessionId);
+		refreshClaims.setId(UUID.randomUUID().toString());
+		String refreshToken = jwtIssuer.issueToken(refreshClaims, jwtUtils.getEncodedRefreshKey());
+
+		return Tokens.builder()
+			.accessToken(accessToken)
+			.refreshToken(refreshToken)
+			.accessExpires(jwtUtils.getAccessTokenExpiredMin())
+			.grantType(BEARER_PREFIX)
+			.build();
 	}
 
-	// 액세스 토큰 파싱
+	// 액세스 토큰 파싱 (한 번 검증된 토큰은 만료 전까지 캐시에서 꺼낸다)
 	public TokenMemberInfo parseAccessToken(@NonNull String accessToken) {
-		return TokenMemberInfo.from(
-			jwtParser.parseToken(accessToken, jwtUtils.getEncodedAccessKey()));
+		return verifiedTokenCache.get(accessToken)
+			.orElseGet(() -> {
+				TokenMemberInfo info = TokenMemberInfo.from(
+					jwtParser.parseToken(accessToken, jwtUtils.getEncodedAccessKey()));
+				verifiedTokenCache.put(accessToken, info);
+				return info;
+			});
 	}
 
 	public String issueSignUpToken(@NonNull String email,@NonNull String provider) {
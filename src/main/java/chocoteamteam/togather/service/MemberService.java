@@ -1,5 +1,7 @@
 package chocoteamteam.togather.service;
 
+import chocoteamteam.togather.component.member.MemberProfileDictionary;
+import chocoteamteam.togather.component.revocation.MemberRevocationPublisher;
 import chocoteamteam.togather.dto.MemberDetailResponse;
 import chocoteamteam.togather.dto.SignUpControllerDto.Request;
 import chocoteamteam.togather.dto.TechStackDto;
@@ -33,6 +35,8 @@ public class MemberService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final TechStackRepository techStackRepository;
     private final MemberTechStackRepository memberTechStackRepository;
+    private final MemberRevocationPublisher memberRevocationPublisher;
+    private final MemberProfileDictionary memberProfileDictionary;
 
 
     @Transactional(readOnly = true)
@@ -65,6 +69,8 @@ public class MemberService {
         member.changeStatus(status);
 
         refreshTokenRepository.delete(memberId);
+
+        memberRevocationPublisher.publish(memberId, status);
     }
 
     @Transactional
@@ -86,6 +92,7 @@ public class MemberService {
 
         // 회원 정보 수정
         member.modifyNicknameAndProfileImage(request.getNickname(), request.getProfileImage());
+        memberProfileDictionary.invalidate(memberId);
 
         // 삭제할 MemberTechStackId와 저장할 TechStackId를 구분
         List<MemberTechStack> memberTechStacks = member.getMemberTechStacks();
@@ -136,12 +143,12 @@ public class MemberService {
 
     private void saveByMemberTechStack(Member member, Set<Long> techStackIds) {
         if (!techStackIds.isEmpty()) {
-            List<TechStack> techStacks = techStackRepository.findAllById(techStackIds);
-            for (TechStack techStack : techStacks) {
-                memberTechStackRepository.save(MemberTechStack.builder()
-                    .member(member)
-                    .techStack(techStack)
-                    .build());
+            // 존재하는 기술 스택만 한 번의 insert 로 저장
+            List<Long> existTechStackIds = techStackRepository.findAllById(techStackIds).stream()
+                .map(TechStack::getId)
+                .collect(Collectors.toList());
+            if (!existTechStackIds.isEmpty()) {
+                memberTechStackRepository.bulkInsert(member.getId(), existTechStackIds);
             }
         }
     }
@@ -0,0 +1,72 @@
+package chocoteamteam.togather.service;
+
+import chocoteamteam.togather.component.outbox.NotificationOutboxRelay;
+import chocoteamteam.togather.entity.NotificationOutbox;
+import chocoteamteam.togather.repository.NotificationOutboxRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ *   알림 발행
+ *   호출한 요청의 트랜잭션 안에서 outbox 에만 저장하고, 실제 전송은 커밋 후 relay 스레드가 한다.
+ *   롤백되면 outbox 도 함께 롤백되므로 알림이 나가지 않는다.
+ * */
+@RequiredArgsConstructor
+@Service
+public class NotificationService {
+
+	// NotificationOutbox.body 컬럼 길이
+	private static final int MAX_BODY_LENGTH = 255;
+
+	private final NotificationOutboxRepository outboxRepository;
+	private final NotificationOutboxRelay outboxRelay;
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publish(Long memberId, String title, String body) {
+		outboxRepository.save(toOutbox(memberId, title, body));
+		wakeRelayAfterCommit();
+	}
+
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publishAll(Collection<Long> memberIds, String title, String body) {
+		if (memberIds.isEmpty()) {
+			return;
+		}
+
+		List<NotificationOutbox> outboxes = memberIds.stream()
+			.map(memberId -> toOutbox(memberId, title, body))
+			.collect(Collectors.toList());
+		outboxRepository.saveAll(outboxes);
+		wakeRelayAfterCommit();
+	}
+
+	private NotificationOutbox toOutbox(Long memberId, String title, String body) {
+		return NotificationOutbox.builder()
+			.memberId(memberId)
+			.title(title)
+			.body(body.length() > MAX_BODY_LENGTH ? body.substring(0, MAX_BODY_LENGTH) : body)
+			.build();
+	}
+
+	private void wakeRelayAfterCommit() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(
+				new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						outboxRelay.wake();
+					}
+				});
+			return;
+		}
+
+		outboxRelay.wake();
+	}
+}
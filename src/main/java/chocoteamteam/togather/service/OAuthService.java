@@ -1,15 +1,16 @@
 package chocoteamteam.togather.service;
 
+import chocoteamteam.togather.component.revocation.MemberRevocationPublisher;
 import chocoteamteam.togather.dto.*;
 import chocoteamteam.togather.dto.SignUpControllerDto.Response;
 import chocoteamteam.togather.entity.Member;
-import chocoteamteam.togather.entity.MemberTechStack;
 import chocoteamteam.togather.entity.TechStack;
 import chocoteamteam.togather.exception.CustomOAuthException;
 import chocoteamteam.togather.exception.ErrorCode;
 import chocoteamteam.togather.exception.TechStackException;
 import chocoteamteam.togather.oauth2.OAuth2MemberInfo;
 import chocoteamteam.togather.oauth2.OAuth2MemberInfoFactory;
+import chocoteamteam.togather.oauth2.OAuth2ProviderClient;
 import chocoteamteam.togather.repository.MemberRepository;
 import chocoteamteam.togather.repository.MemberTechStackRepository;
 import chocoteamteam.togather.repository.RefreshTokenRepository;
@@ -18,24 +19,18 @@ import chocoteamteam.togather.type.LoginStatus;
 import chocoteamteam.togather.type.MemberStatus;
 import chocoteamteam.togather.type.ProviderType;
 import chocoteamteam.togather.type.Role;
-import java.nio.charset.StandardCharsets;
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.MediaType;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.registration.InMemoryClientRegistrationRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Schedulers;
 
 import static chocoteamteam.togather.exception.ErrorCode.NOT_FOUND_TECH_STACK;
 
@@ -47,20 +42,35 @@ public class OAuthService {
     private final TechStackRepository techStackRepository;
     private final MemberTechStackRepository memberTechStackRepository;
     private final InMemoryClientRegistrationRepository inMemoryClientRegistrationRepository;
+    private final OAuth2ProviderClient oAuth2ProviderClient;
     private final JwtService jwtService;
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final MemberRevocationPublisher memberRevocationPublisher;
 
-    @Transactional
-    public LoginResponse login(String code, String providerType) {
+    /*
+     *   Provider 에서 회원 정보를 비동기로 가져온다.
+     *   응답은 boundedElastic 스레드에서 이어 받으므로, 이후의 DB 작업이 netty 이벤트 루프를 막지 않는다.
+     * */
+    public CompletableFuture<OAuth2MemberInfo> getOAuth2MemberInfo(String code,
+        String providerType) {
 
         ClientRegistration provider = inMemoryClientRegistrationRepository.findByRegistrationId(
             providerType);
 
-        OAuthTokenResponse oAuthToken = getOAuth2Token(code, provider);
-        Map<String, Object> attributes = getAttributes(oAuthToken, provider);
-        OAuth2MemberInfo oAuth2MemberInfo = OAuth2MemberInfoFactory
-            .getOAuth2MemberInfo(providerType.toUpperCase(), attributes);
+        if (provider == null) {
+            throw new CustomOAuthException(ErrorCode.ABNORMAL_ACCESS);
+        }
+
+        return oAuth2ProviderClient.getAttributes(code, provider)
+            .publishOn(Schedulers.boundedElastic())
+            .map(attributes -> OAuth2MemberInfoFactory
+                .getOAuth2MemberInfo(providerType.toUpperCase(), attributes))
+            .toFuture();
+    }
+
+    @Transactional
+    public LoginResponse login(OAuth2MemberInfo oAuth2MemberInfo, String providerType) {
 
         Optional<String> optionalEmail = oAuth2MemberInfo.getEmail();
 
@@ -73,7 +83,7 @@ public class OAuthService {
 
         String email = optionalEmail.get();
 
-        Optional<Member> optionalMember = memberRepository.findByEmail(email);
+        Optional<Member> optionalMember = memberRepository.findWithTechStackByEmail(email);
 
         if (optionalMember.isEmpty()) {
             String signUpToken = jwtService.issueSignUpToken(email, providerType.toUpperCase());
@@ -108,13 +118,10 @@ public class OAuthService {
             .build();
     }
 
+    // 기술 스택은 회원 조회 시 함께 가져왔으므로 추가 조회 없음
     private List<TechStackDto> getTechStackDtosFromMember(Member member) {
-        List<Long> techStackIds = member.getMemberTechStacks().stream()
-            .map(memberTechStack -> memberTechStack.getTechStack().getId())
-            .collect(Collectors.toList());
-
-        return techStackRepository.findAllById(techStackIds).stream()
-            .map(TechStackDto::from)
+        return member.getMemberTechStacks().stream()
+            .map(memberTechStack -> TechStackDto.from(memberTechStack.getTechStack()))
             .collect(Collectors.toList());
     }
 
@@ -173,55 +180,15 @@ public class OAuthService {
     }
 
     private void registerMemberTechStack(Member member, List<TechStack> techStacks) {
-        for (TechStack techStack : techStacks) {
-            memberTechStackRepository.save(MemberTechStack.builder()
-                .member(member)
-                .techStack(techStack)
-                .build());
-        }
-    }
-
-    private MultiValueMap<String, String> tokenRequest(String code, ClientRegistration provider) {
-        LinkedMultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-        formData.add("grant_type", "authorization_code");
-        formData.add("code", code);
-        formData.add("redirect_uri", provider.getRedirectUri());
-        formData.add("client_id", provider.getClientId());
-        formData.add("client_secret", provider.getClientSecret());
-        return formData;
-    }
-
-    private OAuthTokenResponse getOAuth2Token(String code, ClientRegistration provider) {
-        return WebClient.create()
-            .post()
-            .uri(provider.getProviderDetails().getTokenUri())
-            .headers(header -> {
-                header.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
-                header.setBasicAuth(provider.getClientId(), provider.getClientSecret());
-                header.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-                header.setAcceptCharset(Collections.singletonList(StandardCharsets.UTF_8));
-            })
-            .bodyValue(tokenRequest(code, provider))
-            .retrieve()
-            .bodyToMono(OAuthTokenResponse.class)
-//            .bodyToMono(new )
-            .block();
-    }
-
-    private Map<String, Object> getAttributes(OAuthTokenResponse oAuthToken,
-        ClientRegistration provider) {
-        return WebClient.create()
-            .get()
-            .uri(provider.getProviderDetails().getUserInfoEndpoint().getUri())
-            .headers(httpHeader -> httpHeader.setBearerAuth(oAuthToken.getAccess_token()))
-            .retrieve().bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {
-            })
-            .block();
+        memberTechStackRepository.bulkInsert(member.getId(), techStacks.stream()
+            .map(TechStack::getId)
+            .collect(Collectors.toList()));
     }
 
     @Transactional
     public void logout(@NonNull Long memberId) {
         refreshTokenRepository.delete(memberId);
+        memberRevocationPublisher.publish(memberId);
     }
 
 }
\ No newline at end of file
@@ -28,7 +28,7 @@ public class ProjectApplicantService {
 	private final ApplicantRepository applicantRepository;
 	private final MemberRepository memberRepository;
 	private final ProjectMemberRepository projectMemberRepository;
-	private final FCMService fcmService;
+	private final NotificationService notificationService;
 
 	@Transactional
 	public void applyForProject(Long memberId, Long projectId) {
@@ -42,7 +42,7 @@ public class ProjectApplicantService {
 		validateApplicant(memberId, projectId);
 		saveApplicant(member,project);
 
-		fcmService.sendToMember(project.getMember().getId(), project.getTitle(),
+		notificationService.publish(project.getMember().getId(), project.getTitle(),
 			member.getNickname() + "님이 신청했습니다.");
 
 	}
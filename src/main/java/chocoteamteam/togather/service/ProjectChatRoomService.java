@@ -1,9 +1,12 @@
 package chocoteamteam.togather.service;
 
+import chocoteamteam.togather.component.member.MemberProfileDictionary;
 import chocoteamteam.togather.dto.ChangeChatRoomNameForm;
 import chocoteamteam.togather.dto.ChatDetailDto;
+import chocoteamteam.togather.dto.ChatMessageDto;
 import chocoteamteam.togather.dto.ChatRoomDto;
 import chocoteamteam.togather.dto.CreateChatRoomForm;
+import chocoteamteam.togather.dto.queryDslSimpleDto.SimpleMemberDto;
 import chocoteamteam.togather.entity.ChatRoom;
 import chocoteamteam.togather.exception.ChatRoomException;
 import chocoteamteam.togather.exception.ErrorCode;
@@ -12,7 +15,10 @@ import chocoteamteam.togather.repository.ChatRoomRepository;
 import chocoteamteam.togather.repository.ProjectMemberRepository;
 import chocoteamteam.togather.repository.ProjectRepository;
 import chocoteamteam.togather.repository.impl.QuerydslChatRepository;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -30,6 +36,7 @@ public class ProjectChatRoomService {
 	private final ProjectRepository projectRepository;
 	private final ProjectMemberRepository projectMemberRepository;
 	private final QuerydslChatRepository querydslChatRepository;
+	private final MemberProfileDictionary memberProfileDictionary;
 
 
 	@Transactional
@@ -67,14 +74,30 @@ public class ProjectChatRoomService {
 
 		ChatRoom chatRoom = getProjectChat(projectId, chatRoomId);
 
+		List<ChatMessageDto> messages = querydslChatRepository.findAllByChatRoomId(chatRoomId);
+
 		return ChatDetailDto.builder()
 			.roomId(chatRoomId)
 			.roomName(chatRoom.getName())
-			.messages(querydslChatRepository.findAllByChatRoomId(chatRoomId))
+			.messages(messages)
+			.senders(getSenders(messages))
 			.build();
 
 	}
 
+	// 메시지마다 회원 정보를 반복하지 않고 발신자 목록을 한 번만 내려줌
+	private List<SimpleMemberDto> getSenders(List<ChatMessageDto> messages) {
+		Set<Long> senderIds = messages.stream()
+			.map(ChatMessageDto::getSenderId)
+			.collect(Collectors.toSet());
+
+		if (senderIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		return new ArrayList<>(memberProfileDictionary.getAll(senderIds).values());
+	}
+
 	@Transactional
 	public void changeChatRoomName(ChangeChatRoomNameForm form) {
 		authenticateProjectMember(form.getProjectId(), form.getMemberId());
@@ -1,5 +1,7 @@
 package chocoteamteam.togather.service;
 
+import chocoteamteam.togather.component.statistics.TechStackDemandCounter;
+import chocoteamteam.togather.component.timer.ProjectDeadlineTimer;
 import chocoteamteam.togather.dto.*;
 import chocoteamteam.togather.dto.queryDslSimpleDto.SimpleProjectDto;
 import chocoteamteam.togather.entity.*;
@@ -24,6 +26,8 @@ public class ProjectService {
     private final TechStackRepository techStackRepository;
     private final ProjectTechStackRepository projectTechStackRepository;
     private final ProjectMemberRepository projectMemberRepository;
+    private final ProjectDeadlineTimer projectDeadlineTimer;
+    private final TechStackDemandCounter techStackDemandCounter;
 
     @Transactional
     public ProjectDto createProject(Long memberId, CreateProjectForm form) {
@@ -47,6 +51,8 @@ public class ProjectService {
                 .build());
 
         saveProjectTechs(project, getTechStacks(form.getTechStackIds()));
+        techStackDemandCounter.increment(form.getTechStackIds());
+        projectDeadlineTimer.schedule(project.getId(), project.getDeadline());
         return ProjectDto.from(project);
     }
 
@@ -88,6 +94,11 @@ public class ProjectService {
     private ProjectDto updateProject(UpdateProjectForm form, Project project) {
         project.update(form);
         calcAndUpdateTechStack(project, form);
+        if (project.getStatus() == ProjectStatus.RECRUITING) {
+            projectDeadlineTimer.schedule(project.getId(), project.getDeadline());
+        } else {
+            projectDeadlineTimer.cancel(project.getId());
+        }
         return ProjectDto.from(project);
     }
 
@@ -124,13 +135,21 @@ public class ProjectService {
         if (!deleteIds.isEmpty()) {
             projectTechStackRepository.deleteAllByIdInQuery(deleteIds);
             project.getProjectTechStacks().removeAll(deleteProjectTechStacks);
+            techStackDemandCounter.decrement(getTechStackIds(deleteProjectTechStacks));
         }
 
         if (!addIds.isEmpty()) {
             saveProjectTechs(project, getTechStacks(new ArrayList<>(addIds)));
+            techStackDemandCounter.increment(addIds);
         }
     }
 
+    private List<Long> getTechStackIds(List<ProjectTechStack> projectTechStacks) {
+        return projectTechStacks.stream()
+                .map(projectTechStack -> projectTechStack.getTechStack().getId())
+                .collect(Collectors.toList());
+    }
+
     @Transactional(readOnly = true)
     public List<SimpleProjectDto> getProjectList(ProjectCondition projectCondition) {
         return projectRepository.findAllOptionAndSearch(projectCondition);
@@ -156,6 +175,8 @@ public class ProjectService {
     private ProjectDto deleteProject(Project project) {
         projectTechStackRepository.deleteByProjectId(project.getId());
         projectRepository.deleteById(project.getId());
+        projectDeadlineTimer.cancel(project.getId());
+        techStackDemandCounter.decrement(getTechStackIds(project.getProjectTechStacks()));
         return ProjectDto.from(project);
     }
 
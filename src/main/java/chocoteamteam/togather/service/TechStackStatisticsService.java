@@ -1,17 +1,48 @@
 package chocoteamteam.togather.service;
 
+import chocoteamteam.togather.batch.application.model.TechStatisticsDto;
+import chocoteamteam.togather.batch.domain.entity.TechStackStatistics;
+import chocoteamteam.togather.batch.domain.entity.TechStackSupplyDemand;
+import chocoteamteam.togather.batch.domain.repository.TechStackStatisticsRepository;
+import chocoteamteam.togather.batch.domain.repository.TechStackSupplyDemandRepository;
 import chocoteamteam.togather.batch.domain.repository.WeeklyTechStatisticsRepository;
+import chocoteamteam.togather.component.statistics.TechStackDemandCounter;
+import chocoteamteam.togather.dto.LiveTechStackStatisticsResponse;
+import chocoteamteam.togather.dto.PeriodTechStackStatisticsResponse;
+import chocoteamteam.togather.dto.TechStackStatisticsPointDto;
+import chocoteamteam.togather.dto.TechStackSupplyDemandDto;
+import chocoteamteam.togather.dto.TechStackSupplyDemandResponse;
+import chocoteamteam.togather.dto.TechStackTrendResponse;
 import chocoteamteam.togather.dto.WeeklyTechStackStatisticsResponse;
+import chocoteamteam.togather.entity.TechStack;
+import chocoteamteam.togather.exception.TechStackException;
+import chocoteamteam.togather.repository.TechStackRepository;
+import chocoteamteam.togather.type.StatisticsGranularity;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static chocoteamteam.togather.exception.ErrorCode.NOT_FOUND_TECH_STACK;
 
 @RequiredArgsConstructor
 @Service
 public class TechStackStatisticsService {
+    public static final int MAX_TREND_PERIODS = 104;
+
     private final WeeklyTechStatisticsRepository weeklyTechStatisticsRepository;
+    private final TechStackStatisticsRepository techStackStatisticsRepository;
+    private final TechStackSupplyDemandRepository techStackSupplyDemandRepository;
+    private final TechStackDemandCounter techStackDemandCounter;
+    private final TechStackRepository techStackRepository;
 
     public WeeklyTechStackStatisticsResponse getWeeklyStatistics() {
         int weeks = LocalDate.now().minusDays(7).get(WeekFields.ISO.weekOfYear());
@@ -21,4 +52,94 @@ public class TechStackStatisticsService {
     public WeeklyTechStackStatisticsResponse getWeeklyStatistics(int weeks) {
         return new WeeklyTechStackStatisticsResponse().fromEntity(weeklyTechStatisticsRepository.findAllByWeeks(weeks), weeks);
     }
+
+    // 주간 집계를 기다리지 않고 현재 기술 스택별 프로젝트 수를 반환
+    public LiveTechStackStatisticsResponse getLiveStatistics() {
+        Map<Long, Long> counts = techStackDemandCounter.getCounts();
+        List<TechStack> techStacks = techStackRepository.findAll();
+
+        List<TechStatisticsDto> techStatistics = techStacks.stream()
+                .map(techStack -> TechStatisticsDto.builder()
+                        .techStackId(techStack.getId())
+                        .techStackName(techStack.getName())
+                        .techStackCategory(techStack.getCategory())
+                        .count(Math.max(0L, counts.getOrDefault(techStack.getId(), 0L)))
+                        .build())
+                .sorted(Comparator.comparing(TechStatisticsDto::getCount).reversed())
+                .collect(Collectors.toList());
+
+        return new LiveTechStackStatisticsResponse(LocalDateTime.now(), techStatistics);
+    }
+
+    /*
+     *   최근 periods 개 구간의 추이 (현재 구간 포함)
+     *   롤업된 행이 있는 구간만 반환하고, 행이 없는 구간은 0 건으로 채우지 않고 뺀다. (집계 누락과 구분할 수 없다.)
+     *   delta 는 직전 구간에도 행이 있을 때만 계산하고, 없으면 null 이다.
+     * */
+    public TechStackTrendResponse getTrend(Long techStackId, StatisticsGranularity granularity, int periods) {
+        TechStack techStack = techStackRepository.findById(techStackId)
+                .orElseThrow(() -> new TechStackException(NOT_FOUND_TECH_STACK));
+
+        int size = Math.max(1, Math.min(periods, MAX_TREND_PERIODS));
+        LocalDate to = granularity.periodStart(LocalDate.now());
+        LocalDate from = granularity.plus(to, -(size - 1));
+
+        // 첫 구간의 delta 를 위해 한 구간 앞부터 읽는다.
+        Map<LocalDate, TechStackStatistics> rollups = techStackStatisticsRepository
+                .findAllByTechStackIdAndGranularityAndPeriodStartBetweenOrderByPeriodStartAsc(
+                        techStackId, granularity, granularity.plus(from, -1), to)
+                .stream()
+                .collect(Collectors.toMap(TechStackStatistics::getPeriodStart, Function.identity()));
+
+        List<TechStackStatisticsPointDto> points = new ArrayList<>(size);
+        for (LocalDate periodStart = from; !periodStart.isAfter(to); periodStart = granularity.plus(periodStart, 1)) {
+            TechStackStatistics rollup = rollups.get(periodStart);
+            if (rollup == null) {
+                continue;
+            }
+            TechStackStatistics previous = rollups.get(granularity.plus(periodStart, -1));
+            points.add(TechStackStatisticsPointDto.builder()
+                    .techStackId(techStack.getId())
+                    .techStackName(techStack.getName())
+                    .techStackCategory(techStack.getCategory())
+                    .periodKey(rollup.getPeriodKey())
+                    .periodStart(periodStart)
+                    .count(rollup.getCount())
+                    .delta(previous == null ? null : rollup.getCount() - previous.getCount())
+                    .build());
+        }
+
+        return new TechStackTrendResponse(techStack.getId(), techStack.getName(), granularity, points);
+    }
+
+    // 특정 구간(예: 2022-W40, 2022-10)의 기술 스택별 통계
+    public PeriodTechStackStatisticsResponse getPeriodStatistics(StatisticsGranularity granularity, String periodKey) {
+        List<TechStackStatisticsPointDto> techStatistics = techStackStatisticsRepository
+                .findAllByGranularityAndPeriodKey(granularity, periodKey)
+                .stream()
+                .sorted(Comparator.comparing(TechStackStatistics::getCount).reversed())
+                .map(TechStackStatisticsPointDto::from)
+                .collect(Collectors.toList());
+
+        return new PeriodTechStackStatisticsResponse(granularity, periodKey, techStatistics);
+    }
+
+    /*
+     *   주차별 수요 / 공급 (periodKey 가 없으면 지난 주)
+     *   공급이 부족한 순서(supply / demand 오름차순)로 정렬하고, 수요가 없는 기술 스택은 뒤로 보낸다.
+     * */
+    public TechStackSupplyDemandResponse getSupplyDemand(String periodKey) {
+        String key = periodKey != null ? periodKey
+                : StatisticsGranularity.WEEKLY.periodKey(LocalDate.now().minusWeeks(1));
+
+        List<TechStackSupplyDemandDto> techStacks = techStackSupplyDemandRepository.findAllByPeriodKey(key)
+                .stream()
+                .sorted(Comparator.comparing(TechStackSupplyDemand::getSupplyDemandRatio,
+                                Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Comparator.comparingLong(TechStackSupplyDemand::getDemand).reversed()))
+                .map(TechStackSupplyDemandDto::from)
+                .collect(Collectors.toList());
+
+        return new TechStackSupplyDemandResponse(key, techStacks);
+    }
 }
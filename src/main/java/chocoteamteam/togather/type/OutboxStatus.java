@@ -0,0 +1,5 @@
+package chocoteamteam.togather.type;
+
+public enum OutboxStatus {
+    PENDING, SENT, FAILED
+}
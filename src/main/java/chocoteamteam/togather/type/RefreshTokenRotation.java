@@ -0,0 +1,10 @@
+package chocoteamteam.togather.type;
+
+public enum RefreshTokenRotation {
+	// 저장된 토큰과 일치해서 새 토큰으로 교체됨
+	ROTATED,
+	// 로그아웃, 만료 등으로 세션이 없음
+	NOT_FOUND,
+	// 이미 교체된 이전 토큰이 다시 사용됨 (탈취 의심, 해당 세션 폐기)
+	REUSED
+}
@@ -0,0 +1,80 @@
+package chocoteamteam.togather.type;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.IsoFields;
+import java.time.temporal.TemporalAdjusters;
+
+/*
+ *   기술 스택 통계 집계 단위
+ *   주간 키는 ISO 주차 기준 연도를 포함하므로(예: 2021-01-01 -> 2020-W53) 연도가 달라도 겹치지 않는다.
+ * */
+public enum StatisticsGranularity {
+    DAILY {
+        @Override
+        public LocalDate periodStart(LocalDate date) {
+            return date;
+        }
+
+        @Override
+        public LocalDate plus(LocalDate periodStart, long amount) {
+            return periodStart.plusDays(amount);
+        }
+
+        @Override
+        public String periodKey(LocalDate date) {
+            return date.toString();
+        }
+    },
+    WEEKLY {
+        @Override
+        public LocalDate periodStart(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+
+        @Override
+        public LocalDate plus(LocalDate periodStart, long amount) {
+            return periodStart.plusWeeks(amount);
+        }
+
+        @Override
+        public String periodKey(LocalDate date) {
+            return String.format("%d-W%02d",
+                    date.get(IsoFields.WEEK_BASED_YEAR), date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        }
+    },
+    MONTHLY {
+        @Override
+        public LocalDate periodStart(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+
+        @Override
+        public LocalDate plus(LocalDate periodStart, long amount) {
+            return periodStart.plusMonths(amount);
+        }
+
+        @Override
+        public String periodKey(LocalDate date) {
+            return YearMonth.from(date).toString();
+        }
+    };
+
+    // date 가 속한 구간의 시작일
+    public abstract LocalDate periodStart(LocalDate date);
+
+    // 구간 시작일 기준 amount 구간 뒤의 시작일
+    public abstract LocalDate plus(LocalDate periodStart, long amount);
+
+    // DAILY : 2022-10-03 , WEEKLY : 2022-W40 , MONTHLY : 2022-10
+    public abstract String periodKey(LocalDate date);
+
+    public LocalDate periodEnd(LocalDate date) {
+        return plus(periodStart(date), 1).minusDays(1);
+    }
+
+    public LocalDate previousPeriodStart(LocalDate date) {
+        return plus(periodStart(date), -1);
+    }
+}
@@ -3,7 +3,6 @@ package chocoteamteam.togather.batch.application.job;
 import chocoteamteam.togather.batch.BatchTestConfig;
 import chocoteamteam.togather.batch.application.job.listener.JobExecutionLogger;
 import chocoteamteam.togather.batch.application.job.param.RecommendationProjectJobParam;
-import chocoteamteam.togather.batch.application.model.MemberRecommendationProjectDto;
 import chocoteamteam.togather.batch.application.service.CreateRecommendationProjectService;
 import chocoteamteam.togather.batch.domain.entity.Mail;
 import chocoteamteam.togather.batch.domain.repository.MailRepository;
@@ -62,7 +61,7 @@ class CreateRecommendationProjectJobConfigTest {
         mailRepository.save(Mail.builder()
                 .email("e@naver.com")
                 .subject("지난 제목")
-                .content("지난 내용")
+                .memberId(1L)
                 .build());
     }
 
@@ -215,15 +214,8 @@ class CreateRecommendationProjectJobConfigTest {
         assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
         List<Mail> mails = mailRepository.findAll();
         assertThat(mails).hasSize(1);
-        List<MemberRecommendationProjectDto> targetProjects =
-                projectRepository.findAllByTechStackIdsAndDeadline(
-                        List.of(techStack.getId()),
-                        startDate,
-                        endDate,
-                        member.getId()
-                );
-        assertThat(targetProjects).hasSize(1);
-        assertThat(targetProjects.get(0).getSubject()).isEqualTo(targetProject.getTitle());
+        assertThat(mails.get(0).getMemberId()).isEqualTo(author.getId());
+        assertThat(mails.get(0).getProjectIds()).containsExactly(targetProject.getId());
     }
 
     @Test
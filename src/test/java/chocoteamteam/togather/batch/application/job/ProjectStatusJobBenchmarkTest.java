@@ -0,0 +1,125 @@
+package chocoteamteam.togather.batch.application.job;
+
+import chocoteamteam.togather.batch.BatchTestConfig;
+import chocoteamteam.togather.batch.application.job.listener.JobExecutionLogger;
+import chocoteamteam.togather.batch.application.job.param.ProjectStatusJobParam;
+import chocoteamteam.togather.entity.Member;
+import chocoteamteam.togather.repository.MemberRepository;
+import chocoteamteam.togather.repository.impl.QueryDslTestConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ *   마감 처리 Job 성능 비교 (chunk vs 구간 단위 UPDATE)
+ *   -Dbenchmark=true 로 실행, -Dbenchmark.projects 로 건수 조정 (기본 100만건)
+ * */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBatchTest
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {ProjectStatusJobConfig.class, BatchTestConfig.class, QueryDslTestConfig.class,
+        JobExecutionLogger.class, ProjectStatusJobParam.class})
+class ProjectStatusJobBenchmarkTest {
+    private static final int PROJECT_COUNT = Integer.getInteger("benchmark.projects", 1_000_000);
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+
+    @BeforeEach
+    void setup() {
+        memberId = memberRepository.save(Member.builder()
+                .email(System.nanoTime() + "@benchmark.com")
+                .nickname("benchmark" + System.nanoTime())
+                .profileImage("img_url")
+                .build()).getId();
+
+        jdbcTemplate.update("delete from project");
+        insertProjects();
+    }
+
+    // 절반은 마감일이 지난 모집중 프로젝트
+    private void insertProjects() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Date expired = Date.valueOf(LocalDate.now().minusDays(1));
+        Date open = Date.valueOf(LocalDate.now().plusDays(7));
+
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            rows.add(new Object[]{now, now, "benchmark content " + i, i % 2 == 0 ? expired : open,
+                    false, 4, "RECRUITING", "benchmark " + i, memberId});
+
+            if (rows.size() == INSERT_BATCH_SIZE) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("insert into project (created_at, updated_at, content, deadline, offline, " +
+                "personnel, status, title, member_id) values (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @Test
+    @DisplayName("마감 처리 Job 성능 비교")
+    void compareChunkAndBulk() throws Exception {
+        long chunkMillis = run(ProjectStatusJobConfig.MODE_CHUNK);
+        long chunkRemaining = countExpiredRecruiting();
+
+        jdbcTemplate.update("update project set status = 'RECRUITING'");
+
+        long bulkMillis = run(ProjectStatusJobConfig.MODE_BULK);
+        long bulkRemaining = countExpiredRecruiting();
+
+        log.info("projects : {} , chunk : {} ms (remaining {}) , bulk : {} ms (remaining {})",
+                PROJECT_COUNT, chunkMillis, chunkRemaining, bulkMillis, bulkRemaining);
+        assertEquals(0L, bulkRemaining);
+    }
+
+    private long run(String mode) throws Exception {
+        long start = System.currentTimeMillis();
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("nowDate", LocalDate.now().toString())
+                .addString("mode", mode)
+                .toJobParameters());
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
+        return System.currentTimeMillis() - start;
+    }
+
+    private long countExpiredRecruiting() {
+        return jdbcTemplate.queryForObject("select count(*) from project where status = 'RECRUITING' and deadline < ?",
+                Long.class, Date.valueOf(LocalDate.now()));
+    }
+}
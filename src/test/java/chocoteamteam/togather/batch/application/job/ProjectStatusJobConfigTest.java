@@ -3,6 +3,7 @@ package chocoteamteam.togather.batch.application.job;
 import chocoteamteam.togather.batch.BatchTestConfig;
 import chocoteamteam.togather.batch.application.job.listener.JobExecutionLogger;
 import chocoteamteam.togather.batch.application.job.param.ProjectStatusJobParam;
+import chocoteamteam.togather.batch.application.job.tasklet.CloseExpiredProjectTasklet;
 import chocoteamteam.togather.entity.Location;
 import chocoteamteam.togather.entity.Member;
 import chocoteamteam.togather.entity.Project;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.context.SpringBatchTest;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,15 +46,17 @@ class ProjectStatusJobConfigTest {
     @Autowired
     private MemberRepository memberRepository;
 
+    private Project project;
+
     @BeforeEach
     void setup() {
         Member member = Member.builder()
-                .email("togather@to.com")
-                .nickname("두개더")
+                .email(System.nanoTime() + "togather@to.com")
+                .nickname("두개더" + System.nanoTime())
                 .profileImage("img_url")
                 .build();
 
-        projectRepository.save(Project.builder()
+        project = projectRepository.save(Project.builder()
                 .member(memberRepository.save(member))
                 .title("제목999")
                 .content("내용999")
@@ -76,7 +80,41 @@ class ProjectStatusJobConfigTest {
                 .toJobParameters());
 
         assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
-        assertEquals(ProjectStatus.COMPLETED, projectRepository.findById(1L).get().getStatus());
+        assertEquals(ProjectStatus.COMPLETED, projectRepository.findById(project.getId()).get().getStatus());
+
+    }
+
+    @Test
+    @DisplayName("마감일 지난 프로젝트 상태 변경 Job 테스트 - 구간 단위 UPDATE 처리 건수 기록")
+    public void projectStatusJobTest_bulk() throws Exception {
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("nowDate", LocalDate.now().toString())
+                .addString("mode", ProjectStatusJobConfig.MODE_BULK)
+                .toJobParameters());
 
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
+        assertEquals("closeExpiredProjectStep", stepExecution.getStepName());
+        assertEquals(1L, stepExecution.getExecutionContext().getLong(CloseExpiredProjectTasklet.KEY_CLOSED_COUNT));
+        assertEquals(1L, stepExecution.getExecutionContext().getLong(CloseExpiredProjectTasklet.KEY_CHUNK_COUNT));
+        assertEquals(project.getId() + "~" + project.getId() + ":1",
+                stepExecution.getExecutionContext().getString(CloseExpiredProjectTasklet.KEY_RECENT_CHUNK_CLOSED_COUNTS));
+        assertEquals(ProjectStatus.COMPLETED, projectRepository.findById(project.getId()).get().getStatus());
+    }
+
+    @Test
+    @DisplayName("마감일 지난 프로젝트 상태 변경 Job 테스트 - 기존 chunk 처리")
+    public void projectStatusJobTest_chunk() throws Exception {
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("nowDate", LocalDate.now().toString())
+                .addString("mode", ProjectStatusJobConfig.MODE_CHUNK)
+                .toJobParameters());
+
+        StepExecution stepExecution = jobExecution.getStepExecutions().iterator().next();
+
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getStatus());
+        assertEquals("changeProjectStatusStep", stepExecution.getStepName());
+        assertEquals(ProjectStatus.COMPLETED, projectRepository.findById(project.getId()).get().getStatus());
     }
 }
\ No newline at end of file
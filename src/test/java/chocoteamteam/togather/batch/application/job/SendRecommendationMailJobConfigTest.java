@@ -2,8 +2,15 @@ package chocoteamteam.togather.batch.application.job;
 
 import chocoteamteam.togather.batch.BatchTestConfig;
 import chocoteamteam.togather.batch.application.job.listener.JobExecutionLogger;
+import chocoteamteam.togather.batch.application.model.MailDispatchResult;
+import chocoteamteam.togather.batch.application.model.MailMessage;
+import chocoteamteam.togather.batch.application.service.MailDispatcher;
 import chocoteamteam.togather.batch.application.service.SendMailService;
+import chocoteamteam.togather.batch.domain.entity.Mail;
+import chocoteamteam.togather.batch.domain.repository.MailRepository;
 import chocoteamteam.togather.repository.impl.QueryDslTestConfig;
+import chocoteamteam.togather.type.MailStatus;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,9 +26,13 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
@@ -41,6 +52,17 @@ class SendRecommendationMailJobConfigTest {
     @MockBean
     private SendMailService sendMailService;
 
+    @MockBean
+    private MailDispatcher mailDispatcher;
+
+    @Autowired
+    private MailRepository mailRepository;
+
+    @BeforeEach
+    void beforeEach() {
+        mailRepository.deleteAllInBatch();
+    }
+
     @Test
     @DisplayName("주간 추천 공고 메일 전송")
     void SendRecommendationProjectJob_SUCCESS() throws Exception {
@@ -53,4 +75,67 @@ class SendRecommendationMailJobConfigTest {
 
         assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
     }
+
+    @Test
+    @DisplayName("전송 대기 메일만 전송하고 전송 결과를 상태로 저장")
+    void SendRecommendationProjectJob_updateStatus() throws Exception {
+        //given
+        List<Mail> mails = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            mails.add(Mail.builder()
+                    .email("member" + i + "@togather.com")
+                    .subject("제목")
+                    .memberId((long) i)
+                    .build());
+        }
+        mails.add(Mail.builder()
+                .email("sent@togather.com")
+                .subject("제목")
+                .memberId(100L)
+                .status(MailStatus.SENT)
+                .build());
+        mails.add(Mail.builder()
+                .email("exhausted@togather.com")
+                .subject("제목")
+                .memberId(101L)
+                .attempts(SendRecommendationMailJobConfig.MAX_ATTEMPTS - 1)
+                .build());
+        mailRepository.saveAll(mails);
+        Long retryMailId = mails.get(0).getId();
+        Long exhaustedMailId = mails.get(26).getId();
+        List<Long> failingIds = List.of(retryMailId, exhaustedMailId);
+
+        List<Long> dispatchedIds = new ArrayList<>();
+        given(mailDispatcher.dispatch(any())).willAnswer(invocation -> {
+            List<MailMessage> chunk = invocation.getArgument(0);
+            List<Long> ids = chunk.stream().map(MailMessage::getId).collect(Collectors.toList());
+            dispatchedIds.addAll(ids);
+
+            List<Long> sentIds = new ArrayList<>(ids);
+            sentIds.removeAll(failingIds);
+            List<Long> failedIds = new ArrayList<>(ids);
+            failedIds.retainAll(failingIds);
+            return new MailDispatchResult(sentIds, failedIds, 1L);
+        });
+
+        //when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addDate("date", new Date())
+                .toJobParameters());
+
+        //then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(dispatchedIds).hasSize(26).doesNotHaveDuplicates()
+                .doesNotContain(mails.get(25).getId());
+
+        // 최대 시도 횟수 전의 실패는 다음 실행에서 다시 보내도록 PENDING, 도달하면 FAILED
+        List<Mail> saved = mailRepository.findAll();
+        assertThat(saved).filteredOn(mail -> mail.getStatus() == MailStatus.PENDING)
+                .extracting(Mail::getId, Mail::getAttempts).containsExactly(tuple(retryMailId, 1));
+        assertThat(saved).filteredOn(mail -> mail.getStatus() == MailStatus.FAILED)
+                .extracting(Mail::getId, Mail::getAttempts)
+                .containsExactly(tuple(exhaustedMailId, SendRecommendationMailJobConfig.MAX_ATTEMPTS));
+        assertThat(saved).filteredOn(mail -> mail.getStatus() == MailStatus.SENT).hasSize(25);
+        assertThat(saved).filteredOn(mail -> mail.getAttempts() == 1).hasSize(25);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,172 @@
+package chocoteamteam.togather.batch.application.job;
+
+import chocoteamteam.togather.batch.BatchTestConfig;
+import chocoteamteam.togather.batch.application.job.listener.JobExecutionLogger;
+import chocoteamteam.togather.batch.application.job.param.TechStackRollupJobParam;
+import chocoteamteam.togather.batch.application.service.TechStackRollupService;
+import chocoteamteam.togather.batch.domain.entity.TechStackStatistics;
+import chocoteamteam.togather.batch.domain.repository.TechStackStatisticsRepository;
+import chocoteamteam.togather.entity.Member;
+import chocoteamteam.togather.entity.Project;
+import chocoteamteam.togather.entity.ProjectTechStack;
+import chocoteamteam.togather.entity.TechStack;
+import chocoteamteam.togather.repository.MemberRepository;
+import chocoteamteam.togather.repository.ProjectRepository;
+import chocoteamteam.togather.repository.ProjectTechStackRepository;
+import chocoteamteam.togather.repository.TechStackRepository;
+import chocoteamteam.togather.repository.impl.QueryDslTestConfig;
+import chocoteamteam.togather.type.StatisticsGranularity;
+import chocoteamteam.togather.type.TechCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBatchTest
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {TechStackRollupJobConfig.class, BatchTestConfig.class, QueryDslTestConfig.class,
+        JobExecutionLogger.class, TechStackRollupJobParam.class, TechStackRollupService.class})
+class TechStackRollupJobConfigTest {
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TechStackRepository techStackRepository;
+    @Autowired
+    private ProjectTechStackRepository projectTechStackRepository;
+    @Autowired
+    private TechStackStatisticsRepository techStackStatisticsRepository;
+
+    private TechStack techStack1;
+    private TechStack techStack2;
+    private TechStack techStack3;
+
+    @BeforeEach
+    void setUp() {
+        techStackStatisticsRepository.deleteAllInBatch();
+
+        Member member = memberRepository.save(Member.builder()
+                .email("togather@to.com")
+                .nickname("두개더")
+                .profileImage("img_url")
+                .build());
+        Project project = projectRepository.save(Project.builder()
+                .member(member)
+                .build());
+        Project project2 = projectRepository.save(Project.builder()
+                .member(member)
+                .build());
+        techStack1 = techStackRepository.save(TechStack.builder()
+                .name("tech1")
+                .category(TechCategory.BACKEND)
+                .build());
+        techStack2 = techStackRepository.save(TechStack.builder()
+                .name("tech2")
+                .category(TechCategory.FRONTEND)
+                .build());
+        techStack3 = techStackRepository.save(TechStack.builder()
+                .name("tech3")
+                .category(TechCategory.FRONTEND)
+                .build());
+
+        projectTechStackRepository.save(new ProjectTechStack(project, techStack1));
+        projectTechStackRepository.save(new ProjectTechStack(project2, techStack1));
+        projectTechStackRepository.save(new ProjectTechStack(project2, techStack2));
+    }
+
+    @Test
+    @DisplayName("일간 집계 후 주간 / 월간 롤업, 직전 주 대비 증감 계산")
+    void techStackRollupJob_Test() throws Exception {
+        //given
+        LocalDate today = LocalDate.now();
+        LocalDate lastWeek = StatisticsGranularity.WEEKLY.previousPeriodStart(today);
+        techStackStatisticsRepository.save(weeklyStatistics(techStack1, lastWeek, 5L));
+        techStackStatisticsRepository.save(weeklyStatistics(techStack3, lastWeek, 2L));
+
+        //when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("date", today.toString())
+                .toJobParameters());
+
+        //then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+
+        Map<Long, TechStackStatistics> daily = findAll(StatisticsGranularity.DAILY, today);
+        assertThat(daily.get(techStack1.getId()).getCount()).isEqualTo(2L);
+        assertThat(daily.get(techStack2.getId()).getCount()).isEqualTo(1L);
+
+        Map<Long, TechStackStatistics> weekly = findAll(StatisticsGranularity.WEEKLY, today);
+        assertThat(weekly.get(techStack1.getId()).getCount()).isEqualTo(2L);
+        assertThat(weekly.get(techStack1.getId()).getDelta()).isEqualTo(-3L);
+        assertThat(weekly.get(techStack2.getId()).getDelta()).isEqualTo(1L);
+        assertThat(weekly.get(techStack3.getId()).getCount()).isEqualTo(0L);
+        assertThat(weekly.get(techStack3.getId()).getDelta()).isEqualTo(-2L);
+
+        Map<Long, TechStackStatistics> monthly = findAll(StatisticsGranularity.MONTHLY, today);
+        assertThat(monthly.get(techStack1.getId()).getCount()).isEqualTo(2L);
+        assertThat(monthly.get(techStack1.getId()).getPeriodStart()).isEqualTo(today.withDayOfMonth(1));
+    }
+
+    @Test
+    @DisplayName("같은 날짜로 다시 실행해도 구간별 행이 중복되지 않음")
+    void techStackRollupJob_rerun() throws Exception {
+        //given
+        LocalDate today = LocalDate.now();
+        jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("date", today.toString())
+                .addLong("run", 1L)
+                .toJobParameters());
+
+        //when
+        JobExecution jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+                .addString("date", today.toString())
+                .addLong("run", 2L)
+                .toJobParameters());
+
+        //then
+        assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        assertThat(techStackStatisticsRepository.findAll().stream()
+                .filter(statistics -> statistics.getTechStackId().equals(techStack1.getId())))
+                .hasSize(3);
+    }
+
+    private TechStackStatistics weeklyStatistics(TechStack techStack, LocalDate periodStart, Long count) {
+        return TechStackStatistics.builder()
+                .techStackId(techStack.getId())
+                .techStackName(techStack.getName())
+                .techStackCategory(techStack.getCategory())
+                .granularity(StatisticsGranularity.WEEKLY)
+                .periodKey(StatisticsGranularity.WEEKLY.periodKey(periodStart))
+                .periodStart(periodStart)
+                .count(count)
+                .delta(count)
+                .build();
+    }
+
+    private Map<Long, TechStackStatistics> findAll(StatisticsGranularity granularity, LocalDate date) {
+        return techStackStatisticsRepository.findAllByGranularityAndPeriodKey(granularity, granularity.periodKey(date))
+                .stream()
+                .collect(Collectors.toMap(TechStackStatistics::getTechStackId, Function.identity()));
+    }
+}
@@ -0,0 +1,101 @@
+package chocoteamteam.togather.batch.application.job.listener;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchMetricsListenerTest {
+    private static final String JOB_NAME = "createRecommendationProjectJob";
+    private static final String STEP_NAME = "createRecommendationProjectWorkerStep";
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchMetricsListener batchMetricsListener;
+    private StepExecution stepExecution;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        batchMetricsListener = new BatchMetricsListener(meterRegistry);
+        stepExecution = MetaDataInstanceFactory.createStepExecution(
+                MetaDataInstanceFactory.createJobExecution(JOB_NAME, 1L, 1L), STEP_NAME + ":partition0", 1L);
+    }
+
+    @Test
+    @DisplayName("step 종료 시 초당 처리 건수와 skip / rollback 건수 기록")
+    void afterStep_Test() {
+        //given
+        long now = System.currentTimeMillis();
+        stepExecution.setStartTime(new Date(now - 2_000));
+        stepExecution.setEndTime(new Date(now));
+        stepExecution.setWriteCount(1_000);
+        stepExecution.setProcessSkipCount(3);
+        stepExecution.setRollbackCount(2);
+
+        //when
+        batchMetricsListener.afterStep(stepExecution);
+
+        //then
+        assertThat(meterRegistry.get("batch.step.throughput")
+                .tag("job", JOB_NAME).tag("step", STEP_NAME)
+                .summary().max()).isEqualTo(500.0);
+        assertThat(meterRegistry.get("batch.step.skip").tag("type", "process").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("batch.step.skip").tag("type", "read").counter().count()).isZero();
+        assertThat(meterRegistry.get("batch.step.rollback").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("chunk 처리 시간과 커밋 시간 기록")
+    void chunk_Test() {
+        //given
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+        TransactionSynchronizationManager.initSynchronization();
+
+        //when
+        try {
+            batchMetricsListener.beforeChunk(chunkContext);
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.beforeCommit(false);
+                synchronization.afterCommit();
+            }
+            batchMetricsListener.afterChunk(chunkContext);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        //then
+        assertThat(meterRegistry.get("batch.chunk.commit")
+                .tag("job", JOB_NAME).tag("step", STEP_NAME)
+                .timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("batch.chunk.duration")
+                .tag("status", "COMMITTED")
+                .timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("chunk 실패 시 ROLLED_BACK 으로 기록")
+    void chunkError_Test() {
+        //given
+        ChunkContext chunkContext = new ChunkContext(new StepContext(stepExecution));
+
+        //when
+        batchMetricsListener.beforeChunk(chunkContext);
+        batchMetricsListener.afterChunkError(chunkContext);
+
+        //then
+        assertThat(meterRegistry.get("batch.chunk.duration")
+                .tag("status", "ROLLED_BACK")
+                .timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.find("batch.chunk.commit").timer()).isNull();
+    }
+}
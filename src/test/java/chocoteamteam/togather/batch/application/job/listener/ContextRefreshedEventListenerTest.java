@@ -0,0 +1,145 @@
+package chocoteamteam.togather.batch.application.job.listener;
+
+import chocoteamteam.togather.batch.schduler.LeasedJobLauncher;
+import chocoteamteam.togather.component.lock.Lease;
+import chocoteamteam.togather.component.lock.RedisLeaseLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ContextRefreshedEventListenerTest {
+    private static final String JOB_NAME = "changeProjectStatusJob";
+
+    @Mock
+    private JobExplorer jobExplorer;
+    @Mock
+    private JobRepository jobRepository;
+    @Mock
+    private RedisLeaseLock redisLeaseLock;
+
+    private ContextRefreshedEventListener contextRefreshedEventListener;
+
+    @BeforeEach
+    void setUp() {
+        contextRefreshedEventListener = new ContextRefreshedEventListener(jobExplorer, jobRepository, redisLeaseLock, 60_000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        contextRefreshedEventListener.shutdown();
+    }
+
+    @Test
+    @DisplayName("현재 lease 를 가진 실행은 두고, 주인이 없는 실행만 STOPPED 처리")
+    void onApplicationEvent_stopOnlyOrphanedExecution() {
+        //given
+        Lease recoveryLease = new Lease("batch:recovery", "node-1", 1L);
+        given(redisLeaseLock.tryAcquire(eq("batch:recovery"), any(Duration.class)))
+                .willReturn(Optional.of(recoveryLease));
+        given(jobExplorer.getJobNames()).willReturn(List.of(JOB_NAME));
+
+        JobExecution alive = execution(10L, 5L);
+        JobExecution orphaned = execution(11L, 4L);
+        given(jobExplorer.findRunningJobExecutions(JOB_NAME)).willReturn(Set.of(alive, orphaned));
+        given(redisLeaseLock.getCurrentToken(LeasedJobLauncher.leaseName(JOB_NAME))).willReturn(Optional.of(5L));
+
+        //when
+        contextRefreshedEventListener.onApplicationEvent(null);
+
+        //then
+        assertThat(alive.getStatus()).isEqualTo(BatchStatus.STARTED);
+        assertThat(orphaned.getStatus()).isEqualTo(BatchStatus.STOPPED);
+        verify(jobRepository).update(orphaned);
+        verify(jobRepository, never()).update(alive);
+        verify(redisLeaseLock).release(recoveryLease);
+    }
+
+    @Test
+    @DisplayName("TTL 안에 재시작한 노드의 죽은 실행 - TTL 이 지나도 lease 가 연장되지 않았으면 STOPPED 처리")
+    void onApplicationEvent_stopDeadExecutionAfterLeaseTtl() {
+        //given
+        contextRefreshedEventListener.shutdown();
+        contextRefreshedEventListener = new ContextRefreshedEventListener(jobExplorer, jobRepository, redisLeaseLock, 10L);
+        Lease recoveryLease = new Lease("batch:recovery", "node-1", 1L);
+        given(redisLeaseLock.tryAcquire(eq("batch:recovery"), any(Duration.class)))
+                .willReturn(Optional.of(recoveryLease));
+        given(jobExplorer.getJobNames()).willReturn(List.of(JOB_NAME));
+
+        JobExecution dead = execution(10L, 5L);
+        dead.setStartTime(new Date());
+        given(jobExplorer.findRunningJobExecutions(JOB_NAME)).willReturn(Set.of(dead));
+        given(jobExplorer.getJobExecution(10L)).willReturn(dead);
+        given(redisLeaseLock.getCurrentToken(LeasedJobLauncher.leaseName(JOB_NAME)))
+                .willReturn(Optional.of(5L), Optional.empty());
+
+        //when
+        contextRefreshedEventListener.onApplicationEvent(null);
+
+        //then
+        verify(jobRepository, timeout(1_000)).update(dead);
+        assertThat(dead.getStatus()).isEqualTo(BatchStatus.STOPPED);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 복구 중이면 아무것도 하지 않음")
+    void onApplicationEvent_recoveringOnOtherNode() {
+        //given
+        given(redisLeaseLock.tryAcquire(eq("batch:recovery"), any(Duration.class)))
+                .willReturn(Optional.empty());
+
+        //when
+        contextRefreshedEventListener.onApplicationEvent(null);
+
+        //then
+        verify(jobExplorer, never()).getJobNames();
+    }
+
+    @Test
+    @DisplayName("Redis 에 연결할 수 없으면 실행을 정리하지 않음")
+    void onApplicationEvent_redisUnavailable() {
+        //given
+        given(redisLeaseLock.tryAcquire(eq("batch:recovery"), any(Duration.class)))
+                .willThrow(new RedisConnectionFailureException("connection refused"));
+
+        //when
+        contextRefreshedEventListener.onApplicationEvent(null);
+
+        //then
+        verify(jobExplorer, never()).getJobNames();
+    }
+
+    private JobExecution execution(Long executionId, Long leaseToken) {
+        JobExecution jobExecution = MetaDataInstanceFactory.createJobExecution(JOB_NAME, executionId, executionId,
+                new JobParametersBuilder()
+                        .addLong(LeasedJobLauncher.LEASE_TOKEN_KEY, leaseToken, false)
+                        .toJobParameters());
+        jobExecution.setStatus(BatchStatus.STARTED);
+        return jobExecution;
+    }
+}
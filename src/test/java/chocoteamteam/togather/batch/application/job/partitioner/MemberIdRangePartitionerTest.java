@@ -0,0 +1,73 @@
+package chocoteamteam.togather.batch.application.job.partitioner;
+
+import chocoteamteam.togather.repository.MemberRepository;
+import chocoteamteam.togather.type.MemberStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+
+import static chocoteamteam.togather.batch.application.job.partitioner.MemberIdRangePartitioner.MAX_ID_KEY;
+import static chocoteamteam.togather.batch.application.job.partitioner.MemberIdRangePartitioner.MIN_ID_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class MemberIdRangePartitionerTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @InjectMocks
+    private MemberIdRangePartitioner partitioner;
+
+    @Test
+    @DisplayName("회원 id 구간 분할 - 빈틈/겹침 없이 나눔")
+    void partition_success() {
+        //given
+        given(memberRepository.findMinIdByStatus(MemberStatus.PERMITTED)).willReturn(1L);
+        given(memberRepository.findMaxIdByStatus(MemberStatus.PERMITTED)).willReturn(10L);
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(3);
+        //then
+        assertThat(partitions).hasSize(3);
+        assertRange(partitions.get("partition0"), 1L, 4L);
+        assertRange(partitions.get("partition1"), 5L, 8L);
+        assertRange(partitions.get("partition2"), 9L, 10L);
+    }
+
+    @Test
+    @DisplayName("회원 수가 구간 수보다 적으면 회원 수 만큼만 나눔")
+    void partition_lessMembers() {
+        //given
+        given(memberRepository.findMinIdByStatus(MemberStatus.PERMITTED)).willReturn(7L);
+        given(memberRepository.findMaxIdByStatus(MemberStatus.PERMITTED)).willReturn(8L);
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+        //then
+        assertThat(partitions).hasSize(2);
+        assertRange(partitions.get("partition0"), 7L, 7L);
+        assertRange(partitions.get("partition1"), 8L, 8L);
+    }
+
+    @Test
+    @DisplayName("대상 회원이 없으면 빈 구간 하나")
+    void partition_noMember() {
+        //given
+        given(memberRepository.findMinIdByStatus(MemberStatus.PERMITTED)).willReturn(null);
+        //when
+        Map<String, ExecutionContext> partitions = partitioner.partition(4);
+        //then
+        assertThat(partitions).hasSize(1);
+    }
+
+    private void assertRange(ExecutionContext context, long minId, long maxId) {
+        assertThat(context.getLong(MIN_ID_KEY)).isEqualTo(minId);
+        assertThat(context.getLong(MAX_ID_KEY)).isEqualTo(maxId);
+    }
+}
@@ -0,0 +1,190 @@
+package chocoteamteam.togather.batch.application.job.reader;
+
+import chocoteamteam.togather.batch.BatchTestConfig;
+import chocoteamteam.togather.entity.TechStack;
+import chocoteamteam.togather.repository.impl.QueryDslTestConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.querydsl.reader.QuerydslPagingItemReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManagerFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static chocoteamteam.togather.entity.QTechStack.techStack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {BatchTestConfig.class, QueryDslTestConfig.class})
+class QuerydslKeysetItemReaderTest {
+    private static final int PAGE_SIZE = 10;
+    private static final int BENCHMARK_ROWS = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int BENCHMARK_PAGE_SIZE = 100;
+
+    @Autowired
+    private EntityManagerFactory emf;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 다른 테스트 데이터와 섞이지 않도록 이름 prefix 로 구분
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "keyset" + System.nanoTime() + "-";
+    }
+
+    @Test
+    @DisplayName("모든 행을 id 순서대로 한 번씩 읽음")
+    void read_allInOrder() throws Exception {
+        //given
+        insertTechStacks(25);
+        QuerydslKeysetItemReader<TechStack> reader = reader(PAGE_SIZE);
+        reader.open(new ExecutionContext());
+
+        //when
+        List<TechStack> items = readAll(reader);
+        reader.close();
+
+        //then
+        assertThat(items).hasSize(25);
+        assertThat(items).extracting(TechStack::getId).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("ExecutionContext 에 저장된 마지막 id 다음부터 다시 읽음")
+    void read_restart() throws Exception {
+        //given
+        insertTechStacks(25);
+        ExecutionContext executionContext = new ExecutionContext();
+        QuerydslKeysetItemReader<TechStack> reader = reader(PAGE_SIZE);
+        reader.open(executionContext);
+
+        List<Long> firstIds = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            firstIds.add(reader.read().getId());
+        }
+        reader.update(executionContext);
+        reader.close();
+
+        //when
+        QuerydslKeysetItemReader<TechStack> restarted = reader(PAGE_SIZE);
+        restarted.open(executionContext);
+        List<TechStack> rest = readAll(restarted);
+        restarted.close();
+
+        //then
+        assertThat(rest).hasSize(13);
+        assertThat(rest.get(0).getId()).isGreaterThan(firstIds.get(firstIds.size() - 1));
+    }
+
+    /*
+     *   페이지별 조회 시간 비교 (offset vs keyset)
+     *   -Dbenchmark=true 로 실행, -Dbenchmark.rows 로 건수 조정 (기본 20만건)
+     *   offset 은 뒤쪽 페이지일수록 느려지고 keyset 은 앞쪽 페이지와 비슷해야 한다.
+     * */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    @DisplayName("keyset reader 페이지별 조회 시간")
+    void benchmark_perPageLatency() throws Exception {
+        //given
+        insertTechStacks(BENCHMARK_ROWS);
+
+        //when
+        QuerydslKeysetItemReader<TechStack> keysetReader = reader(BENCHMARK_PAGE_SIZE);
+        keysetReader.open(new ExecutionContext());
+        long[] keysetPages = readPages(keysetReader);
+        keysetReader.close();
+
+        QuerydslPagingItemReader<TechStack> offsetReader = new QuerydslPagingItemReader<>(emf, BENCHMARK_PAGE_SIZE,
+                queryFactory -> queryFactory.selectFrom(techStack)
+                        .where(techStack.name.startsWith(prefix))
+                        .orderBy(techStack.id.asc()));
+        offsetReader.setSaveState(false);
+        offsetReader.open(new ExecutionContext());
+        long[] offsetPages = readPages(offsetReader);
+        offsetReader.close();
+
+        //then
+        log.info("rows : {} , keyset first / last page : {} / {} us , offset first / last page : {} / {} us",
+                BENCHMARK_ROWS, averageMicros(keysetPages, true), averageMicros(keysetPages, false),
+                averageMicros(offsetPages, true), averageMicros(offsetPages, false));
+
+        // 마지막 10% 페이지의 평균이 처음 10% 페이지 평균의 3배를 넘지 않아야 한다.
+        assertThat(averageMicros(keysetPages, false)).isLessThan(averageMicros(keysetPages, true) * 3 + 1_000);
+    }
+
+    private QuerydslKeysetItemReader<TechStack> reader(int pageSize) {
+        return new QuerydslKeysetItemReader<>("techStackReader", emf, pageSize,
+                techStack.id, TechStack::getId, queryFactory -> queryFactory
+                .selectFrom(techStack)
+                .where(techStack.name.startsWith(prefix)));
+    }
+
+    private void insertTechStacks(int count) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{now, now, prefix + i, "BACKEND"});
+            if (rows.size() == 10_000) {
+                insert(rows);
+                rows.clear();
+            }
+        }
+        insert(rows);
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("insert into tech_stack (created_at, updated_at, name, category) values (?, ?, ?, ?)",
+                rows);
+    }
+
+    private <T> List<T> readAll(ItemReader<T> reader) throws Exception {
+        List<T> items = new ArrayList<>();
+        T item;
+        while ((item = reader.read()) != null) {
+            items.add(item);
+        }
+        return items;
+    }
+
+    // 페이지 경계(첫 번째 항목)에서 조회가 일어나므로 페이지 단위로 read 시간을 잰다.
+    private <T> long[] readPages(ItemReader<T> reader) throws Exception {
+        long[] pages = new long[(BENCHMARK_ROWS + BENCHMARK_PAGE_SIZE - 1) / BENCHMARK_PAGE_SIZE];
+        for (int page = 0; page < pages.length; page++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < BENCHMARK_PAGE_SIZE; i++) {
+                if (reader.read() == null) {
+                    break;
+                }
+            }
+            pages[page] = System.nanoTime() - start;
+        }
+        return pages;
+    }
+
+    private long averageMicros(long[] pages, boolean head) {
+        int size = Math.max(1, pages.length / 10);
+        int from = head ? 0 : pages.length - size;
+        long sum = 0;
+        for (int i = from; i < from + size; i++) {
+            sum += pages[i];
+        }
+        return sum / size / 1_000;
+    }
+}
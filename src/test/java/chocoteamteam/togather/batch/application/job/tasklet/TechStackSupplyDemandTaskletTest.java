@@ -0,0 +1,147 @@
+package chocoteamteam.togather.batch.application.job.tasklet;
+
+import chocoteamteam.togather.batch.domain.entity.TechStackSupplyDemand;
+import chocoteamteam.togather.batch.domain.repository.TechStackSupplyDemandRepository;
+import chocoteamteam.togather.entity.Member;
+import chocoteamteam.togather.entity.MemberTechStack;
+import chocoteamteam.togather.entity.Project;
+import chocoteamteam.togather.entity.ProjectTechStack;
+import chocoteamteam.togather.entity.TechStack;
+import chocoteamteam.togather.repository.MemberRepository;
+import chocoteamteam.togather.repository.MemberTechStackRepository;
+import chocoteamteam.togather.repository.ProjectRepository;
+import chocoteamteam.togather.repository.ProjectTechStackRepository;
+import chocoteamteam.togather.repository.TechStackRepository;
+import chocoteamteam.togather.repository.impl.QueryDslTestConfig;
+import chocoteamteam.togather.type.MemberStatus;
+import chocoteamteam.togather.type.ProjectStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(QueryDslTestConfig.class)
+@DataJpaTest
+@ExtendWith(SpringExtension.class)
+class TechStackSupplyDemandTaskletTest {
+    @Autowired
+    private TechStackRepository techStackRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ProjectTechStackRepository projectTechStackRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MemberTechStackRepository memberTechStackRepository;
+    @Autowired
+    private TechStackSupplyDemandRepository techStackSupplyDemandRepository;
+
+    private TechStack spring;
+    private TechStack react;
+    private TechStack php;
+
+    @BeforeEach
+    void setUp() {
+        spring = techStackRepository.save(TechStack.builder().name("spring").build());
+        react = techStackRepository.save(TechStack.builder().name("react").build());
+        php = techStackRepository.save(TechStack.builder().name("php").build());
+
+        Member aMember = saveMember("www.a.com", MemberStatus.PERMITTED);
+        Member bMember = saveMember("www.b.com", MemberStatus.PERMITTED);
+        Member bannedMember = saveMember("www.c.com", MemberStatus.BANNED);
+
+        // 공급 : spring 2명, react 1명 (차단된 회원 제외)
+        memberTechStackRepository.save(MemberTechStack.builder().member(aMember).techStack(spring).build());
+        memberTechStackRepository.save(MemberTechStack.builder().member(bMember).techStack(spring).build());
+        memberTechStackRepository.save(MemberTechStack.builder().member(bMember).techStack(react).build());
+        memberTechStackRepository.save(MemberTechStack.builder().member(bannedMember).techStack(react).build());
+
+        // 수요 : spring 1개, react 2개 (마감된 프로젝트 제외)
+        Project aProject = saveProject(aMember, ProjectStatus.RECRUITING);
+        Project bProject = saveProject(bMember, ProjectStatus.RECRUITING);
+        Project completedProject = saveProject(bMember, ProjectStatus.COMPLETED);
+        projectTechStackRepository.save(new ProjectTechStack(aProject, spring));
+        projectTechStackRepository.save(new ProjectTechStack(aProject, react));
+        projectTechStackRepository.save(new ProjectTechStack(bProject, react));
+        projectTechStackRepository.save(new ProjectTechStack(completedProject, spring));
+    }
+
+    @Test
+    @DisplayName("기술 스택별 수요 / 공급과 비율을 ISO 주차 키로 저장")
+    void execute_Test() {
+        //given
+        TechStackSupplyDemandTasklet tasklet = new TechStackSupplyDemandTasklet(techStackRepository,
+                projectTechStackRepository, memberTechStackRepository, techStackSupplyDemandRepository,
+                LocalDate.of(2022, 10, 5));
+
+        //when
+        tasklet.execute(new StepContribution(new StepExecution("techStackSupplyDemandStep", new JobExecution(1L))), null);
+
+        //then
+        Map<Long, TechStackSupplyDemand> result = techStackSupplyDemandRepository.findAllByPeriodKey("2022-W40")
+                .stream()
+                .collect(Collectors.toMap(TechStackSupplyDemand::getTechStackId, Function.identity()));
+
+        assertThat(result.get(spring.getId()).getDemand()).isEqualTo(1L);
+        assertThat(result.get(spring.getId()).getSupply()).isEqualTo(2L);
+        assertThat(result.get(spring.getId()).getSupplyDemandRatio()).isEqualTo(2.0);
+
+        assertThat(result.get(react.getId()).getDemand()).isEqualTo(2L);
+        assertThat(result.get(react.getId()).getSupply()).isEqualTo(1L);
+        assertThat(result.get(react.getId()).getSupplyDemandRatio()).isEqualTo(0.5);
+
+        assertThat(result.get(php.getId()).getDemand()).isZero();
+        assertThat(result.get(php.getId()).getSupplyDemandRatio()).isNull();
+        assertThat(result.get(spring.getId()).getPeriodStart()).isEqualTo(LocalDate.of(2022, 10, 3));
+    }
+
+    @Test
+    @DisplayName("같은 주차로 다시 실행하면 기존 결과를 교체")
+    void execute_rerun() {
+        //given
+        TechStackSupplyDemandTasklet tasklet = new TechStackSupplyDemandTasklet(techStackRepository,
+                projectTechStackRepository, memberTechStackRepository, techStackSupplyDemandRepository,
+                LocalDate.of(2022, 10, 5));
+        tasklet.execute(new StepContribution(new StepExecution("techStackSupplyDemandStep", new JobExecution(1L))), null);
+
+        //when
+        tasklet.execute(new StepContribution(new StepExecution("techStackSupplyDemandStep", new JobExecution(2L))), null);
+
+        //then
+        assertThat(techStackSupplyDemandRepository.findAllByPeriodKey("2022-W40"))
+                .hasSize((int) techStackRepository.count());
+    }
+
+    private Member saveMember(String email, MemberStatus status) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .nickname(email)
+                .profileImage("image")
+                .status(status)
+                .build());
+    }
+
+    private Project saveProject(Member member, ProjectStatus status) {
+        return projectRepository.save(Project.builder()
+                .member(member)
+                .title("title")
+                .content("content")
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,63 @@
+package chocoteamteam.togather.batch.application.model;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ *   회원별 추천 프로젝트 매칭 성능 측정
+ *   -Dbenchmark=true 로 실행, -Dbenchmark.members / -Dbenchmark.candidates 로 건수 조정
+ * */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RecommendationProjectIndexBenchmarkTest {
+    private static final int MEMBER_COUNT = Integer.getInteger("benchmark.members", 100_000);
+    private static final int CANDIDATE_COUNT = Integer.getInteger("benchmark.candidates", 5_000);
+    private static final int TECH_STACK_COUNT = 100;
+    private static final int TECH_STACKS_PER_PROJECT = 4;
+    private static final int TECH_STACKS_PER_MEMBER = 5;
+
+    @Test
+    @DisplayName("10만 회원 추천 매칭")
+    void matchMembers() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+
+        List<RecommendationCandidateDto> rows = new ArrayList<>();
+        for (long projectId = 1; projectId <= CANDIDATE_COUNT; projectId++) {
+            for (int i = 0; i < TECH_STACKS_PER_PROJECT; i++) {
+                long techStackId = random.nextInt(TECH_STACK_COUNT) + 1;
+                rows.add(new RecommendationCandidateDto(projectId, "project" + projectId,
+                        today.plusDays(random.nextInt(7)), (long) random.nextInt(MEMBER_COUNT) + 1,
+                        techStackId, "tech" + techStackId));
+            }
+        }
+
+        long buildStart = System.nanoTime();
+        RecommendationProjectIndex index = RecommendationProjectIndex.of(rows);
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        long matchStart = System.nanoTime();
+        long recommended = 0;
+        for (long memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+            List<Long> techStackIds = new ArrayList<>(TECH_STACKS_PER_MEMBER);
+            for (int i = 0; i < TECH_STACKS_PER_MEMBER; i++) {
+                techStackIds.add((long) random.nextInt(TECH_STACK_COUNT) + 1);
+            }
+            recommended += index.match(memberId, techStackIds).size();
+        }
+        long matchMillis = (System.nanoTime() - matchStart) / 1_000_000;
+
+        log.info("candidates : {} , members : {} , build : {} ms , match : {} ms , recommended : {}",
+                index.size(), MEMBER_COUNT, buildMillis, matchMillis, recommended);
+        assertThat(recommended).isPositive();
+    }
+}
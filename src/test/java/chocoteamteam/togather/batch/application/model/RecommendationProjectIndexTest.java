@@ -0,0 +1,77 @@
+package chocoteamteam.togather.batch.application.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecommendationProjectIndexTest {
+
+    private static final LocalDate DEADLINE = LocalDate.of(2022, 10, 10);
+
+    @Test
+    @DisplayName("겹치는 기술 스택이 많은 순, 마감이 가까운 순으로 추천")
+    void match_order() {
+        //given
+        RecommendationProjectIndex index = RecommendationProjectIndex.of(List.of(
+                new RecommendationCandidateDto(1L, "하나 겹침", DEADLINE, 100L, 1L, "java"),
+                new RecommendationCandidateDto(2L, "두개 겹침", DEADLINE.plusDays(3), 100L, 1L, "java"),
+                new RecommendationCandidateDto(2L, "두개 겹침", DEADLINE.plusDays(3), 100L, 2L, "spring"),
+                new RecommendationCandidateDto(3L, "하나 겹침, 마감 빠름", DEADLINE.minusDays(1), 100L, 2L, "spring"),
+                new RecommendationCandidateDto(4L, "안 겹침", DEADLINE, 100L, 3L, "react")
+        ));
+        //when
+        List<MemberRecommendationProjectDto> projects = index.match(9L, List.of(1L, 2L));
+        //then
+        assertThat(projects).extracting(MemberRecommendationProjectDto::getId)
+                .containsExactly(2L, 3L, 1L);
+        assertThat(projects.get(0).getTechStackNames()).containsExactly("java", "spring");
+    }
+
+    @Test
+    @DisplayName("본인이 작성한 프로젝트는 추천하지 않음")
+    void match_excludeAuthor() {
+        //given
+        RecommendationProjectIndex index = RecommendationProjectIndex.of(List.of(
+                new RecommendationCandidateDto(1L, "내 프로젝트", DEADLINE, 9L, 1L, "java"),
+                new RecommendationCandidateDto(2L, "남의 프로젝트", DEADLINE, 100L, 1L, "java")
+        ));
+        //when
+        List<MemberRecommendationProjectDto> projects = index.match(9L, List.of(1L));
+        //then
+        assertThat(projects).extracting(MemberRecommendationProjectDto::getId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("추천은 최대 10개")
+    void match_limit() {
+        //given
+        List<RecommendationCandidateDto> rows = new ArrayList<>();
+        for (long i = 1; i <= 15; i++) {
+            rows.add(new RecommendationCandidateDto(i, "프로젝트" + i, DEADLINE, 100L, 1L, "java"));
+        }
+        RecommendationProjectIndex index = RecommendationProjectIndex.of(rows);
+        //when
+        List<MemberRecommendationProjectDto> projects = index.match(9L, List.of(1L));
+        //then
+        assertThat(index.size()).isEqualTo(15);
+        assertThat(projects).hasSize(RecommendationProjectIndex.MAX_RECOMMENDATION_COUNT);
+    }
+
+    @Test
+    @DisplayName("겹치는 기술 스택이 없으면 빈 목록")
+    void match_empty() {
+        //given
+        RecommendationProjectIndex index = RecommendationProjectIndex.of(List.of(
+                new RecommendationCandidateDto(1L, "프로젝트", DEADLINE, 100L, 1L, "java")
+        ));
+        //when
+        List<MemberRecommendationProjectDto> projects = index.match(9L, List.of(2L, 3L));
+        //then
+        assertThat(projects).isEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+package chocoteamteam.togather.batch.application.service;
+
+import chocoteamteam.togather.batch.application.model.MailDispatchResult;
+import chocoteamteam.togather.batch.application.model.MailMessage;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private MailDispatcher mailDispatcher;
+
+    @AfterEach
+    void tearDown() {
+        mailDispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("메일 병렬 전송 성공")
+    void dispatch_success() {
+        //given
+        mailDispatcher = createDispatcher(ServerSetupTest.SMTP.getPort(), 3);
+        List<MailMessage> mails = createMails(50);
+        //when
+        MailDispatchResult result = mailDispatcher.dispatch(mails);
+        //then
+        assertThat(result.hasFailure()).isFalse();
+        assertThat(result.getSentCount()).isEqualTo(50);
+        assertThat(greenMail.getReceivedMessages()).hasSize(50);
+        assertThat(mailDispatcher.getSentCount()).isEqualTo(50);
+        assertThat(mailDispatcher.getRetryCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("연결 재사용 - 여러 번 전송해도 모두 도착")
+    void dispatch_reuseTransport() {
+        //given
+        mailDispatcher = createDispatcher(ServerSetupTest.SMTP.getPort(), 3);
+        //when
+        mailDispatcher.dispatch(createMails(10));
+        mailDispatcher.dispatch(createMails(10));
+        //then
+        assertThat(greenMail.getReceivedMessages()).hasSize(20);
+    }
+
+    @Test
+    @DisplayName("메일 전송 실패 - 재시도 후 실패 목록 반환")
+    void dispatch_fail() throws IOException {
+        //given
+        mailDispatcher = createDispatcher(closedPort(), 2);
+        List<MailMessage> mails = createMails(3);
+        //when
+        MailDispatchResult result = mailDispatcher.dispatch(mails);
+        //then
+        assertThat(result.hasFailure()).isTrue();
+        assertThat(result.getFailedMailIds()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(mailDispatcher.getFailedCount()).isEqualTo(3);
+        assertThat(mailDispatcher.getRetryCount()).isEqualTo(3);
+    }
+
+    private MailDispatcher createDispatcher(int port, int maxAttempts) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+
+        SendMailService sendMailService = new SendMailService(mailSender);
+        ReflectionTestUtils.setField(sendMailService, "FROM_EMAIL", "togather@togather.com");
+
+        return new MailDispatcher(mailSender, sendMailService, 4, maxAttempts, 1L);
+    }
+
+    private List<MailMessage> createMails(int count) {
+        List<MailMessage> mails = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            mails.add(MailMessage.builder()
+                    .id(i)
+                    .email("member" + i + "@togather.com")
+                    .subject("테스트 메일 제목")
+                    .content("<h1>메일 내용</h1>")
+                    .build());
+        }
+        return mails;
+    }
+
+    private int closedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
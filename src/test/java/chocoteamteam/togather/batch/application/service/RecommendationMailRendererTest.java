@@ -0,0 +1,104 @@
+package chocoteamteam.togather.batch.application.service;
+
+import chocoteamteam.togather.batch.application.model.MailMessage;
+import chocoteamteam.togather.batch.application.model.MemberRecommendationProjectDto;
+import chocoteamteam.togather.batch.domain.entity.Mail;
+import chocoteamteam.togather.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationMailRendererTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private RecommendationMailRenderer renderer;
+
+    @BeforeEach
+    void beforeEach() {
+        ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+        resolver.setPrefix("templates/");
+        resolver.setSuffix(".html");
+        resolver.setTemplateMode(TemplateMode.HTML);
+        resolver.setCharacterEncoding("UTF-8");
+
+        TemplateEngine templateEngine = new TemplateEngine();
+        templateEngine.setTemplateResolver(resolver);
+
+        renderer = new RecommendationMailRenderer(templateEngine, projectRepository);
+    }
+
+    @Test
+    @DisplayName("프로젝트 조각은 한 번만 조회해서 여러 회원 메일에 재사용")
+    void render_reuseProjectFragment() {
+        //given
+        given(projectRepository.findAllRecommendationProjectByIds(any())).willReturn(List.of(
+                project(1L, "첫번째 공고"),
+                project(2L, "두번째 공고")
+        ));
+        List<Mail> mails = List.of(mail(1L, List.of(1L, 2L)), mail(2L, List.of(2L)));
+
+        //when
+        List<MailMessage> first = renderer.render(mails);
+        List<MailMessage> second = renderer.render(List.of(mail(3L, List.of(1L))));
+
+        //then
+        verify(projectRepository, times(1)).findAllRecommendationProjectByIds(Set.of(1L, 2L));
+        assertThat(renderer.getCachedProjectCount()).isEqualTo(2);
+        assertThat(first.get(0).getContent()).contains("첫번째 공고", "두번째 공고", "#java");
+        assertThat(first.get(1).getContent()).contains("두번째 공고").doesNotContain("첫번째 공고");
+        assertThat(second.get(0).getContent()).contains("첫번째 공고");
+        assertThat(second.get(0).getEmail()).isEqualTo("member3@togather.com");
+    }
+
+    @Test
+    @DisplayName("추천 프로젝트가 없거나 삭제된 경우 안내 문구")
+    void render_noProject() {
+        //given
+        given(projectRepository.findAllRecommendationProjectByIds(any())).willReturn(List.of());
+
+        //when
+        List<MailMessage> messages = renderer.render(List.of(mail(1L, List.of(9L)), mail(2L, List.of())));
+
+        //then
+        assertThat(messages).allSatisfy(message ->
+                assertThat(message.getContent()).contains("이번 주 모집 마감 공고 글이 없어요"));
+    }
+
+    private MemberRecommendationProjectDto project(Long id, String subject) {
+        return MemberRecommendationProjectDto.builder()
+                .id(id)
+                .subject(subject)
+                .deadline(LocalDate.of(2022, 10, 10))
+                .techStackNames(List.of("java", "spring"))
+                .build();
+    }
+
+    private Mail mail(Long memberId, List<Long> projectIds) {
+        return Mail.builder()
+                .id(memberId)
+                .email("member" + memberId + "@togather.com")
+                .subject("주간 공고 추천")
+                .memberId(memberId)
+                .projectIds(projectIds)
+                .build();
+    }
+}
@@ -1,6 +1,6 @@
 package chocoteamteam.togather.batch.application.service;
 
-import chocoteamteam.togather.batch.domain.entity.Mail;
+import chocoteamteam.togather.batch.application.model.MailMessage;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,7 +17,7 @@ class SendMailServiceTest {
     @DisplayName("메일 전송 성공")
     void sendMail() {
         //given
-        Mail mail = Mail.builder()
+        MailMessage mail = MailMessage.builder()
                 .id(1L)
                 .email("iiineong@gmail.com")
                 .subject("테스트 메일 제목")
@@ -0,0 +1,93 @@
+package chocoteamteam.togather.batch.schduler;
+
+import chocoteamteam.togather.component.lock.Lease;
+import chocoteamteam.togather.component.lock.RedisLeaseLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.launch.JobOperator;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LeasedJobLauncherTest {
+    @Mock
+    private JobLauncher jobLauncher;
+    @Mock
+    private JobExplorer jobExplorer;
+    @Mock
+    private JobOperator jobOperator;
+    @Mock
+    private RedisLeaseLock redisLeaseLock;
+    @Mock
+    private Job job;
+
+    private LeasedJobLauncher leasedJobLauncher;
+
+    @BeforeEach
+    void setUp() {
+        leasedJobLauncher = new LeasedJobLauncher(jobLauncher, jobExplorer, jobOperator, redisLeaseLock, 60_000L);
+        given(job.getName()).willReturn("changeProjectStatusJob");
+    }
+
+    @AfterEach
+    void tearDown() {
+        leasedJobLauncher.shutdown();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 lease 를 가지고 있으면 job 을 실행하지 않음")
+    void run_leaseHeldByOtherNode() throws Exception {
+        //given
+        given(redisLeaseLock.tryAcquire(eq("batch:job:changeProjectStatusJob"), any(Duration.class)))
+                .willReturn(Optional.empty());
+
+        //when
+        JobExecution jobExecution = leasedJobLauncher.run(job, new JobParameters());
+
+        //then
+        assertThat(jobExecution).isNull();
+        verify(jobLauncher, never()).run(any(), any());
+    }
+
+    @Test
+    @DisplayName("lease 를 잡으면 fencing token 을 식별에 쓰이지 않는 파라미터로 넘겨 실행하고 반납")
+    void run_leaseAcquired() throws Exception {
+        //given
+        Lease lease = new Lease("batch:job:changeProjectStatusJob", "node-1", 7L);
+        given(redisLeaseLock.tryAcquire(eq("batch:job:changeProjectStatusJob"), any(Duration.class)))
+                .willReturn(Optional.of(lease));
+
+        //when
+        leasedJobLauncher.run(job, new JobParametersBuilder()
+                .addString("nowDate", "2022-10-03")
+                .toJobParameters());
+
+        //then
+        ArgumentCaptor<JobParameters> captor = ArgumentCaptor.forClass(JobParameters.class);
+        verify(jobLauncher).run(eq(job), captor.capture());
+        assertThat(captor.getValue().getString("nowDate")).isEqualTo("2022-10-03");
+        assertThat(captor.getValue().getLong(LeasedJobLauncher.LEASE_TOKEN_KEY)).isEqualTo(7L);
+        assertThat(captor.getValue().getParameters().get(LeasedJobLauncher.LEASE_TOKEN_KEY).isIdentifying()).isFalse();
+        verify(redisLeaseLock).release(lease);
+    }
+}
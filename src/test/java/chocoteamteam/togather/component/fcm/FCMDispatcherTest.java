@@ -0,0 +1,239 @@
+package chocoteamteam.togather.component.fcm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import chocoteamteam.togather.repository.FCMRegistrationTokenRepository;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class FCMDispatcherTest {
+
+	@Mock
+	FCMRegistrationTokenRepository tokenRepository;
+
+	FakeFCMSender fcmSender = new FakeFCMSender();
+	FCMDispatcher fcmDispatcher;
+
+	@AfterEach
+	void tearDown() {
+		if (fcmDispatcher != null) {
+			fcmDispatcher.shutdown();
+		}
+	}
+
+	@DisplayName("FCM batch 한도(500) 단위로 나눠 전송")
+	@Test
+	void dispatch_splitBatch() throws InterruptedException {
+		//given
+		fcmDispatcher = createDispatcher(10_000);
+		givenTokens();
+		//when
+		fcmDispatcher.dispatch(createNotifications(1200));
+		//then
+		assertThat(fcmSender.batchSizes).containsExactly(500, 500, 200);
+		assertThat(fcmDispatcher.getSentCount()).isEqualTo(1200);
+	}
+
+	@DisplayName("토큰이 없는 회원의 알림은 전송하지 않음")
+	@Test
+	void dispatch_noToken() throws InterruptedException {
+		//given
+		fcmDispatcher = createDispatcher(10_000);
+		given(tokenRepository.findAll(anyCollection())).willReturn(Map.of(1L, List.of("token1")));
+		//when
+		List<FCMSendResult> results = fcmDispatcher.dispatch(createNotifications(3));
+		//then
+		assertThat(results).containsExactly(FCMSendResult.SENT, FCMSendResult.SENT, FCMSendResult.SENT);
+		assertThat(fcmSender.batchSizes).containsExactly(1);
+		assertThat(fcmDispatcher.getSentCount()).isEqualTo(1);
+	}
+
+	@DisplayName("일시 장애 - 실패한 메시지만 다시 전송")
+	@Test
+	void dispatch_retry() throws InterruptedException {
+		//given
+		fcmDispatcher = createDispatcher(10_000);
+		givenTokens();
+		fcmSender.results.add(List.of(FCMSendResult.SENT, FCMSendResult.RETRY, FCMSendResult.SENT));
+		//when
+		List<FCMSendResult> results = fcmDispatcher.dispatch(createNotifications(3));
+		//then
+		assertThat(results).containsExactly(FCMSendResult.SENT, FCMSendResult.SENT, FCMSendResult.SENT);
+		assertThat(fcmSender.batchSizes).containsExactly(3, 1);
+		assertThat(fcmSender.sentTokens).containsExactly("token1", "token2", "token3", "token2");
+		assertThat(fcmDispatcher.getSentCount()).isEqualTo(3);
+		assertThat(fcmDispatcher.getRetryCount()).isEqualTo(1);
+	}
+
+	@DisplayName("일시 장애 - 최대 시도 횟수를 넘으면 실패 처리")
+	@Test
+	void dispatch_retryExhausted() throws InterruptedException {
+		//given
+		fcmDispatcher = createDispatcher(10_000);
+		givenTokens();
+		for (int i = 0; i < 3; i++) {
+			fcmSender.results.add(List.of(FCMSendResult.RETRY));
+		}
+		//when
+		List<FCMSendResult> results = fcmDispatcher.dispatch(createNotifications(1));
+		//then
+		assertThat(results).containsExactly(FCMSendResult.FAILED);
+		assertThat(fcmSender.batchSizes).containsExactly(1, 1, 1);
+		assertThat(fcmDispatcher.getFailedCount()).isEqualTo(1);
+		assertThat(fcmDispatcher.getRetryCount()).isEqualTo(2);
+	}
+
+	@DisplayName("무효 토큰 - 저장소에서 삭제하고 재시도하지 않음")
+	@Test
+	void dispatch_invalidToken() throws InterruptedException {
+		//given
+		fcmDispatcher = createDispatcher(10_000);
+		givenTokens();
+		fcmSender.results.add(List.of(FCMSendResult.INVALID_TOKEN, FCMSendResult.SENT));
+		//when
+		List<FCMSendResult> results = fcmDispatcher.dispatch(createNotifications(2));
+		//then
+		assertThat(results).containsExactly(FCMSendResult.SENT, FCMSendResult.SENT);
+		verify(tokenRepository).delete(1L, "token1");
+		verify(tokenRepository, never()).delete(2L, "token2");
+		assertThat(fcmSender.batchSizes).containsExactly(2);
+		assertThat(fcmDispatcher.getInvalidCount()).isEqualTo(1);
+	}
+
+	@DisplayName("여러 기기 - 회원의 모든 토큰으로 전송하고 무효 토큰만 삭제")
+	@Test
+	void dispatch_multiDevice() throws InterruptedException {
+		//given
+		fcmDispatcher = createDispatcher(10_000);
+		given(tokenRepository.findAll(anyCollection()))
+			.willReturn(Map.of(1L, List.of("phone", "tablet", "old-phone")));
+		fcmSender.results.add(List.of(FCMSendResult.SENT, FCMSendResult.SENT, FCMSendResult.INVALID_TOKEN));
+		//when
+		fcmDispatcher.dispatch(List.of(new FCMNotification(1L, "title", "body")));
+		//then
+		assertThat(fcmSender.batchSizes).containsExactly(3);
+		assertThat(fcmSender.sentTokens).containsExactly("phone", "tablet", "old-phone");
+		verify(tokenRepository).delete(1L, "old-phone");
+		assertThat(fcmDispatcher.getSentCount()).isEqualTo(2);
+	}
+
+	@DisplayName("알림별 결과 - 한 기기라도 전송하지 못한 알림만 실패")
+	@Test
+	void dispatch_resultPerNotification() throws InterruptedException {
+		//given
+		fcmDispatcher = createDispatcher(10_000);
+		given(tokenRepository.findAll(anyCollection()))
+			.willReturn(Map.of(1L, List.of("phone", "tablet"), 2L, List.of("token2")));
+		fcmSender.results.add(List.of(FCMSendResult.SENT, FCMSendResult.FAILED, FCMSendResult.SENT));
+		//when
+		List<FCMSendResult> results = fcmDispatcher.dispatch(createNotifications(2));
+		//then
+		assertThat(results).containsExactly(FCMSendResult.FAILED, FCMSendResult.SENT);
+		assertThat(fcmDispatcher.getFailedCount()).isEqualTo(1);
+	}
+
+	@DisplayName("큐가 가득 차면 알림을 버리고 RETRY 로 끝냄")
+	@Test
+	void enqueue_full() {
+		//given
+		fcmDispatcher = createDispatcher(2);
+		//when
+		CompletableFuture<FCMSendResult> first = fcmDispatcher.enqueue(new FCMNotification(1L, "title", "body"));
+		CompletableFuture<FCMSendResult> second = fcmDispatcher.enqueue(new FCMNotification(2L, "title", "body"));
+		CompletableFuture<FCMSendResult> third = fcmDispatcher.enqueue(new FCMNotification(3L, "title", "body"));
+		//then
+		assertThat(first).isNotDone();
+		assertThat(second).isNotDone();
+		assertThat(third).isCompletedWithValue(FCMSendResult.RETRY);
+		assertThat(fcmDispatcher.getDroppedCount()).isEqualTo(1);
+	}
+
+	@DisplayName("worker 스레드 - 큐에 쌓인 알림을 모아서 전송하고 알림별 결과를 돌려줌")
+	@Test
+	void enqueue_dispatchedByWorker() throws Exception {
+		//given
+		fcmDispatcher = createDispatcher(10_000);
+		givenTokens();
+		List<CompletableFuture<FCMSendResult>> futures = new ArrayList<>();
+		for (FCMNotification notification : createNotifications(100)) {
+			futures.add(fcmDispatcher.enqueue(notification));
+		}
+		//when
+		fcmDispatcher.start();
+		CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+		//then
+		assertThat(futures).allSatisfy(future -> assertThat(future).isCompletedWithValue(FCMSendResult.SENT));
+		assertThat(fcmSender.batchSizes).containsExactly(100);
+	}
+
+	private FCMDispatcher createDispatcher(int queueCapacity) {
+		return new FCMDispatcher(fcmSender, tokenRepository, queueCapacity, 50, 3, 0);
+	}
+
+	// 회원 id 가 n 이면 토큰은 "token" + n 하나
+	private void givenTokens() {
+		given(tokenRepository.findAll(anyCollection())).willAnswer(invocation -> {
+			Collection<Long> memberIds = invocation.getArgument(0);
+			Map<Long, List<String>> tokens = new HashMap<>();
+			for (Long memberId : memberIds) {
+				tokens.put(memberId, List.of("token" + memberId));
+			}
+			return tokens;
+		});
+	}
+
+	private List<FCMNotification> createNotifications(int count) {
+		List<FCMNotification> notifications = new ArrayList<>(count);
+		for (long memberId = 1; memberId <= count; memberId++) {
+			notifications.add(new FCMNotification(memberId, "title", "body" + memberId));
+		}
+		return notifications;
+	}
+
+	/*
+	 *   FCM 서버 대신 요청을 기록하고 미리 정해둔 결과를 돌려주는 가짜 전송기
+	 *   정해둔 결과가 없으면 모두 성공
+	 * */
+	static class FakeFCMSender implements FCMSender {
+
+		final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+		final List<String> sentTokens = new CopyOnWriteArrayList<>();
+		final Deque<List<FCMSendResult>> results = new ConcurrentLinkedDeque<>();
+
+		@Override
+		public List<FCMSendResult> send(List<FCMMessage> messages) {
+			batchSizes.add(messages.size());
+			sentTokens.addAll(messages.stream().map(FCMMessage::getToken).collect(Collectors.toList()));
+
+			List<FCMSendResult> result = results.poll();
+			if (result != null) {
+				return result;
+			}
+			List<FCMSendResult> sent = new ArrayList<>(messages.size());
+			for (int i = 0; i < messages.size(); i++) {
+				sent.add(FCMSendResult.SENT);
+			}
+			return sent;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package chocoteamteam.togather.component.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chocoteamteam.togather.dto.TokenMemberInfo;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Base64;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/*
+ *   요청 당 access token 인증 비용 측정
+ *   - 매번 파서 생성 (기존 방식) / 키별 파서 재사용 / 검증된 토큰 캐시 적중
+ *   -Dbenchmark=true 로 실행, -Dbenchmark.iterations 로 반복 횟수 조정
+ * */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtAuthenticationBenchmarkTest {
+
+	private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200_000);
+	private static final int WARMUP_ITERATIONS = ITERATIONS / 10;
+
+	@Test
+	@DisplayName("access token 인증 비용 비교")
+	void parseAccessToken() {
+		Key key = Keys.hmacShaKeyFor(Base64.getEncoder()
+			.encodeToString("benchmarkKeybenchmarkKeybenchmarkKeybenchmarkKey".getBytes()).getBytes());
+		String token = new JwtIssuer().issueToken(TokenMemberInfo.builder()
+			.id(1L)
+			.nickname("benchmark")
+			.status("PERMITTED")
+			.role("ROLE_USER")
+			.build()
+			.toClaims(60), key);
+
+		JwtParser jwtParser = new JwtParser();
+		VerifiedTokenCache cache = new VerifiedTokenCache(10_000, 300);
+		cache.put(token, TokenMemberInfo.from(jwtParser.parseToken(token, key)));
+
+		double perCall = measure(() -> TokenMemberInfo.from(Jwts.parserBuilder()
+			.setSigningKey(key)
+			.build()
+			.parseClaimsJws(token)
+			.getBody()));
+		double prebuilt = measure(() -> TokenMemberInfo.from(jwtParser.parseToken(token, key)));
+		double cached = measure(() -> cache.get(token).orElseThrow());
+
+		log.info("iterations : {} , parser per call : {} ns/op , prebuilt parser : {} ns/op , cache hit : {} ns/op",
+			ITERATIONS, String.format("%.0f", perCall), String.format("%.0f", prebuilt),
+			String.format("%.0f", cached));
+		assertThat(cached).isLessThan(perCall);
+	}
+
+	private double measure(AuthStep step) {
+		long sink = 0;
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			sink += step.authenticate().getId();
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			sink += step.authenticate().getId();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		assertThat(sink).isPositive();
+		return (double) elapsed / ITERATIONS;
+	}
+
+	@FunctionalInterface
+	private interface AuthStep {
+
+		TokenMemberInfo authenticate();
+	}
+}
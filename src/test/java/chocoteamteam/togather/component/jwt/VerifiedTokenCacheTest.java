@@ -0,0 +1,94 @@
+package chocoteamteam.togather.component.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chocoteamteam.togather.dto.TokenMemberInfo;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+	@DisplayName("검증된 토큰 캐시 조회 성공")
+	@Test
+	void get_success() {
+		//given
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, 300);
+		TokenMemberInfo info = memberInfo(1L, 60_000);
+		cache.put("token", info);
+
+		//when
+		//then
+		assertThat(cache.get("token")).containsSame(info);
+		assertThat(cache.get("otherToken")).isEmpty();
+	}
+
+	@DisplayName("검증된 토큰 캐시 조회 - 토큰이 만료된 경우 캐시하지 않음")
+	@Test
+	void get_expiredToken() {
+		//given
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, 300);
+		cache.put("token", memberInfo(1L, -1_000));
+
+		//when
+		//then
+		assertThat(cache.get("token")).isEmpty();
+		assertThat(cache.size()).isZero();
+	}
+
+	@DisplayName("검증된 토큰 캐시 조회 - 최대 TTL 이 지난 경우 조회되지 않음")
+	@Test
+	void get_maxTtlExceeded() {
+		//given
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, 0);
+		cache.put("token", memberInfo(1L, 60_000));
+
+		//when
+		//then
+		assertThat(cache.get("token")).isEmpty();
+	}
+
+	@DisplayName("검증된 토큰 캐시 저장 - 최대 크기를 넘지 않음")
+	@Test
+	void put_bounded() {
+		//given
+		VerifiedTokenCache cache = new VerifiedTokenCache(100, 300);
+
+		//when
+		for (long i = 0; i < 1_000; i++) {
+			cache.put("token" + i, memberInfo(i, 60_000));
+		}
+
+		//then
+		assertThat(cache.size()).isLessThanOrEqualTo(100);
+		assertThat(cache.get("token999")).isPresent();
+	}
+
+	@DisplayName("검증된 토큰 캐시 삭제 - 회원의 토큰만 삭제")
+	@Test
+	void evictMember_success() {
+		//given
+		VerifiedTokenCache cache = new VerifiedTokenCache(10, 300);
+		cache.put("token1", memberInfo(1L, 60_000));
+		cache.put("token2", memberInfo(1L, 60_000));
+		cache.put("token3", memberInfo(2L, 60_000));
+
+		//when
+		cache.evictMember(1L);
+
+		//then
+		assertThat(cache.get("token1")).isEmpty();
+		assertThat(cache.get("token2")).isEmpty();
+		assertThat(cache.get("token3")).isPresent();
+	}
+
+	private TokenMemberInfo memberInfo(Long id, long expiresInMillis) {
+		return TokenMemberInfo.builder()
+			.id(id)
+			.nickname("test")
+			.status("PERMITTED")
+			.role("ROLE_USER")
+			.expiration(new Date(System.currentTimeMillis() + expiresInMillis))
+			.build();
+	}
+}
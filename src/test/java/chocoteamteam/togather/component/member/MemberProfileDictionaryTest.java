@@ -0,0 +1,96 @@
+package chocoteamteam.togather.component.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import chocoteamteam.togather.dto.queryDslSimpleDto.SimpleMemberDto;
+import chocoteamteam.togather.repository.MemberRepository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+@ExtendWith(MockitoExtension.class)
+class MemberProfileDictionaryTest {
+
+	@Mock
+	MemberRepository memberRepository;
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+	@Mock
+	ChannelTopic memberProfileInvalidationTopic;
+	@InjectMocks
+	MemberProfileDictionary memberProfileDictionary;
+
+	@DisplayName("회원 정보 조회 - 한 번 조회한 회원은 DB 조회 없이 반환")
+	@Test
+	void getAll_cached() {
+		//given
+		given(memberRepository.findAllSimpleMemberDtoByIdIn(anyCollection()))
+			.willReturn(List.of(new SimpleMemberDto(1L, "tester", "test.png")));
+
+		//when
+		memberProfileDictionary.getAll(List.of(1L));
+		Map<Long, SimpleMemberDto> result = memberProfileDictionary.getAll(List.of(1L));
+
+		//then
+		assertThat(result.get(1L).getNickname()).isEqualTo("tester");
+		verify(memberRepository, times(1)).findAllSimpleMemberDtoByIdIn(anyCollection());
+	}
+
+	@DisplayName("회원 정보 조회 - 무효화된 회원은 다시 조회")
+	@Test
+	void getAll_afterEvict() {
+		//given
+		given(memberRepository.findAllSimpleMemberDtoByIdIn(anyCollection()))
+			.willReturn(List.of(new SimpleMemberDto(1L, "tester", "test.png")))
+			.willReturn(List.of(new SimpleMemberDto(1L, "modified", "test.png")));
+
+		//when
+		memberProfileDictionary.getAll(List.of(1L));
+		memberProfileDictionary.evict(1L);
+		Map<Long, SimpleMemberDto> result = memberProfileDictionary.getAll(List.of(1L));
+
+		//then
+		assertThat(result.get(1L).getNickname()).isEqualTo("modified");
+		verify(memberRepository, times(2)).findAllSimpleMemberDtoByIdIn(anyCollection());
+	}
+
+	@DisplayName("최대 크기 - 가장 오래 읽지 않은 회원 하나만 밀어냄")
+	@Test
+	void getAll_evictEldest() {
+		//given
+		given(memberRepository.findAllSimpleMemberDtoByIdIn(anyCollection()))
+			.willAnswer(invocation -> {
+				Collection<Long> ids = invocation.getArgument(0);
+				return ids.stream()
+					.map(id -> new SimpleMemberDto(id, "member" + id, "test.png"))
+					.collect(Collectors.toList());
+			});
+		List<Long> memberIds = LongStream.rangeClosed(1, MemberProfileDictionary.MAXIMUM_SIZE)
+			.boxed()
+			.collect(Collectors.toList());
+		memberProfileDictionary.getAll(memberIds);
+		memberProfileDictionary.getAll(List.of(1L));
+
+		//when
+		memberProfileDictionary.getAll(List.of(MemberProfileDictionary.MAXIMUM_SIZE + 1L));
+		memberProfileDictionary.getAll(List.of(1L));
+
+		//then
+		assertThat(memberProfileDictionary.size()).isEqualTo(MemberProfileDictionary.MAXIMUM_SIZE);
+		verify(memberRepository, times(2)).findAllSimpleMemberDtoByIdIn(anyCollection());
+	}
+}
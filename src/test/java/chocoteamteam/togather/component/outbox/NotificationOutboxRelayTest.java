@@ -0,0 +1,222 @@
+package chocoteamteam.togather.component.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import chocoteamteam.togather.component.fcm.FCMDispatcher;
+import chocoteamteam.togather.component.fcm.FCMNotification;
+import chocoteamteam.togather.component.fcm.FCMSendResult;
+import chocoteamteam.togather.component.lock.Lease;
+import chocoteamteam.togather.component.lock.RedisLeaseLock;
+import chocoteamteam.togather.entity.NotificationOutbox;
+import chocoteamteam.togather.repository.NotificationOutboxRepository;
+import chocoteamteam.togather.type.OutboxStatus;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+	@Mock
+	NotificationOutboxRepository outboxRepository;
+	@Mock
+	FCMDispatcher fcmDispatcher;
+	@Mock
+	RedisLeaseLock redisLeaseLock;
+
+	NotificationOutboxRelay outboxRelay;
+
+	Lease lease = new Lease("notification:outbox:relay", "node-1", 1L);
+
+	@BeforeEach
+	void setUp() {
+		outboxRelay = new NotificationOutboxRelay(outboxRepository, fcmDispatcher, redisLeaseLock, 2, 3, 30_000L, 1_000L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxRelay.shutdown();
+	}
+
+	@DisplayName("PENDING 알림을 batch 단위로 읽어 전송 후 SENT 처리")
+	@Test
+	void relay_success() {
+		//given
+		givenLease();
+		given(outboxRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(createOutbox(1L, 0), createOutbox(2L, 0)));
+		given(outboxRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(2L), any(Pageable.class)))
+			.willReturn(List.of(createOutbox(3L, 0)));
+		given(fcmDispatcher.enqueue(any(FCMNotification.class))).willReturn(sent());
+
+		//when
+		outboxRelay.relay();
+
+		//then
+		ArgumentCaptor<FCMNotification> captor = ArgumentCaptor.forClass(FCMNotification.class);
+		verify(fcmDispatcher, times(3)).enqueue(captor.capture());
+		assertThat(captor.getAllValues()).extracting(FCMNotification::getMemberId)
+			.containsExactly(11L, 12L, 13L);
+
+		verify(outboxRepository).updateStatusByIdIn(eq(List.of(1L, 2L)), eq(OutboxStatus.SENT), any());
+		verify(outboxRepository).updateStatusByIdIn(eq(List.of(3L)), eq(OutboxStatus.SENT), any());
+		verify(redisLeaseLock).release(lease);
+	}
+
+	@DisplayName("일부 알림만 전송 실패 - 전송한 알림만 SENT, 실패한 알림은 PENDING 으로 남김")
+	@Test
+	void relay_partialFail() {
+		//given
+		givenLease();
+		given(outboxRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(createOutbox(1L, 0), createOutbox(2L, 0)));
+		given(fcmDispatcher.enqueue(any(FCMNotification.class)))
+			.willReturn(sent(), CompletableFuture.completedFuture(FCMSendResult.FAILED));
+		given(outboxRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(2L), any(Pageable.class)))
+			.willReturn(List.of());
+
+		//when
+		outboxRelay.relay();
+
+		//then
+		verify(outboxRepository).updateStatusByIdIn(eq(List.of(1L)), eq(OutboxStatus.SENT), any());
+		verify(outboxRepository).updateStatusByIdIn(eq(List.of(2L)), eq(OutboxStatus.PENDING), any());
+	}
+
+	@DisplayName("다른 노드가 lease 를 잡고 있으면 전송하지 않음")
+	@Test
+	void relay_leaseHeld() {
+		//given
+		given(redisLeaseLock.tryAcquire(eq("notification:outbox:relay"), any(Duration.class)))
+			.willReturn(Optional.empty());
+
+		//when
+		outboxRelay.relay();
+
+		//then
+		verifyNoInteractions(outboxRepository, fcmDispatcher);
+		verify(redisLeaseLock, never()).release(any());
+	}
+
+	@DisplayName("전송 중 lease 를 잃으면 다음 batch 를 읽지 않음")
+	@Test
+	void relay_leaseLost() {
+		//given
+		given(redisLeaseLock.tryAcquire(eq("notification:outbox:relay"), any(Duration.class)))
+			.willReturn(Optional.of(lease));
+		given(redisLeaseLock.renew(eq(lease), any(Duration.class))).willReturn(true, false);
+		given(outboxRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(createOutbox(1L, 0), createOutbox(2L, 0)));
+		given(fcmDispatcher.enqueue(any(FCMNotification.class))).willReturn(sent());
+
+		//when
+		outboxRelay.relay();
+
+		//then
+		verify(outboxRepository, never()).findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(2L), any(Pageable.class));
+		verify(redisLeaseLock).release(lease);
+	}
+
+	@DisplayName("전송 실패 - 최대 시도 횟수 전이면 PENDING 으로 남기고, 도달하면 FAILED 처리")
+	@Test
+	void relay_fail() {
+		//given
+		givenLease();
+		given(outboxRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(createOutbox(1L, 0), createOutbox(2L, 2)));
+		given(fcmDispatcher.enqueue(any(FCMNotification.class)))
+			.willReturn(CompletableFuture.completedFuture(FCMSendResult.FAILED));
+
+		//when
+		outboxRelay.relay();
+
+		//then
+		verify(outboxRepository).updateStatusByIdIn(eq(List.of(1L)), eq(OutboxStatus.PENDING), any());
+		verify(outboxRepository).updateStatusByIdIn(eq(List.of(2L)), eq(OutboxStatus.FAILED), any());
+		verify(outboxRepository, never()).updateStatusByIdIn(any(), eq(OutboxStatus.SENT), any());
+	}
+
+	@DisplayName("큐가 가득 차서 넘기지 못한 알림은 시도 횟수를 늘리지 않고 남기고 더 읽지 않음")
+	@Test
+	void relay_queueFull() {
+		//given
+		givenLease();
+		given(outboxRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(createOutbox(1L, 0), createOutbox(2L, 0)));
+		given(fcmDispatcher.enqueue(any(FCMNotification.class)))
+			.willReturn(sent(), CompletableFuture.completedFuture(FCMSendResult.RETRY));
+
+		//when
+		outboxRelay.relay();
+
+		//then
+		verify(outboxRepository).updateStatusByIdIn(eq(List.of(1L)), eq(OutboxStatus.SENT), any());
+		verify(outboxRepository, never()).updateStatusByIdIn(eq(List.of(2L)), any(), any());
+		verify(outboxRepository, never()).findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(2L), any(Pageable.class));
+	}
+
+	@DisplayName("제한 시간 안에 전송 결과가 나오지 않으면 상태를 바꾸지 않음")
+	@Test
+	void relay_timeout() {
+		//given
+		givenLease();
+		given(outboxRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(
+			eq(OutboxStatus.PENDING), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(createOutbox(1L, 0)));
+		given(fcmDispatcher.enqueue(any(FCMNotification.class))).willReturn(new CompletableFuture<>());
+
+		//when
+		outboxRelay.relay();
+
+		//then
+		verify(outboxRepository, never()).updateStatusByIdIn(any(), any(), any());
+		verify(redisLeaseLock).release(lease);
+	}
+
+	private CompletableFuture<FCMSendResult> sent() {
+		return CompletableFuture.completedFuture(FCMSendResult.SENT);
+	}
+
+	private void givenLease() {
+		given(redisLeaseLock.tryAcquire(eq("notification:outbox:relay"), any(Duration.class)))
+			.willReturn(Optional.of(lease));
+		given(redisLeaseLock.renew(eq(lease), any(Duration.class))).willReturn(true);
+	}
+
+	// 회원 id 는 outbox id + 10
+	private NotificationOutbox createOutbox(Long id, int attempts) {
+		return NotificationOutbox.builder()
+			.id(id)
+			.memberId(id + 10)
+			.title("title")
+			.body("body")
+			.attempts(attempts)
+			.build();
+	}
+}
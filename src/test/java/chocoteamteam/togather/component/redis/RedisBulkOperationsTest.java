@@ -0,0 +1,96 @@
+package chocoteamteam.togather.component.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+@ExtendWith(MockitoExtension.class)
+class RedisBulkOperationsTest {
+
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+
+	SimpleMeterRegistry meterRegistry;
+	RedisBulkOperations redisBulkOperations;
+
+	@BeforeEach
+	void beforeEach() {
+		meterRegistry = new SimpleMeterRegistry();
+		redisBulkOperations = new RedisBulkOperations(redisTemplate, meterRegistry);
+	}
+
+	@DisplayName("여러 회원 값 조회 - 한 번의 파이프라인으로 조회하고 값이 없는 회원은 제외")
+	@Test
+	void multiGet_success() {
+		//given
+		given(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.willReturn(Arrays.asList("token1", null, "token3"));
+
+		//when
+		Map<Long, String> result = redisBulkOperations.multiGet("prefix::", List.of(1L, 2L, 3L));
+
+		//then
+		assertThat(result).containsOnly(Map.entry(1L, "token1"), Map.entry(3L, "token3"));
+		verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+		assertThat(meterRegistry.get("redis.pipeline").tag("operation", "multiGet").timer()
+			.count()).isEqualTo(1);
+	}
+
+	@DisplayName("여러 회원 값 조회 - 많은 회원은 나눠서 파이프라인 실행")
+	@Test
+	void multiGet_chunked() {
+		//given
+		List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().collect(Collectors.toList());
+		given(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.willReturn(values(1000), values(1000), values(500));
+
+		//when
+		Map<Long, String> result = redisBulkOperations.multiGet("prefix::", ids);
+
+		//then
+		assertThat(result).hasSize(2500);
+		verify(redisTemplate, times(3)).executePipelined(any(SessionCallback.class));
+	}
+
+	@DisplayName("여러 회원 hash 조회 - 비어있는 hash 는 제외")
+	@Test
+	void multiGetHash_success() {
+		//given
+		given(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.willReturn(Arrays.asList(Map.of("session", "value"), Map.of()));
+
+		//when
+		Map<Long, Map<String, String>> result = redisBulkOperations.multiGetHash("prefix::",
+			List.of(1L, 2L));
+
+		//then
+		assertThat(result).containsOnlyKeys(1L);
+		assertThat(result.get(1L)).containsEntry("session", "value");
+	}
+
+	private List<Object> values(int size) {
+		List<Object> values = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			values.add("token" + i);
+		}
+		return values;
+	}
+}
@@ -0,0 +1,60 @@
+package chocoteamteam.togather.component.revocation;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import chocoteamteam.togather.component.jwt.VerifiedTokenCache;
+import chocoteamteam.togather.component.stomp.StompSessionRegistry;
+import chocoteamteam.togather.type.MemberStatus;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+@ExtendWith(MockitoExtension.class)
+class MemberRevocationListenerTest {
+
+	@Mock
+	StompSessionRegistry stompSessionRegistry;
+	@Mock
+	MemberStatusRegistry memberStatusRegistry;
+	@Mock
+	VerifiedTokenCache verifiedTokenCache;
+	@InjectMocks
+	MemberRevocationListener memberRevocationListener;
+
+	@DisplayName("로그아웃 - 검증 캐시 제거 후 STOMP 세션 종료")
+	@Test
+	void onMessage_logout() {
+		//when
+		memberRevocationListener.onMessage(message("1"), null);
+
+		//then
+		verify(verifiedTokenCache).evictMember(1L);
+		verify(stompSessionRegistry).revoke(1L);
+		verify(memberStatusRegistry, never()).apply(anyLong(), any(), anyLong());
+	}
+
+	@DisplayName("상태 변경 - 상태 반영, 검증 캐시 제거 후 STOMP 세션 종료")
+	@Test
+	void onMessage_statusChanged() {
+		//when
+		memberRevocationListener.onMessage(message("1:BANNED:1000"), null);
+
+		//then
+		verify(memberStatusRegistry).apply(1L, MemberStatus.BANNED, 1000L);
+		verify(verifiedTokenCache).evictMember(1L);
+		verify(stompSessionRegistry).revoke(1L);
+	}
+
+	private DefaultMessage message(String body) {
+		return new DefaultMessage("memberRevocation".getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8));
+	}
+}
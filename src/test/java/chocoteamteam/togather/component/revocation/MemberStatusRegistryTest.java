@@ -0,0 +1,126 @@
+package chocoteamteam.togather.component.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+import chocoteamteam.togather.type.MemberStatus;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class MemberStatusRegistryTest {
+
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+	@Mock
+	HashOperations<String, Object, Object> hashOperations;
+
+	MemberStatusRegistry memberStatusRegistry;
+
+	@BeforeEach
+	void beforeEach() {
+		memberStatusRegistry = new MemberStatusRegistry(redisTemplate, 60);
+	}
+
+	@DisplayName("회원 상태 조회 - 상태 변경 이력이 없으면 토큰의 상태 반환")
+	@Test
+	void getStatus_tokenStatus() {
+		//given
+		//when
+		//then
+		assertThat(memberStatusRegistry.getStatus(1L, MemberStatus.PERMITTED))
+			.isEqualTo(MemberStatus.PERMITTED);
+	}
+
+	@DisplayName("회원 상태 조회 - 상태가 변경된 회원은 변경된 상태 반환")
+	@Test
+	void getStatus_changedStatus() {
+		//given
+		memberStatusRegistry.apply(1L, MemberStatus.BANNED, System.currentTimeMillis());
+
+		//when
+		//then
+		assertThat(memberStatusRegistry.getStatus(1L, MemberStatus.PERMITTED))
+			.isEqualTo(MemberStatus.BANNED);
+		assertThat(memberStatusRegistry.getStatus(2L, MemberStatus.PERMITTED))
+			.isEqualTo(MemberStatus.PERMITTED);
+	}
+
+	@DisplayName("회원 상태 조회 - access token 유효시간이 지난 변경은 무시")
+	@Test
+	void getStatus_staleChange() {
+		//given
+		memberStatusRegistry.apply(1L, MemberStatus.BANNED,
+			System.currentTimeMillis() - 61 * 60_000L);
+
+		//when
+		//then
+		assertThat(memberStatusRegistry.getStatus(1L, MemberStatus.PERMITTED))
+			.isEqualTo(MemberStatus.PERMITTED);
+		assertThat(memberStatusRegistry.size()).isZero();
+	}
+
+	@DisplayName("회원 상태 반영 - 늦게 도착한 이전 변경은 무시")
+	@Test
+	void apply_outOfOrder() {
+		//given
+		long now = System.currentTimeMillis();
+
+		//when
+		memberStatusRegistry.apply(1L, MemberStatus.PERMITTED, now);
+		memberStatusRegistry.apply(1L, MemberStatus.BANNED, now - 1_000);
+
+		//then
+		assertThat(memberStatusRegistry.getStatus(1L, MemberStatus.BANNED))
+			.isEqualTo(MemberStatus.PERMITTED);
+	}
+
+	@DisplayName("회원 상태 저장 - Redis hash 에 저장(만료 항목 정리)하고 메모리에도 반영")
+	@Test
+	void save_success() {
+		//given
+		long now = System.currentTimeMillis();
+
+		//when
+		memberStatusRegistry.save(1L, MemberStatus.WITHDRAWAL, now);
+
+		//then
+		verify(redisTemplate).execute(eq(MemberStatusRegistry.SAVE_SCRIPT),
+			eq(List.of(MemberStatusRegistry.MEMBER_STATUS_KEY)), eq("1"), eq("WITHDRAWAL:" + now), anyString());
+		assertThat(memberStatusRegistry.getStatus(1L, MemberStatus.PERMITTED))
+			.isEqualTo(MemberStatus.WITHDRAWAL);
+	}
+
+	@DisplayName("서버 시작 시 Redis 에서 상태 로드 - 만료된 항목은 삭제")
+	@Test
+	void load_success() {
+		//given
+		long now = System.currentTimeMillis();
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(hashOperations.entries(MemberStatusRegistry.MEMBER_STATUS_KEY))
+			.willReturn(Map.of(
+				"1", MemberStatusRegistry.format(MemberStatus.BANNED, now),
+				"2", MemberStatusRegistry.format(MemberStatus.WITHDRAWAL, now - 61 * 60_000L)));
+
+		//when
+		memberStatusRegistry.load();
+
+		//then
+		assertThat(memberStatusRegistry.getStatus(1L, MemberStatus.PERMITTED))
+			.isEqualTo(MemberStatus.BANNED);
+		assertThat(memberStatusRegistry.getStatus(2L, MemberStatus.PERMITTED))
+			.isEqualTo(MemberStatus.PERMITTED);
+		verify(hashOperations).delete(MemberStatusRegistry.MEMBER_STATUS_KEY, "2");
+	}
+}
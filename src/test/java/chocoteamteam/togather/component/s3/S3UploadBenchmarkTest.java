@@ -0,0 +1,191 @@
+package chocoteamteam.togather.component.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chocoteamteam.togather.testUtils.LocalS3Server;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.web.multipart.MultipartFile;
+
+/*
+ *   동시 업로드 시 업로드 1건당 heap 사용량 측정 (로컬 S3 호환 서버 대상)
+ *   -Dbenchmark=true 로 실행, -Dbenchmark.uploads / -Dbenchmark.file-mb 로 동시 업로드 수, 파일 크기 조정
+ *   buffered : Content-Length 없이 putObject (SDK 가 스트림 전체를 메모리에 올림, 이전 방식)
+ *   streaming : S3Uploader (Content-Length 지정 + multipart)
+ * */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class S3UploadBenchmarkTest {
+	private static final int UPLOAD_COUNT = Integer.getInteger("benchmark.uploads", 8);
+	private static final int FILE_MB = Integer.getInteger("benchmark.file-mb", 32);
+	private static final String BUCKET = "togather";
+
+	LocalS3Server s3Server;
+	AmazonS3 amazonS3;
+	Path tempFile;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		s3Server = new LocalS3Server(false);
+		s3Server.start();
+		amazonS3 = s3Server.createClient();
+
+		tempFile = Files.createTempFile("s3-benchmark", ".png");
+		byte[] buffer = new byte[1024 * 1024];
+		Random random = new Random(42);
+		try (OutputStream out = Files.newOutputStream(tempFile)) {
+			for (int i = 0; i < FILE_MB; i++) {
+				random.nextBytes(buffer);
+				out.write(buffer);
+			}
+		}
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		s3Server.stop();
+		Files.deleteIfExists(tempFile);
+	}
+
+	@Test
+	@DisplayName("동시 업로드 heap 사용량 - buffered vs streaming")
+	void concurrentUpload() throws Exception {
+		MultipartFile file = new FileMultipartFile(tempFile);
+
+		long bufferedBytes = measure("buffered", key -> {
+			try (InputStream in = file.getInputStream()) {
+				amazonS3.putObject(BUCKET, key, in, new ObjectMetadata());
+			}
+		});
+
+		S3Uploader s3Uploader = new S3Uploader(amazonS3, 16L * 1024 * 1024, 8L * 1024 * 1024, 4);
+		long streamingBytes;
+		try {
+			streamingBytes = measure("streaming", key -> s3Uploader.upload(BUCKET, key, file));
+		} finally {
+			s3Uploader.shutdown();
+		}
+
+		assertThat(s3Server.getObjectSize(BUCKET, "streaming-0")).hasValue((long) FILE_MB * 1024 * 1024);
+		assertThat(streamingBytes).isLessThan(bufferedBytes);
+	}
+
+	private long measure(String name, Upload upload) throws Exception {
+		List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				heapPools.add(pool);
+			}
+		}
+
+		System.gc();
+		long baseline = 0;
+		for (MemoryPoolMXBean pool : heapPools) {
+			pool.resetPeakUsage();
+			baseline += pool.getUsage().getUsed();
+		}
+
+		long start = System.nanoTime();
+		ExecutorService executor = Executors.newFixedThreadPool(UPLOAD_COUNT);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < UPLOAD_COUNT; i++) {
+				String key = name + "-" + i;
+				futures.add(executor.submit(() -> {
+					upload.upload(key);
+					return null;
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		long peak = 0;
+		for (MemoryPoolMXBean pool : heapPools) {
+			peak += pool.getPeakUsage().getUsed();
+		}
+		long perUpload = Math.max(0, peak - baseline) / UPLOAD_COUNT;
+
+		log.info("{} : uploads {} x {} MB , {} ms , peak heap per upload {} MB",
+			name, UPLOAD_COUNT, FILE_MB, elapsedMillis, perUpload / (1024 * 1024));
+		return perUpload;
+	}
+
+	private interface Upload {
+		void upload(String key) throws Exception;
+	}
+
+	// 디스크에 저장된 업로드 파일 (용량이 큰 multipart 요청은 서블릿 컨테이너가 임시 파일로 저장한다.)
+	private static class FileMultipartFile implements MultipartFile {
+		private final Path path;
+
+		private FileMultipartFile(Path path) {
+			this.path = path;
+		}
+
+		@Override
+		public String getName() {
+			return "file";
+		}
+
+		@Override
+		public String getOriginalFilename() {
+			return path.getFileName().toString();
+		}
+
+		@Override
+		public String getContentType() {
+			return "image/png";
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return getSize() == 0;
+		}
+
+		@Override
+		public long getSize() {
+			return path.toFile().length();
+		}
+
+		@Override
+		public byte[] getBytes() throws IOException {
+			return Files.readAllBytes(path);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return Files.newInputStream(path);
+		}
+
+		@Override
+		public void transferTo(File dest) throws IOException {
+			Files.copy(path, dest.toPath());
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package chocoteamteam.togather.component.s3;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chocoteamteam.togather.testUtils.LocalS3Server;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+/*
+ *   로컬 S3 호환 서버를 띄워 실제 HTTP 통신으로 확인
+ * */
+class S3UploaderTest {
+
+	private static final String BUCKET = "togather";
+	private static final int MB = 1024 * 1024;
+
+	LocalS3Server s3Server;
+	S3Uploader s3Uploader;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		s3Server = new LocalS3Server(true);
+		s3Server.start();
+		// 5MB 이상이면 5MB 단위 multipart
+		s3Uploader = new S3Uploader(s3Server.createClient(), 5 * MB, 5 * MB, 4);
+	}
+
+	@AfterEach
+	void tearDown() {
+		s3Uploader.shutdown();
+		s3Server.stop();
+	}
+
+	@DisplayName("업로드 - 기준 크기 미만이면 PutObject 한 번")
+	@Test
+	void upload_putObject() throws IOException {
+		//given
+		byte[] content = randomBytes(MB);
+		MockMultipartFile file = new MockMultipartFile("file", "image.png", "image/png", content);
+		//when
+		s3Uploader.upload(BUCKET, "image.png", file);
+		//then
+		assertThat(s3Server.getPutObjectCount()).isEqualTo(1);
+		assertThat(s3Server.getUploadPartCount()).isZero();
+		assertThat(s3Server.getObject(BUCKET, "image.png")).hasValue(content);
+	}
+
+	@DisplayName("업로드 - 기준 크기 이상이면 part 를 나눠 multipart upload")
+	@Test
+	void upload_multipart() throws IOException {
+		//given
+		byte[] content = randomBytes(12 * MB + 123);
+		MockMultipartFile file = new MockMultipartFile("file", "image.png", "image/png", content);
+		//when
+		s3Uploader.upload(BUCKET, "large.png", file);
+		//then
+		assertThat(s3Server.getPutObjectCount()).isZero();
+		assertThat(s3Server.getUploadPartCount()).isEqualTo(3);
+		assertThat(s3Server.getObject(BUCKET, "large.png")).hasValue(content);
+	}
+
+	@DisplayName("업로드 실패 - part 전송 실패 시 multipart upload 취소")
+	@Test
+	void upload_multipartFail() {
+		//given
+		MockMultipartFile file = new MockMultipartFile("file", "image.png", "image/png",
+			randomBytes(6 * MB)) {
+			@Override
+			public InputStream getInputStream() throws IOException {
+				throw new IOException("closed");
+			}
+		};
+		//when
+		//then
+		assertThatThrownBy(() -> s3Uploader.upload(BUCKET, "fail.png", file))
+			.isInstanceOf(IOException.class);
+		assertThat(s3Server.getAbortCount()).isEqualTo(1);
+		assertThat(s3Server.getObject(BUCKET, "fail.png")).isEmpty();
+	}
+
+	private byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(42).nextBytes(bytes);
+		return bytes;
+	}
+}
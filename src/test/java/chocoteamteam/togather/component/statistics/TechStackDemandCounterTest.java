@@ -0,0 +1,136 @@
+package chocoteamteam.togather.component.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import chocoteamteam.togather.batch.application.model.TechStatisticsDto;
+import chocoteamteam.togather.repository.ProjectTechStackRepository;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class TechStackDemandCounterTest {
+
+	private static final List<String> KEYS = List.of(TechStackDemandCounter.KEY, TechStackDemandCounter.SEEDED_KEY);
+
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+	@Mock
+	ProjectTechStackRepository projectTechStackRepository;
+	@Mock
+	HashOperations<String, Object, Object> hashOperations;
+	@Mock
+	ValueOperations<String, String> valueOperations;
+	@InjectMocks
+	TechStackDemandCounter techStackDemandCounter;
+
+	@DisplayName("실시간 집계 - Redis 값과 아직 반영하지 않은 변화량을 합산")
+	@Test
+	void getCounts_withPending() {
+		//given
+		givenSeededAt(0L);
+		techStackDemandCounter.initialize();
+		given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+		given(hashOperations.entries(TechStackDemandCounter.KEY)).willReturn(Map.of("1", "10", "2", "3"));
+
+		//when
+		techStackDemandCounter.increment(List.of(1L, 3L));
+		techStackDemandCounter.decrement(List.of(2L));
+		Map<Long, Long> counts = techStackDemandCounter.getCounts();
+
+		//then
+		assertThat(counts).containsEntry(1L, 11L)
+			.containsEntry(2L, 2L)
+			.containsEntry(3L, 1L);
+	}
+
+	@DisplayName("Redis 반영 - 기술 스택별 변화량을 합쳐 스크립트 한 번으로 HINCRBY")
+	@Test
+	void flush() {
+		//given
+		givenSeededAt(0L);
+		given(redisTemplate.execute(eq(TechStackDemandCounter.FLUSH_SCRIPT), eq(KEYS), eq("1"), eq("2")))
+			.willReturn(1L);
+
+		techStackDemandCounter.increment(List.of(1L, 2L));
+		techStackDemandCounter.increment(List.of(1L));
+		techStackDemandCounter.decrement(List.of(2L));
+
+		//when
+		techStackDemandCounter.flush();
+		techStackDemandCounter.flush();
+
+		//then
+		verify(redisTemplate, times(1))
+			.execute(eq(TechStackDemandCounter.FLUSH_SCRIPT), eq(KEYS), eq("1"), eq("2"));
+	}
+
+	@DisplayName("초기 집계 - 초기값이 없으면 DB 전체 집계를 hash 와 seeded 표시로 함께 저장")
+	@Test
+	void initialize_seed() {
+		//given
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get(TechStackDemandCounter.SEEDED_KEY)).willReturn(null);
+		given(projectTechStackRepository.countAllGroupByTechStack())
+			.willReturn(List.of(new TechStatisticsDto(1L, "java", null, 10L)));
+		given(redisTemplate.execute(eq(TechStackDemandCounter.SEED_SCRIPT), eq(KEYS), anyString(), eq("1"),
+			eq("10"))).willReturn(100L);
+
+		//when
+		techStackDemandCounter.initialize();
+
+		//then
+		verify(redisTemplate).execute(eq(TechStackDemandCounter.SEED_SCRIPT), eq(KEYS), anyString(), eq("1"),
+			eq("10"));
+	}
+
+	@DisplayName("초기 집계 전 변화 - 초기 집계 시작 전에 커밋된 변화는 DB 집계에 포함되므로 버림")
+	@Test
+	void flush_discardBeforeSeed() {
+		//given
+		techStackDemandCounter.increment(List.of(1L));
+		givenSeededAt(System.currentTimeMillis() + 60_000L);
+		given(redisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+		given(hashOperations.entries(TechStackDemandCounter.KEY)).willReturn(Map.of());
+
+		//when
+		techStackDemandCounter.flush();
+
+		//then
+		assertThat(techStackDemandCounter.getCounts()).isEmpty();
+	}
+
+	@DisplayName("초기 집계 전 변화 - 초기 집계 시작 후에 커밋된 변화는 초기값이 확인된 뒤 반영")
+	@Test
+	void flush_applyAfterSeed() {
+		//given
+		techStackDemandCounter.increment(List.of(1L));
+		givenSeededAt(0L);
+		given(redisTemplate.execute(eq(TechStackDemandCounter.FLUSH_SCRIPT), eq(KEYS), eq("1"), eq("1")))
+			.willReturn(1L);
+
+		//when
+		techStackDemandCounter.flush();
+
+		//then
+		verify(redisTemplate).execute(eq(TechStackDemandCounter.FLUSH_SCRIPT), eq(KEYS), eq("1"), eq("1"));
+	}
+
+	private void givenSeededAt(long seededAt) {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get(TechStackDemandCounter.SEEDED_KEY)).willReturn(String.valueOf(seededAt));
+	}
+}
@@ -0,0 +1,109 @@
+package chocoteamteam.togather.component.stomp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+class StompSessionRegistryTest {
+
+	static final Instant NOW = Instant.parse("2022-10-01T00:00:00Z");
+
+	@Mock
+	WebSocketSession webSocketSession;
+
+	StompSessionRegistry registry;
+
+	@BeforeEach
+	void init() {
+		registry = new StompSessionRegistry(Clock.fixed(NOW, ZoneId.of("Asia/Seoul")));
+	}
+
+	@DisplayName("세션 인증 확인 성공 - 만료 전 토큰")
+	@Test
+	void isAuthenticated_success() {
+		//given
+		registry.register("session", 1L, Date.from(NOW.plusSeconds(60)));
+
+		//when
+		//then
+		assertThat(registry.isAuthenticated("session")).isTrue();
+	}
+
+	@DisplayName("세션 인증 확인 실패 - 만료된 토큰, 등록되지 않은 세션")
+	@Test
+	void isAuthenticated_fail() {
+		//given
+		registry.register("expired", 1L, Date.from(NOW.minusSeconds(1)));
+
+		//when
+		//then
+		assertThat(registry.isAuthenticated("expired")).isFalse();
+		assertThat(registry.isAuthenticated("unknown")).isFalse();
+	}
+
+	@DisplayName("만료된 세션 종료")
+	@Test
+	void closeExpiredSessions() throws Exception {
+		//given
+		given(webSocketSession.getId()).willReturn("expired");
+		given(webSocketSession.isOpen()).willReturn(true);
+		registry.addWebSocketSession(webSocketSession);
+		registry.register("expired", 1L, Date.from(NOW.minusSeconds(1)));
+		registry.register("alive", 2L, Date.from(NOW.plusSeconds(60)));
+
+		//when
+		registry.closeExpiredSessions();
+
+		//then
+		verify(webSocketSession).close(CloseStatus.POLICY_VIOLATION);
+		assertThat(registry.isAuthenticated("alive")).isTrue();
+	}
+
+	@DisplayName("회원 세션 강제 종료")
+	@Test
+	void revoke() throws Exception {
+		//given
+		given(webSocketSession.getId()).willReturn("session");
+		given(webSocketSession.isOpen()).willReturn(true);
+		registry.addWebSocketSession(webSocketSession);
+		registry.register("session", 1L, Date.from(NOW.plusSeconds(60)));
+
+		//when
+		registry.revoke(1L);
+
+		//then
+		verify(webSocketSession).close(CloseStatus.POLICY_VIOLATION);
+		assertThat(registry.isAuthenticated("session")).isFalse();
+	}
+
+	@DisplayName("다른 회원 세션은 종료하지 않음")
+	@Test
+	void revoke_otherMember() throws Exception {
+		//given
+		given(webSocketSession.getId()).willReturn("session");
+		registry.addWebSocketSession(webSocketSession);
+		registry.register("session", 1L, Date.from(NOW.plusSeconds(60)));
+
+		//when
+		registry.revoke(2L);
+
+		//then
+		verify(webSocketSession, never()).close(CloseStatus.POLICY_VIOLATION);
+		assertThat(registry.isAuthenticated("session")).isTrue();
+	}
+}
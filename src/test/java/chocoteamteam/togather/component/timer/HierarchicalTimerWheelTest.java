@@ -0,0 +1,121 @@
+package chocoteamteam.togather.component.timer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimerWheelTest {
+
+    static final long TICK = 1_000L;
+    static final long START = 1_000_000L;
+
+    HierarchicalTimerWheel wheel;
+
+    @BeforeEach
+    void init() {
+        wheel = new HierarchicalTimerWheel(TICK, 10, START);
+    }
+
+    @DisplayName("만료 시간 전에는 반환되지 않는다")
+    @Test
+    void advance_beforeExpiration() {
+        //given
+        wheel.schedule(1L, START + 5_500L);
+        //when
+        List<Long> expired = wheel.advance(START + 5_900L);
+        //then
+        assertThat(expired).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+
+    @DisplayName("만료 시간이 속한 tick 이 지나면 반환된다")
+    @Test
+    void advance_afterExpiration() {
+        //given
+        wheel.schedule(1L, START + 5_500L);
+        //when
+        List<Long> expired = wheel.advance(START + 6_000L);
+        //then
+        assertThat(expired).containsExactly(1L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @DisplayName("상위 휠에 등록된 항목도 정확한 tick 에 반환된다")
+    @Test
+    void advance_overflowWheels() {
+        //given
+        long[] expirations = {START + 15_000L, START + 99_000L, START + 1_234_000L, START + 54_321_000L};
+        for (int i = 0; i < expirations.length; i++) {
+            wheel.schedule(i, expirations[i]);
+        }
+        //when
+        List<Long> expired = new ArrayList<>();
+        List<Long> expiredTimes = new ArrayList<>();
+        for (long now = START; now <= START + 60_000_000L; now += TICK) {
+            List<Long> ids = wheel.advance(now);
+            ids.forEach(id -> expiredTimes.add(expirations[id.intValue()]));
+            expired.addAll(ids);
+            for (Long id : ids) {
+                assertThat(now).isGreaterThan(expirations[id.intValue()]);
+                assertThat(now).isLessThanOrEqualTo(expirations[id.intValue()] + TICK);
+            }
+        }
+        //then
+        assertThat(expired).containsExactly(0L, 1L, 2L, 3L);
+        assertThat(expiredTimes).isSorted();
+    }
+
+    @DisplayName("한 번에 여러 tick 을 건너뛰어도 모두 반환된다")
+    @Test
+    void advance_skipTicks() {
+        //given
+        wheel.schedule(1L, START + 3_000L);
+        wheel.schedule(2L, START + 300_000L);
+        //when
+        List<Long> expired = wheel.advance(START + 301_000L);
+        //then
+        assertThat(expired).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @DisplayName("취소된 항목은 반환되지 않는다")
+    @Test
+    void cancel() {
+        //given
+        wheel.schedule(1L, START + 150_000L);
+        //when
+        wheel.cancel(1L);
+        //then
+        assertThat(wheel.advance(START + 200_000L)).isEmpty();
+    }
+
+    @DisplayName("다시 등록하면 마지막 만료 시간만 유효하다")
+    @Test
+    void reschedule() {
+        //given
+        wheel.schedule(1L, START + 2_000L);
+        wheel.schedule(1L, START + 150_000L);
+        //when
+        List<Long> first = wheel.advance(START + 10_000L);
+        List<Long> second = wheel.advance(START + 151_000L);
+        //then
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly(1L);
+    }
+
+    @DisplayName("이미 지난 만료 시간은 등록되지 않는다")
+    @Test
+    void schedule_expired() {
+        //given
+        wheel.advance(START + 10_000L);
+        //when
+        boolean scheduled = wheel.schedule(1L, START + 5_000L);
+        //then
+        assertThat(scheduled).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+}
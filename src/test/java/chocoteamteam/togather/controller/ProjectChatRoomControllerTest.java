@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import chocoteamteam.togather.component.revocation.MemberStatusRegistry;
 import chocoteamteam.togather.config.SecurityConfig;
 import chocoteamteam.togather.dto.ChatDetailDto;
 import chocoteamteam.togather.dto.ChatMessageDto;
@@ -45,6 +46,8 @@ class ProjectChatRoomControllerTest {
 
 	@MockBean
 	JwtService jwtService;
+	@MockBean
+	MemberStatusRegistry memberStatusRegistry;
 
 	@MockBean
 	ProjectChatRoomService projectChatRoomService;
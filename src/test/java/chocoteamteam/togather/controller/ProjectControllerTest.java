@@ -1,5 +1,6 @@
 package chocoteamteam.togather.controller;
 
+import chocoteamteam.togather.component.revocation.MemberStatusRegistry;
 import chocoteamteam.togather.config.SecurityConfig;
 import chocoteamteam.togather.dto.*;
 import chocoteamteam.togather.entity.Location;
@@ -50,6 +51,8 @@ class ProjectControllerTest {
 
     @MockBean
     JwtService jwtService;
+    @MockBean
+    MemberStatusRegistry memberStatusRegistry;
     @Autowired
     private MockMvc mockMvc;
 
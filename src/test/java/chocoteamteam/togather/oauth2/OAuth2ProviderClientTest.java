@@ -0,0 +1,150 @@
+package chocoteamteam.togather.oauth2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import chocoteamteam.togather.config.WebClientConfig;
+import chocoteamteam.togather.exception.CustomOAuthException;
+import chocoteamteam.togather.exception.ErrorCode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.client.registration.ClientRegistration;
+import org.springframework.security.oauth2.core.AuthorizationGrantType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/*
+ *   로컬 mock Provider (JDK HttpServer) 를 띄워 실제 HTTP 통신으로 확인
+ * */
+class OAuth2ProviderClientTest {
+
+    private static final long READ_TIMEOUT_MILLIS = 500;
+
+    HttpServer provider;
+    ConnectionProvider connectionProvider;
+    OAuth2ProviderClient oAuth2ProviderClient;
+    ClientRegistration registration;
+
+    AtomicReference<String> tokenRequestBody = new AtomicReference<>();
+    AtomicReference<String> userInfoAuthorization = new AtomicReference<>();
+    volatile long userInfoDelayMillis;
+    volatile int tokenStatus = 200;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        provider = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        provider.setExecutor(Executors.newCachedThreadPool());
+        provider.createContext("/token", exchange -> {
+            tokenRequestBody.set(new String(exchange.getRequestBody().readAllBytes(),
+                StandardCharsets.UTF_8));
+            respond(exchange, tokenStatus, "{\"access_token\":\"provider-access-token\","
+                + "\"token_type\":\"bearer\"}");
+        });
+        provider.createContext("/userinfo", exchange -> {
+            userInfoAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            sleep(userInfoDelayMillis);
+            respond(exchange, 200, "{\"sub\":\"1234\",\"name\":\"tester\","
+                + "\"email\":\"test@test.com\"}");
+        });
+        provider.start();
+
+        String baseUrl = "http://localhost:" + provider.getAddress().getPort();
+        registration = ClientRegistration.withRegistrationId("google")
+            .clientId("client-id")
+            .clientSecret("client-secret")
+            .authorizationGrantType(AuthorizationGrantType.AUTHORIZATION_CODE)
+            .redirectUri("http://localhost/login/callback")
+            .authorizationUri(baseUrl + "/authorize")
+            .tokenUri(baseUrl + "/token")
+            .userInfoUri(baseUrl + "/userinfo")
+            .userNameAttributeName("sub")
+            .build();
+
+        WebClientConfig webClientConfig = new WebClientConfig();
+        connectionProvider = webClientConfig.webClientConnectionProvider(10, 1000, 30000);
+        WebClient webClient = webClientConfig.webClient(WebClient.builder(), connectionProvider,
+            1000, READ_TIMEOUT_MILLIS);
+        oAuth2ProviderClient = new OAuth2ProviderClient(webClient);
+    }
+
+    @AfterEach
+    void afterEach() {
+        provider.stop(0);
+        connectionProvider.dispose();
+    }
+
+    @DisplayName("Provider 회원 정보 조회 성공 - 인가 코드로 토큰 발급 후 회원 정보 조회")
+    @Test
+    void getAttributes_success() {
+        //given
+        //when
+        Map<String, Object> attributes = oAuth2ProviderClient.getAttributes("auth-code",
+            registration).block();
+
+        //then
+        assertThat(attributes).containsEntry("email", "test@test.com");
+        assertThat(tokenRequestBody.get()).contains("code=auth-code")
+            .contains("grant_type=authorization_code");
+        assertThat(userInfoAuthorization.get()).isEqualTo("Bearer provider-access-token");
+    }
+
+    @DisplayName("Provider 회원 정보 조회 실패 - Provider 응답이 읽기 제한 시간을 넘는 경우")
+    @Test
+    void getAttributes_fail_timeout() {
+        //given
+        userInfoDelayMillis = READ_TIMEOUT_MILLIS * 4;
+
+        //when
+        long start = System.currentTimeMillis();
+
+        //then
+        assertThatThrownBy(() -> oAuth2ProviderClient.getAttributes("auth-code", registration)
+            .block())
+            .isInstanceOf(CustomOAuthException.class)
+            .hasMessage(ErrorCode.OAUTH_PROVIDER_ERROR.getErrorMessage());
+        assertThat(System.currentTimeMillis() - start).isLessThan(userInfoDelayMillis);
+    }
+
+    @DisplayName("Provider 회원 정보 조회 실패 - 토큰 발급이 거절된 경우")
+    @Test
+    void getAttributes_fail_tokenRejected() {
+        //given
+        tokenStatus = 401;
+
+        //when
+        //then
+        assertThatThrownBy(() -> oAuth2ProviderClient.getAttributes("invalid-code", registration)
+            .block())
+            .isInstanceOf(CustomOAuthException.class)
+            .hasMessage(ErrorCode.OAUTH_PROVIDER_ERROR.getErrorMessage());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body)
+        throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package chocoteamteam.togather.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import chocoteamteam.togather.component.redis.RedisBulkOperations;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+@ExtendWith(MockitoExtension.class)
+class FCMRegistrationTokenRepositoryTest {
+
+	@Mock
+	RedisTemplate<String, String> redisTemplate;
+	@Mock
+	RedisBulkOperations redisBulkOperations;
+	@Mock
+	HashOperations<String, Object, Object> hashOperations;
+	@Mock
+	ValueOperations<String, String> valueOperations;
+	@InjectMocks
+	FCMRegistrationTokenRepository tokenRepository;
+
+	@DisplayName("토큰 조회 - 기기별 토큰이 없는 회원은 이전 key 에서 조회")
+	@Test
+	void findAll_legacyFallback() {
+		//given
+		given(redisBulkOperations.multiGetHash("FcmRegistrationTokens::", List.of(1L, 2L, 3L)))
+			.willReturn(Map.of(1L, Map.of("phone", "1000", "tablet", "2000")));
+		given(redisBulkOperations.multiGet("FcmRegistrationToken::", List.of(2L, 3L)))
+			.willReturn(Map.of(2L, "legacy"));
+
+		//when
+		Map<Long, List<String>> tokens = tokenRepository.findAll(List.of(1L, 2L, 3L));
+
+		//then
+		assertThat(tokens.get(1L)).containsExactlyInAnyOrder("phone", "tablet");
+		assertThat(tokens.get(2L)).containsExactly("legacy");
+		assertThat(tokens).doesNotContainKey(3L);
+	}
+
+	@DisplayName("토큰 조회 - 모두 기기별 토큰이 있으면 이전 key 는 조회하지 않음")
+	@Test
+	void findAll_noLegacy() {
+		//given
+		given(redisBulkOperations.multiGetHash("FcmRegistrationTokens::", List.of(1L)))
+			.willReturn(Map.of(1L, Map.of("phone", "1000")));
+
+		//when
+		Map<Long, List<String>> tokens = tokenRepository.findAll(List.of(1L));
+
+		//then
+		assertThat(tokens.get(1L)).containsExactly("phone");
+		verify(redisBulkOperations, never()).multiGet(anyString(), anyCollection());
+	}
+
+	@DisplayName("기기 토큰 삭제 - 이전 key 에 같은 토큰이 있으면 스크립트 밖에서 따로 삭제")
+	@Test
+	void delete_legacySameToken() {
+		//given
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(hashOperations.delete("FcmRegistrationTokens::1", "phone")).willReturn(0L);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("FcmRegistrationToken::1")).willReturn("phone");
+		given(redisTemplate.delete("FcmRegistrationToken::1")).willReturn(true);
+
+		//when
+		boolean deleted = tokenRepository.delete(1L, "phone");
+
+		//then
+		assertThat(deleted).isTrue();
+		verify(redisTemplate).delete("FcmRegistrationToken::1");
+	}
+
+	@DisplayName("기기 토큰 삭제 - 이전 key 의 토큰이 다르면 이전 key 는 남김")
+	@Test
+	void delete_legacyOtherToken() {
+		//given
+		given(redisTemplate.opsForHash()).willReturn(hashOperations);
+		given(hashOperations.delete("FcmRegistrationTokens::1", "phone")).willReturn(1L);
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.get("FcmRegistrationToken::1")).willReturn("tablet");
+
+		//when
+		boolean deleted = tokenRepository.delete(1L, "phone");
+
+		//then
+		assertThat(deleted).isTrue();
+		verify(redisTemplate, never()).delete(anyString());
+	}
+}
@@ -0,0 +1,104 @@
+package chocoteamteam.togather.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import chocoteamteam.togather.dto.MemberDetailResponse;
+import chocoteamteam.togather.entity.Member;
+import chocoteamteam.togather.entity.MemberTechStack;
+import chocoteamteam.togather.entity.TechStack;
+import chocoteamteam.togather.repository.MemberRepository;
+import chocoteamteam.togather.repository.MemberTechStackRepository;
+import chocoteamteam.togather.repository.TechStackRepository;
+import chocoteamteam.togather.type.MemberStatus;
+import chocoteamteam.togather.type.ProviderType;
+import chocoteamteam.togather.type.Role;
+import chocoteamteam.togather.type.TechCategory;
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@Import(QueryDslTestConfig.class)
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MemberTechStackCustomRepositoryImplTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TechStackRepository techStackRepository;
+
+    @Autowired
+    MemberTechStackRepository memberTechStackRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    Member member;
+    List<Long> techStackIds;
+
+    @BeforeEach
+    void beforeEach() {
+        member = memberRepository.save(Member.builder()
+            .email("bulk@test.com")
+            .nickname("bulkTester")
+            .profileImage("image")
+            .status(MemberStatus.PERMITTED)
+            .role(Role.ROLE_USER)
+            .providerType(ProviderType.GOOGLE)
+            .build());
+
+        techStackIds = techStackRepository.saveAll(List.of(
+                TechStack.builder().name("bulkSpring").image("image").category(TechCategory.BACKEND).build(),
+                TechStack.builder().name("bulkReact").image("image").category(TechCategory.FRONTEND).build(),
+                TechStack.builder().name("bulkMysql").image("image").category(TechCategory.BACKEND).build()))
+            .stream()
+            .map(TechStack::getId)
+            .collect(Collectors.toList());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @DisplayName("회원 기술 스택 bulk insert - 한 번의 insert 로 모두 저장")
+    @Test
+    void bulkInsert_success() {
+        //given
+        //when
+        memberTechStackRepository.bulkInsert(member.getId(), techStackIds);
+
+        //then
+        MemberDetailResponse response = memberTechStackRepository
+            .findMemberWithTechStackDetailByMemberId(member.getId());
+        assertThat(response.getTechStackDtos()).hasSize(3);
+    }
+
+    @DisplayName("로그인 조회 - 회원과 기술 스택을 쿼리 한 번으로 조회")
+    @Test
+    void findWithTechStackByEmail_singleQuery() {
+        //given
+        memberTechStackRepository.bulkInsert(member.getId(), techStackIds);
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //when
+        Member found = memberRepository.findWithTechStackByEmail("bulk@test.com").orElseThrow();
+        List<String> techStackNames = found.getMemberTechStacks().stream()
+            .map(MemberTechStack::getTechStack)
+            .map(TechStack::getName)
+            .collect(Collectors.toList());
+
+        //then
+        assertThat(techStackNames)
+            .containsExactlyInAnyOrder("bulkSpring", "bulkReact", "bulkMysql");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -97,8 +97,9 @@ class QuerydslChatRepositoryTest {
 		ChatMessageDto chatMessageDto = result.get(0);
 
 		assertThat(result.size()).isEqualTo(1000);
-		assertThat(chatMessageDto.getNickname()).isEqualTo(member.getNickname());
-		assertThat(chatMessageDto.getProfileImage()).isEqualTo(member.getProfileImage());
+		assertThat(chatMessageDto.getSenderId()).isEqualTo(member.getId());
+		assertThat(chatMessageDto.getNickname()).isNull();
+		assertThat(chatMessageDto.getProfileImage()).isNull();
 		assertThat(chatMessageDto.getMessage()).isEqualTo("test");
 	}
 
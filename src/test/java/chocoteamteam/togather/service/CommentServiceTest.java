@@ -24,6 +24,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -37,6 +39,9 @@ class CommentServiceTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private NotificationService notificationService;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -54,6 +59,8 @@ class CommentServiceTest {
         given(projectRepository.findById(anyLong()))
                 .willReturn(Optional.of(Project.builder()
                         .id(99L)
+                        .title("프로젝트")
+                        .member(Member.builder().id(1L).build())
                         .build()));
         given(commentRepository.save(any()))
                 .willReturn(Comment.builder()
@@ -67,6 +74,34 @@ class CommentServiceTest {
         assertEquals(123L, commentDto.getId());
         assertEquals("댓글 내용", commentDto.getContent());
         assertEquals(member.getId(), commentDto.getMember().getId());
+        verify(notificationService).publish(1L, "프로젝트", "두개더님이 댓글을 남겼습니다.");
+    }
+
+    @Test
+    @DisplayName("댓글 생성 - 프로젝트 작성자 본인의 댓글은 알림을 보내지 않음")
+    void create_Comment_byOwner() {
+        //given
+        Member owner = Member.builder()
+                .id(9L)
+                .nickname("두개더")
+                .build();
+        given(memberRepository.findById(anyLong()))
+                .willReturn(Optional.of(owner));
+        given(projectRepository.findById(anyLong()))
+                .willReturn(Optional.of(Project.builder()
+                        .id(99L)
+                        .member(owner)
+                        .build()));
+        given(commentRepository.save(any()))
+                .willReturn(Comment.builder()
+                        .id(123L)
+                        .content("댓글 내용")
+                        .member(owner)
+                        .build());
+        //when
+        commentService.createComment(99L, "댓글 내용", 9L);
+        //then
+        verify(notificationService, never()).publish(anyLong(), any(), any());
     }
 
     @Test
@@ -4,23 +4,30 @@ import static chocoteamteam.togather.component.jwt.JwtUtils.KEY_ID;
 import static chocoteamteam.togather.component.jwt.JwtUtils.KEY_NICKNAME;
 import static chocoteamteam.togather.component.jwt.JwtUtils.KEY_PROVIDER;
 import static chocoteamteam.togather.component.jwt.JwtUtils.KEY_ROLES;
+import static chocoteamteam.togather.component.jwt.JwtUtils.KEY_SESSION;
 import static chocoteamteam.togather.component.jwt.JwtUtils.KEY_STATUS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import chocoteamteam.togather.component.jwt.JwtIssuer;
 import chocoteamteam.togather.component.jwt.JwtParser;
 import chocoteamteam.togather.component.jwt.JwtUtils;
+import chocoteamteam.togather.component.jwt.VerifiedTokenCache;
 import chocoteamteam.togather.dto.SignUpTokenMemberInfo;
 import chocoteamteam.togather.dto.TokenMemberInfo;
 import chocoteamteam.togather.dto.Tokens;
 import chocoteamteam.togather.exception.ErrorCode;
 import chocoteamteam.togather.exception.TokenException;
 import chocoteamteam.togather.repository.RefreshTokenRepository;
+import chocoteamteam.togather.type.RefreshTokenRotation;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import java.util.Optional;
@@ -44,6 +51,8 @@ class JwtServiceTest {
 	JwtParser jwtParser;
 	@Mock
 	RefreshTokenRepository refreshTokenRepository;
+	@Mock
+	VerifiedTokenCache verifiedTokenCache;
 	@Spy
 	@InjectMocks
 	JwtService jwtService;
@@ -85,6 +94,7 @@ class JwtServiceTest {
 		assertThat(tokens.getRefreshToken()).isEqualTo("refreshToken");
 		assertThat(tokens.getAccessExpires()).isEqualTo(120);
 		assertThat(tokens.getGrantType()).isEqualTo("Bearer ");
+		verify(refreshTokenRepository).save(eq(1L), anyString(), eq("refreshToken"), anyInt());
 	}
 
 	@DisplayName("토큰 발급 실패 - TokenMemberInfo가 null")
@@ -97,34 +107,29 @@ class JwtServiceTest {
 			.isInstanceOf(NullPointerException.class);
 	}
 
-	@DisplayName("토큰 재발급 성공")
+	@DisplayName("토큰 재발급 성공 - 같은 세션의 refresh token 을 교체")
 	@Test
 	void refreshTokens() {
 		//given
 		given(jwtParser.parseToken(any(), any()))
-			.willReturn(claims);
+			.willReturn(sessionClaims());
 
-		given(refreshTokenRepository.find(anyLong()))
-			.willReturn(Optional.of("testToken"));
-
-		Tokens tokens = Tokens.builder()
-			.accessToken("access")
-			.refreshToken("refresh")
-			.grantType("BEARER ")
-			.accessExpires(10)
-			.build();
+		given(jwtIssuer.issueToken(any(), any()))
+			.willReturn("access", "refresh");
 
-		doReturn(tokens).when(jwtService).issueTokens(any());
+		given(refreshTokenRepository.rotate(anyLong(), anyString(), anyString(), anyString(),
+			anyInt()))
+			.willReturn(RefreshTokenRotation.ROTATED);
 
 		//when
 		Tokens expectedTokens = jwtService.refreshTokens("testToken");
 
 		//then
-		assertThat(expectedTokens.getAccessToken()).isEqualTo(tokens.getAccessToken());
-		assertThat(expectedTokens.getRefreshToken()).isEqualTo(tokens.getRefreshToken());
-		assertThat(expectedTokens.getGrantType()).isEqualTo(tokens.getGrantType());
-		assertThat(expectedTokens.getAccessExpires()).isEqualTo(tokens.getAccessExpires());
-
+		assertThat(expectedTokens.getAccessToken()).isEqualTo("access");
+		assertThat(expectedTokens.getRefreshToken()).isEqualTo("refresh");
+		assertThat(expectedTokens.getGrantType()).isEqualTo("Bearer ");
+		verify(refreshTokenRepository).rotate(eq(10L), eq("session"), eq("testToken"),
+			eq("refresh"), anyInt());
 	}
 
 	@DisplayName("토큰 갱신 실패 - 파라미터로 들어오는 Refresh Token이 null")
@@ -142,10 +147,10 @@ class JwtServiceTest {
 	void refreshToken_fail_NotExistsRefreshToken(){
 	    //given
 		given(jwtParser.parseToken(any(), any()))
-			.willReturn(claims);
+			.willReturn(sessionClaims());
 
-		given(refreshTokenRepository.find(anyLong()))
-			.willReturn(Optional.empty());
+		given(refreshTokenRepository.rotate(anyLong(), anyString(), anyString(), any(), anyInt()))
+			.willReturn(RefreshTokenRotation.NOT_FOUND);
 
 		//when
 	    //then
@@ -154,15 +159,15 @@ class JwtServiceTest {
 			.hasMessage(ErrorCode.INVALID_TOKEN.getErrorMessage());
 	}
 
-	@DisplayName("토큰 갱신 실패 - 저장된 Refresh Token과 파라미터 Refresh Token이 다름")
+	@DisplayName("토큰 갱신 실패 - 이미 교체된 Refresh Token이 다시 사용된 경우")
 	@Test
-	void refreshToken_fail_RefreshTokenNotMatch(){
+	void refreshToken_fail_RefreshTokenReused(){
 	    //given
 		given(jwtParser.parseToken(any(), any()))
-			.willReturn(claims);
+			.willReturn(sessionClaims());
 
-		given(refreshTokenRepository.find(anyLong()))
-			.willReturn(Optional.of("testToken"));
+		given(refreshTokenRepository.rotate(anyLong(), anyString(), anyString(), any(), anyInt()))
+			.willReturn(RefreshTokenRotation.REUSED);
 
 		//when
 	    //then
@@ -171,6 +176,28 @@ class JwtServiceTest {
 			.hasMessage(ErrorCode.INVALID_TOKEN.getErrorMessage());
 	}
 
+	@DisplayName("토큰 갱신 실패 - 세션 id 가 없는 Refresh Token")
+	@Test
+	void refreshToken_fail_noSession(){
+	    //given
+		given(jwtParser.parseToken(any(), any()))
+			.willReturn(claims);
+
+		//when
+	    //then
+		assertThatThrownBy(() -> jwtService.refreshTokens("test"))
+			.isInstanceOf(TokenException.class)
+			.hasMessage(ErrorCode.INVALID_TOKEN.getErrorMessage());
+		verify(refreshTokenRepository, never()).rotate(anyLong(), any(), any(), any(), anyInt());
+	}
+
+	private Claims sessionClaims() {
+		Claims sessionClaims = Jwts.claims();
+		sessionClaims.putAll(claims);
+		sessionClaims.put(KEY_SESSION, "session");
+		return sessionClaims;
+	}
+
 	@DisplayName("Access Token 파싱 성공")
 	@Test
 	void parseAccessToken_success() {
@@ -188,6 +215,22 @@ class JwtServiceTest {
 		assertThat(info.getRole()).isEqualTo(claims.get(KEY_ROLES, String.class));
 	}
 
+	@DisplayName("Access Token 파싱 성공 - 캐시에 검증된 토큰이 있으면 다시 파싱하지 않음")
+	@Test
+	void parseAccessToken_success_cached() {
+		//given
+		TokenMemberInfo cached = TokenMemberInfo.from(claims);
+		given(verifiedTokenCache.get("test"))
+			.willReturn(Optional.of(cached));
+
+		//when
+		TokenMemberInfo info = jwtService.parseAccessToken("test");
+
+		//then
+		assertThat(info).isSameAs(cached);
+		verify(jwtParser, never()).parseToken(any(), any());
+	}
+
 	@DisplayName("Access Token 파싱 실패 - access Token이 null인 경우")
 	@Test
 	void parseAccessToken_fail_accessTokenIsNull() {
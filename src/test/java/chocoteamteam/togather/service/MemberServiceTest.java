@@ -6,7 +6,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.verify;
 
+import chocoteamteam.togather.component.member.MemberProfileDictionary;
+import chocoteamteam.togather.component.revocation.MemberRevocationPublisher;
 import chocoteamteam.togather.dto.MemberDetailResponse;
 import chocoteamteam.togather.dto.SignUpControllerDto.Request;
 import chocoteamteam.togather.dto.TechStackDto;
@@ -45,6 +48,10 @@ class MemberServiceTest {
     TechStackRepository techStackRepository;
     @Mock
     RefreshTokenRepository refreshTokenRepository;
+    @Mock
+    MemberRevocationPublisher memberRevocationPublisher;
+    @Mock
+    MemberProfileDictionary memberProfileDictionary;
     @InjectMocks
     MemberService memberService;
 
@@ -172,6 +179,7 @@ class MemberServiceTest {
 
 		//then
 		assertThat(member.getStatus()).isEqualTo(MemberStatus.WITHDRAWAL);
+		verify(memberRevocationPublisher).publish(1L, MemberStatus.WITHDRAWAL);
 	}
 
 	@DisplayName("회원 상태 변경 실패 - 파라미터가 null 인 경우")
@@ -3,7 +3,13 @@ package chocoteamteam.togather.service;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
+import chocoteamteam.togather.component.revocation.MemberRevocationPublisher;
+import chocoteamteam.togather.dto.LoginResponse;
 import chocoteamteam.togather.dto.SignUpControllerDto;
 import chocoteamteam.togather.dto.SignUpServiceDto;
 import chocoteamteam.togather.dto.SignUpTokenMemberInfo;
@@ -14,6 +20,7 @@ import chocoteamteam.togather.entity.TechStack;
 import chocoteamteam.togather.exception.CustomOAuthException;
 import chocoteamteam.togather.exception.ErrorCode;
 import chocoteamteam.togather.exception.TechStackException;
+import chocoteamteam.togather.oauth2.GoogleOAuth2MemberInfo;
 import chocoteamteam.togather.repository.MemberRepository;
 import chocoteamteam.togather.repository.MemberTechStackRepository;
 import chocoteamteam.togather.repository.TechStackRepository;
@@ -23,6 +30,8 @@ import chocoteamteam.togather.type.Role;
 import chocoteamteam.togather.type.TechCategory;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +51,8 @@ class OAuthServiceTest {
     TechStackRepository techStackRepository;
     @Mock
     MemberTechStackRepository memberTechStackRepository;
+    @Mock
+    MemberRevocationPublisher memberRevocationPublisher;
 
     @InjectMocks
     OAuthService oAuthService;
@@ -74,12 +85,7 @@ class OAuthServiceTest {
             .image("image")
             .category(TechCategory.BACKEND)
             .build();
-        MemberTechStack memberTechStack = MemberTechStack.builder()
-            .member(member)
-            .techStack(techStack)
-            .build();
         given(memberRepository.save(any())).willReturn(member);
-        given(memberTechStackRepository.save(any())).willReturn(memberTechStack);
         given(techStackRepository.findAllById(any()))
             .willReturn(List.of(techStack));
         given(jwtService.parseSignUpToken(any())).willReturn(SignUpTokenMemberInfo.builder()
@@ -90,8 +96,6 @@ class OAuthServiceTest {
             .accessToken(accessToken)
             .refreshToken(refreshToken)
             .build());
-        given(memberTechStackRepository.save(any())).willReturn(
-            chocoteamteam.togather.entity.MemberTechStack.builder().build());
 
         // when
         SignUpControllerDto.Response response = oAuthService.signUp(
@@ -115,6 +119,73 @@ class OAuthServiceTest {
             .isEqualTo(techStack.getCategory());
         Assertions.assertThat(response.getAccessToken()).isEqualTo(accessToken);
         Assertions.assertThat(response.getRefreshToken()).isEqualTo(refreshToken);
+
+        // 회원 기술 스택은 한 번의 bulk insert 로 저장
+        verify(memberTechStackRepository).bulkInsert(1L, List.of(1L));
+        verify(memberTechStackRepository, never()).save(any());
+        verify(techStackRepository, times(1)).findAllById(any());
+    }
+
+    @DisplayName("로그인 성공 - 회원과 기술 스택을 한 번의 조회로 가져옴")
+    @Test
+    void login_success() {
+        // given
+        Member member = Member.builder()
+            .id(1L)
+            .email(email)
+            .nickname("test")
+            .profileImage(profileImage)
+            .status(MemberStatus.PERMITTED)
+            .role(Role.ROLE_USER)
+            .providerType(ProviderType.GOOGLE)
+            .build();
+        TechStack techStack = TechStack.builder()
+            .id(1L)
+            .name("tech")
+            .image("image")
+            .category(TechCategory.BACKEND)
+            .build();
+        member.getMemberTechStacks().add(MemberTechStack.builder()
+            .member(member)
+            .techStack(techStack)
+            .build());
+        given(memberRepository.findWithTechStackByEmail(email)).willReturn(Optional.of(member));
+        given(jwtService.issueTokens(any())).willReturn(Tokens.builder()
+            .accessToken(accessToken)
+            .refreshToken(refreshToken)
+            .build());
+
+        // when
+        LoginResponse response = oAuthService.login(
+            new GoogleOAuth2MemberInfo(Map.of("email", email)), provider);
+
+        // then
+        Assertions.assertThat(response.getId()).isEqualTo(1L);
+        Assertions.assertThat(response.getTechStackDtos()).hasSize(1);
+        Assertions.assertThat(response.getTechStackDtos().get(0).getName())
+            .isEqualTo(techStack.getName());
+        Assertions.assertThat(response.getAccessToken()).isEqualTo(accessToken);
+
+        verify(memberRepository, times(1)).findWithTechStackByEmail(email);
+        verify(memberRepository, never()).findByEmail(any());
+        verifyNoInteractions(techStackRepository);
+    }
+
+    @DisplayName("로그인 성공 - 가입되지 않은 회원은 회원가입 토큰 발급")
+    @Test
+    void login_success_newMember() {
+        // given
+        given(memberRepository.findWithTechStackByEmail(email)).willReturn(Optional.empty());
+        given(jwtService.issueSignUpToken(email, provider)).willReturn(signUpToken);
+
+        // when
+        LoginResponse response = oAuthService.login(
+            new GoogleOAuth2MemberInfo(Map.of("email", email)), provider);
+
+        // then
+        Assertions.assertThat(response.getSignUpToken()).isEqualTo(signUpToken);
+        verify(memberRepository, times(1)).findWithTechStackByEmail(email);
+        verifyNoInteractions(techStackRepository, memberTechStackRepository);
     }
 
     @DisplayName("회원 가입 실패 - 기술이 존재하지 않음")
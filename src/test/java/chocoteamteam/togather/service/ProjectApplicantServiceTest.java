@@ -50,7 +50,7 @@ class ProjectApplicantServiceTest {
 	ProjectMemberRepository projectMemberRepository;
 
 	@Mock
-	FCMService fcmService;
+	NotificationService notificationService;
 
 	@InjectMocks
 	ProjectApplicantService projectApplicantService;
@@ -98,6 +98,8 @@ class ProjectApplicantServiceTest {
 		assertThat(captor.getValue().getStatus()).isEqualTo(ApplicantStatus.WAIT);
 		assertThat(captor.getValue().getProject().getId()).isEqualTo(project.getId());
 		assertThat(captor.getValue().getMember().getId()).isEqualTo(member.getId());
+		verify(notificationService).publish(owner.getId(), project.getTitle(),
+			member.getNickname() + "님이 신청했습니다.");
 	}
 
 	@DisplayName("프로젝트 참여 신청 실패 - 참여 신청 기록이 존재하는 경우")
@@ -6,11 +6,13 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 
+import chocoteamteam.togather.component.member.MemberProfileDictionary;
 import chocoteamteam.togather.dto.ChangeChatRoomNameForm;
 import chocoteamteam.togather.dto.ChatDetailDto;
 import chocoteamteam.togather.dto.ChatMessageDto;
 import chocoteamteam.togather.dto.ChatRoomDto;
 import chocoteamteam.togather.dto.CreateChatRoomForm;
+import chocoteamteam.togather.dto.queryDslSimpleDto.SimpleMemberDto;
 import chocoteamteam.togather.entity.ChatRoom;
 import chocoteamteam.togather.entity.Project;
 import chocoteamteam.togather.exception.ChatRoomException;
@@ -22,6 +24,7 @@ import chocoteamteam.togather.repository.ProjectRepository;
 import chocoteamteam.togather.repository.impl.QuerydslChatRepository;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +45,8 @@ class ProjectChatRoomServiceTest {
 	ProjectMemberRepository projectMemberRepository;
 	@Mock
 	QuerydslChatRepository querydslChatRepository;
+	@Mock
+	MemberProfileDictionary memberProfileDictionary;
 
 	@InjectMocks
 	ProjectChatRoomService projectChatRoomService;
@@ -153,7 +158,7 @@ class ProjectChatRoomServiceTest {
 	void getChatRoom_success(){
 		//given
 		ChatMessageDto message = ChatMessageDto.builder()
-			.nickname("tester")
+			.senderId(1L)
 			.message("test")
 			.build();
 
@@ -165,6 +170,8 @@ class ProjectChatRoomServiceTest {
 			.willReturn(Optional.of(chatRoom));
 		given(querydslChatRepository.findAllByChatRoomId(anyLong()))
 			.willReturn(messages);
+		given(memberProfileDictionary.getAll(any()))
+			.willReturn(Map.of(1L, new SimpleMemberDto(1L, "tester", "test.png")));
 
 		//when
 		ChatDetailDto dto = projectChatRoomService.getChatRoom(1L, 1L, 1L);
@@ -175,7 +182,9 @@ class ProjectChatRoomServiceTest {
 		assertThat(dto.getRoomName()).isEqualTo(chatRoom.getName());
 		assertThat(dto.getMessages().get(0).getMessage()).isEqualTo(message.getMessage());
 		assertThat(dto.getMessages().get(0).getMessage()).isEqualTo(message.getMessage());
-		assertThat(dto.getMessages().get(0).getNickname()).isEqualTo(message.getNickname());
+		assertThat(dto.getMessages().get(0).getSenderId()).isEqualTo(message.getSenderId());
+		assertThat(dto.getSenders().size()).isEqualTo(1);
+		assertThat(dto.getSenders().get(0).getNickname()).isEqualTo("tester");
 	}
 
 	@DisplayName("프로젝트 채팅방 상세 조회 실패 - 프로젝트 멤버가 아닌 경우")
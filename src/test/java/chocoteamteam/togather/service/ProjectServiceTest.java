@@ -1,5 +1,7 @@
 package chocoteamteam.togather.service;
 
+import chocoteamteam.togather.component.statistics.TechStackDemandCounter;
+import chocoteamteam.togather.component.timer.ProjectDeadlineTimer;
 import chocoteamteam.togather.dto.CreateProjectForm;
 import chocoteamteam.togather.dto.ProjectDetails;
 import chocoteamteam.togather.dto.ProjectDto;
@@ -47,6 +49,10 @@ class ProjectServiceTest {
 
     @Mock
     private ProjectMemberRepository projectMemberRepository;
+    @Mock
+    private ProjectDeadlineTimer projectDeadlineTimer;
+    @Mock
+    private TechStackDemandCounter techStackDemandCounter;
     @InjectMocks
     private ProjectService projectService;
 
@@ -141,6 +147,8 @@ class ProjectServiceTest {
         assertEquals(project.getProjectTechStacks().size(), projectDto.getTechStacks().size());
         verify(projectTechStackRepository, times(1)).saveAll(any());
         verify(projectMemberRepository, times(1)).save(captor.capture());
+        verify(projectDeadlineTimer, times(1)).schedule(project.getId(), project.getDeadline());
+        verify(techStackDemandCounter, times(1)).increment(form.getTechStackIds());
     }
 
     @Test
@@ -348,6 +356,7 @@ class ProjectServiceTest {
         projectService.deleteProject(1L, member.getId(), Role.ROLE_USER);
         //then
         verify(projectRepository, times(1)).deleteById(project.getId());
+        verify(projectDeadlineTimer, times(1)).cancel(project.getId());
     }
 
     @Test
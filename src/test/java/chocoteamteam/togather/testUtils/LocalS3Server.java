@@ -0,0 +1,299 @@
+package chocoteamteam.togather.testUtils;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ *   테스트용 S3 호환 로컬 서버 (JDK HttpServer)
+ *   path-style 요청의 PutObject 와 multipart upload (initiate / upload part / complete / abort) 만 지원한다.
+ *   SDK 가 보내는 aws-chunked 본문을 풀어서 저장하고, SDK 의 MD5 검증을 위해 ETag 로 본문의 MD5 를 돌려준다.
+ *   storeObjects 가 false 면 본문을 저장하지 않고 크기만 기록한다. (벤치마크에서 서버 쪽 메모리 사용 제외)
+ * */
+public class LocalS3Server {
+
+	private static final String XML_NAMESPACE = "http://s3.amazonaws.com/doc/2006-03-01/";
+
+	private final HttpServer server;
+	private final boolean storeObjects;
+
+	private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+	private final Map<String, Long> objectSizes = new ConcurrentHashMap<>();
+	private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+	private final Map<String, Map<Integer, Long>> uploadPartSizes = new ConcurrentHashMap<>();
+	private final AtomicInteger putObjectCount = new AtomicInteger();
+	private final AtomicInteger uploadPartCount = new AtomicInteger();
+	private final AtomicInteger abortCount = new AtomicInteger();
+
+	public LocalS3Server(boolean storeObjects) throws IOException {
+		this.storeObjects = storeObjects;
+		this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.server.setExecutor(Executors.newCachedThreadPool());
+		this.server.createContext("/", this::handle);
+	}
+
+	public void start() {
+		server.start();
+	}
+
+	public void stop() {
+		server.stop(0);
+	}
+
+	public AmazonS3 createClient() {
+		return AmazonS3ClientBuilder.standard()
+			.withEndpointConfiguration(new EndpointConfiguration(
+				"http://localhost:" + server.getAddress().getPort(), "us-east-1"))
+			.withPathStyleAccessEnabled(true)
+			.withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+			.build();
+	}
+
+	public Optional<byte[]> getObject(String bucket, String key) {
+		return Optional.ofNullable(objects.get(bucket + "/" + key));
+	}
+
+	public Optional<Long> getObjectSize(String bucket, String key) {
+		return Optional.ofNullable(objectSizes.get(bucket + "/" + key));
+	}
+
+	public int getPutObjectCount() {
+		return putObjectCount.get();
+	}
+
+	public int getUploadPartCount() {
+		return uploadPartCount.get();
+	}
+
+	public int getAbortCount() {
+		return abortCount.get();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String objectKey = exchange.getRequestURI().getPath().substring(1);
+		Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+		String method = exchange.getRequestMethod();
+
+		try {
+			if ("POST".equals(method) && query.containsKey("uploads")) {
+				initiate(exchange, objectKey);
+			} else if ("PUT".equals(method) && query.containsKey("uploadId")) {
+				uploadPart(exchange, query.get("uploadId"), Integer.parseInt(query.get("partNumber")));
+			} else if ("POST".equals(method) && query.containsKey("uploadId")) {
+				complete(exchange, objectKey, query.get("uploadId"));
+			} else if ("DELETE".equals(method) && query.containsKey("uploadId")) {
+				abort(exchange, query.get("uploadId"));
+			} else if ("PUT".equals(method)) {
+				putObject(exchange, objectKey);
+			} else {
+				exchange.sendResponseHeaders(501, -1);
+			}
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private void putObject(HttpExchange exchange, String objectKey) throws IOException {
+		Body body = readBody(exchange);
+		putObjectCount.incrementAndGet();
+		objectSizes.put(objectKey, body.size);
+		if (storeObjects) {
+			objects.put(objectKey, body.bytes);
+		}
+		exchange.getResponseHeaders().add("ETag", "\"" + body.md5 + "\"");
+		exchange.sendResponseHeaders(200, -1);
+	}
+
+	private void initiate(HttpExchange exchange, String objectKey) throws IOException {
+		String uploadId = UUID.randomUUID().toString();
+		uploads.put(uploadId, new ConcurrentHashMap<>());
+		uploadPartSizes.put(uploadId, new ConcurrentHashMap<>());
+
+		int slash = objectKey.indexOf('/');
+		respondXml(exchange, "<InitiateMultipartUploadResult xmlns=\"" + XML_NAMESPACE + "\">"
+			+ "<Bucket>" + objectKey.substring(0, slash) + "</Bucket>"
+			+ "<Key>" + objectKey.substring(slash + 1) + "</Key>"
+			+ "<UploadId>" + uploadId + "</UploadId>"
+			+ "</InitiateMultipartUploadResult>");
+	}
+
+	private void uploadPart(HttpExchange exchange, String uploadId, int partNumber) throws IOException {
+		Body body = readBody(exchange);
+		uploadPartCount.incrementAndGet();
+		uploadPartSizes.get(uploadId).put(partNumber, body.size);
+		if (storeObjects) {
+			uploads.get(uploadId).put(partNumber, body.bytes);
+		}
+		exchange.getResponseHeaders().add("ETag", "\"" + body.md5 + "\"");
+		exchange.sendResponseHeaders(200, -1);
+	}
+
+	private void complete(HttpExchange exchange, String objectKey, String uploadId) throws IOException {
+		exchange.getRequestBody().readAllBytes();
+
+		long size = uploadPartSizes.remove(uploadId).values().stream()
+			.mapToLong(Long::longValue)
+			.sum();
+		objectSizes.put(objectKey, size);
+
+		Map<Integer, byte[]> parts = new TreeMap<>(uploads.remove(uploadId));
+		if (storeObjects) {
+			ByteArrayOutputStream object = new ByteArrayOutputStream();
+			for (byte[] part : parts.values()) {
+				object.write(part);
+			}
+			objects.put(objectKey, object.toByteArray());
+		}
+
+		int slash = objectKey.indexOf('/');
+		respondXml(exchange, "<CompleteMultipartUploadResult xmlns=\"" + XML_NAMESPACE + "\">"
+			+ "<Location>http://localhost/" + objectKey + "</Location>"
+			+ "<Bucket>" + objectKey.substring(0, slash) + "</Bucket>"
+			+ "<Key>" + objectKey.substring(slash + 1) + "</Key>"
+			+ "<ETag>\"" + uploadId + "-" + parts.size() + "\"</ETag>"
+			+ "</CompleteMultipartUploadResult>");
+	}
+
+	private void abort(HttpExchange exchange, String uploadId) throws IOException {
+		uploads.remove(uploadId);
+		uploadPartSizes.remove(uploadId);
+		abortCount.incrementAndGet();
+		exchange.sendResponseHeaders(204, -1);
+	}
+
+	/*
+	 *   SDK 는 http endpoint 로 스트림을 보낼 때 aws-chunked 로 인코딩한다.
+	 *   "{hex size};chunk-signature={signature}\r\n{data}\r\n" 이 반복되고 크기 0 인 chunk 로 끝난다.
+	 * */
+	private Body readBody(HttpExchange exchange) throws IOException {
+		String contentSha256 = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+		boolean chunked = contentSha256 != null && contentSha256.startsWith("STREAMING-");
+
+		MessageDigest md5 = md5();
+		ByteArrayOutputStream bytes = storeObjects ? new ByteArrayOutputStream() : null;
+		long size = 0;
+		byte[] buffer = new byte[64 * 1024];
+
+		try (InputStream in = exchange.getRequestBody()) {
+			if (!chunked) {
+				int read;
+				while ((read = in.read(buffer)) != -1) {
+					size += consume(buffer, read, md5, bytes);
+				}
+			} else {
+				while (true) {
+					String header = readLine(in);
+					int chunkSize = Integer.parseInt(header.substring(0, header.indexOf(';')), 16);
+					if (chunkSize == 0) {
+						break;
+					}
+					int remaining = chunkSize;
+					while (remaining > 0) {
+						int read = in.read(buffer, 0, Math.min(buffer.length, remaining));
+						if (read == -1) {
+							throw new IOException("unexpected end of chunk");
+						}
+						size += consume(buffer, read, md5, bytes);
+						remaining -= read;
+					}
+					readLine(in);
+				}
+				in.readAllBytes();
+			}
+		}
+
+		return new Body(bytes == null ? null : bytes.toByteArray(), size, toHex(md5.digest()));
+	}
+
+	private long consume(byte[] buffer, int read, MessageDigest md5, ByteArrayOutputStream bytes) {
+		md5.update(buffer, 0, read);
+		if (bytes != null) {
+			bytes.write(buffer, 0, read);
+		}
+		return read;
+	}
+
+	private String readLine(InputStream in) throws IOException {
+		StringBuilder line = new StringBuilder();
+		int c;
+		while ((c = in.read()) != -1 && c != '\n') {
+			if (c != '\r') {
+				line.append((char) c);
+			}
+		}
+		return line.toString();
+	}
+
+	private void respondXml(HttpExchange exchange, String body) throws IOException {
+		byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/xml");
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private Map<String, String> parseQuery(String rawQuery) {
+		Map<String, String> query = new HashMap<>();
+		if (rawQuery == null) {
+			return query;
+		}
+		for (String param : rawQuery.split("&")) {
+			int eq = param.indexOf('=');
+			if (eq < 0) {
+				query.put(param, "");
+			} else {
+				query.put(param.substring(0, eq), param.substring(eq + 1));
+			}
+		}
+		return query;
+	}
+
+	private static MessageDigest md5() {
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes) {
+		StringBuilder hex = new StringBuilder(bytes.length * 2);
+		for (byte b : bytes) {
+			hex.append(String.format("%02x", b));
+		}
+		return hex.toString();
+	}
+
+	private static class Body {
+		private final byte[] bytes;
+		private final long size;
+		private final String md5;
+
+		private Body(byte[] bytes, long size, String md5) {
+			this.bytes = bytes;
+			this.size = size;
+			this.md5 = md5;
+		}
+	}
+}
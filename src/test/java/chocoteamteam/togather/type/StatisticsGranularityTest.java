@@ -0,0 +1,47 @@
+package chocoteamteam.togather.type;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatisticsGranularityTest {
+
+    @Test
+    @DisplayName("주간 키는 ISO 주차 기준 연도를 사용")
+    void weeklyPeriodKey_isoWeekBasedYear() {
+        //given
+        LocalDate newYearsDay = LocalDate.of(2021, 1, 1);
+
+        //when
+        String periodKey = StatisticsGranularity.WEEKLY.periodKey(newYearsDay);
+
+        //then
+        assertThat(periodKey).isEqualTo("2020-W53");
+        assertThat(StatisticsGranularity.WEEKLY.periodStart(newYearsDay)).isEqualTo(LocalDate.of(2020, 12, 28));
+        assertThat(StatisticsGranularity.WEEKLY.periodEnd(newYearsDay)).isEqualTo(LocalDate.of(2021, 1, 3));
+    }
+
+    @Test
+    @DisplayName("같은 주차라도 연도가 다르면 다른 키")
+    void weeklyPeriodKey_differentYear() {
+        assertThat(StatisticsGranularity.WEEKLY.periodKey(LocalDate.of(2022, 10, 5)))
+                .isEqualTo("2022-W40")
+                .isNotEqualTo(StatisticsGranularity.WEEKLY.periodKey(LocalDate.of(2021, 10, 6)));
+    }
+
+    @Test
+    @DisplayName("월간 구간과 직전 구간")
+    void monthlyPeriod() {
+        //given
+        LocalDate date = LocalDate.of(2022, 3, 31);
+
+        //when
+        //then
+        assertThat(StatisticsGranularity.MONTHLY.periodKey(date)).isEqualTo("2022-03");
+        assertThat(StatisticsGranularity.MONTHLY.periodEnd(date)).isEqualTo(date);
+        assertThat(StatisticsGranularity.MONTHLY.previousPeriodStart(date)).isEqualTo(LocalDate.of(2022, 2, 1));
+    }
+}